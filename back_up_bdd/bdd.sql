@@ -1,3 +1,6 @@
+-- Script historique, conservé pour référence : le schéma est désormais géré par les migrations Flyway
+-- (covoit_api/src/main/resources/db/migration), à modifier par une nouvelle version V<n>__*.sql.
+
 -- Création des tables avec IF NOT EXISTS
 
 CREATE TABLE IF NOT EXISTS icon(
@@ -0,0 +1,84 @@
+package fr.cda.covoit_api.benchmark;
+
+import fr.cda.covoit_api.domain.entity.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Graphes d'entités en mémoire, représentatifs d'un résultat de recherche (conducteur, véhicule, adresses).
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static Route route(int id) {
+        Status status = new Status();
+        status.setLabel("ACTIVE");
+        Role role = new Role();
+        role.setLabel("USER");
+
+        User account = new User();
+        account.setId(id);
+        account.setEmail("driver" + id + "@test.com");
+        account.setStatus(status);
+        account.setRole(role);
+
+        Brand brand = new Brand();
+        brand.setId(1);
+        brand.setLabel("Peugeot");
+        Model model = new Model();
+        model.setId(1);
+        model.setLabel("308");
+        model.setBrand(brand);
+
+        Profil driver = new Profil();
+        driver.setId(id);
+        driver.setFirstname("Jean");
+        driver.setLastname("Dupont");
+        driver.setPhone("0612345678");
+        driver.setUser(account);
+
+        Vehicle vehicle = new Vehicle();
+        vehicle.setId(id);
+        vehicle.setSeats((short) 4);
+        vehicle.setCarregistration("AB-" + id + "-CD");
+        vehicle.setModel(model);
+        vehicle.setOwner(driver);
+        driver.setVehicle(vehicle);
+
+        Icon icon = new Icon();
+        icon.setId(1);
+        icon.setLabel("Non-fumeur");
+
+        Route route = new Route();
+        route.setId(id);
+        route.setPlace((short) 3);
+        route.setDate(LocalDate.now().plusDays(id % 30));
+        route.setHour(LocalTime.of(8, 0));
+        route.setDistance(465);
+        route.setIcon(icon);
+        route.setDriver(driver);
+        return route;
+    }
+
+    static Location paris() {
+        return location(1, "Rue de Rivoli", "75001", "Paris", 48.856614, 2.3522219);
+    }
+
+    static Location lyon() {
+        return location(2, "Place Bellecour", "69002", "Lyon", 45.757801, 4.832011);
+    }
+
+    static Location location(int id, String street, String postalCode, String city, double latitude, double longitude) {
+        Location location = new Location();
+        location.setId(id);
+        location.setStreetName(street);
+        location.setPostalCode(postalCode);
+        location.setCityName(city);
+        location.setLatitude(latitude);
+        location.setLongitude(longitude);
+        return location;
+    }
+}
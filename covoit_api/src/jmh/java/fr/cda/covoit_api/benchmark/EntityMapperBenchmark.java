@@ -0,0 +1,46 @@
+package fr.cda.covoit_api.benchmark;
+
+import fr.cda.covoit_api.domain.entity.Location;
+import fr.cda.covoit_api.domain.entity.Route;
+import fr.cda.covoit_api.dto.response.RouteResponse;
+import fr.cda.covoit_api.mapper.EntityMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Conversion entité → DTO d'un trajet, seule et pour une page de résultats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntityMapperBenchmark {
+
+    @Param({"20"})
+    private int pageSize;
+
+    private EntityMapper mapper;
+    private List<Route> routes;
+    private Location start;
+    private Location end;
+
+    @Setup
+    public void setUp() {
+        mapper = new EntityMapper();
+        routes = IntStream.rangeClosed(1, pageSize).mapToObj(BenchmarkData::route).toList();
+        start = BenchmarkData.paris();
+        end = BenchmarkData.lyon();
+    }
+
+    @Benchmark
+    public RouteResponse toRouteResponse() {
+        return mapper.toRouteResponse(routes.get(0), start, end);
+    }
+
+    @Benchmark
+    public List<RouteResponse> toRouteResponsePage() {
+        return routes.stream().map(route -> mapper.toRouteResponse(route, start, end)).toList();
+    }
+}
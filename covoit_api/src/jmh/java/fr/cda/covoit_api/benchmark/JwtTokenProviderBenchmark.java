@@ -0,0 +1,59 @@
+package fr.cda.covoit_api.benchmark;
+
+import fr.cda.covoit_api.security.AuthenticatedUser;
+import fr.cda.covoit_api.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Débit de validation des tokens (tokens/s) : implémentation d'origine, qui dérivait la clé
+ * et construisait un parser à chaque appel, contre la clé et le parser partagés de {@link JwtTokenProvider}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-minimum-32-chars-long!";
+
+    private JwtTokenProvider tokenProvider;
+    private AuthenticatedUser user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 900);
+        user = new AuthenticatedUser(1, 1, "user@test.com", "", "USER", "ACTIVE", 0);
+        token = tokenProvider.generateToken(user);
+    }
+
+    /**
+     * Avant : validation puis lecture du sujet, chacune reconstruisant clé et parser.
+     */
+    @Benchmark
+    public String rebuildKeyAndParserTwice() {
+        Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    /**
+     * Après : une seule analyse avec la clé et le parser construits au démarrage.
+     */
+    @Benchmark
+    public Optional<Claims> parseAndValidate() {
+        return tokenProvider.parseAndValidate(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(user);
+    }
+}
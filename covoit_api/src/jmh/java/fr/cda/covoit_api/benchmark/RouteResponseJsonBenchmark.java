@@ -0,0 +1,41 @@
+package fr.cda.covoit_api.benchmark;
+
+import fr.cda.covoit_api.dto.response.CursorPageResponse;
+import fr.cda.covoit_api.dto.response.RouteResponse;
+import fr.cda.covoit_api.mapper.EntityMapper;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Sérialisation JSON (Jackson, comme les contrôleurs) d'une page de résultats de recherche.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RouteResponseJsonBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private JsonMapper jsonMapper;
+    private CursorPageResponse<RouteResponse> page;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        EntityMapper mapper = new EntityMapper();
+        List<RouteResponse> content = IntStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> mapper.toRouteResponse(BenchmarkData.route(id), BenchmarkData.paris(), BenchmarkData.lyon()))
+                .toList();
+        page = new CursorPageResponse<>(content, "MjAyNi0xMC0xOHwwODowMHwyMA");
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+}
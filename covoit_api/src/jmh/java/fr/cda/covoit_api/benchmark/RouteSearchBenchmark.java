@@ -0,0 +1,181 @@
+package fr.cda.covoit_api.benchmark;
+
+import fr.cda.covoit_api.CovoitApiApplication;
+import fr.cda.covoit_api.domain.entity.*;
+import fr.cda.covoit_api.domain.geo.GeoCircle;
+import fr.cda.covoit_api.dto.response.CursorPageResponse;
+import fr.cda.covoit_api.dto.response.RouteResponse;
+import fr.cda.covoit_api.service.interfaces.IRouteService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recherche de trajets de bout en bout (service, JPA, PostgreSQL) sur un jeu de données réaliste.
+ * <p>
+ * La base est un PostgreSQL embarqué (binaires zonky) démarré pour la durée du benchmark,
+ * le contexte Spring est celui de l'application, schéma créé par les migrations Flyway (index et triggers
+ * de production) puis validé par Hibernate. Les données de référence (statuts, rôles, icônes, modèles)
+ * sont celles de la migration {@code V4__reference_data.sql}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class RouteSearchBenchmark {
+
+    private static final int DRIVERS = 200;
+    private static final int ROUTES = 5000;
+    private static final String[][] CITIES = {
+            {"Paris", "48.856614", "2.3522219"},
+            {"Lyon", "45.757801", "4.832011"},
+            {"Marseille", "43.296482", "5.36978"},
+            {"Bordeaux", "44.837789", "-0.57918"},
+            {"Lille", "50.62925", "3.057256"},
+            {"Saint-Étienne", "45.439695", "4.387178"}
+    };
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private IRouteService routeService;
+    private GeoCircle nearParis;
+    private GeoCircle nearLyon;
+    private LocalDate tripDate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        // Arguments de ligne de commande : priorité sur application.properties
+        context = new SpringApplicationBuilder(CovoitApiApplication.class).run(
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--jwt.secret=benchmark-secret-key-minimum-32-chars-long!",
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN");
+        routeService = context.getBean(IRouteService.class);
+        seed(context.getBean(TransactionTemplate.class), context.getBean(EntityManager.class));
+        // Statistiques à jour, comme sur une base en production (sinon plans calculés sur des tables "vides")
+        context.getBean(JdbcTemplate.class).execute("ANALYZE");
+
+        nearParis = new GeoCircle(48.86, 2.35, 10);
+        nearLyon = new GeoCircle(45.76, 4.83, 10);
+        tripDate = LocalDate.now().plusDays(3);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public CursorPageResponse<RouteResponse> searchByCity() {
+        return routeService.searchRoutesWithDetails("Paris", "Lyon", null, null, 20);
+    }
+
+    @Benchmark
+    public CursorPageResponse<RouteResponse> searchByCityAndDate() {
+        return routeService.searchRoutesWithDetails("Paris", "Lyon", tripDate, null, 20);
+    }
+
+    @Benchmark
+    public CursorPageResponse<RouteResponse> searchNearby() {
+        return routeService.searchRoutesNearby(nearParis, nearLyon, null, null, 20);
+    }
+
+    private static void seed(TransactionTemplate transactionTemplate, EntityManager entityManager) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            Status status = reference(entityManager, Status.class, "ACTIVE");
+            Role role = reference(entityManager, Role.class, "USER");
+            Icon icon = reference(entityManager, Icon.class, "Non-fumeur");
+            Model model = reference(entityManager, Model.class, "308");
+
+            Profil[] drivers = new Profil[DRIVERS];
+            for (int i = 0; i < DRIVERS; i++) {
+                User account = new User();
+                account.setEmail("driver" + i + "@bench.test");
+                account.setPassword("hashed");
+                account.setStatus(status);
+                account.setRole(role);
+                entityManager.persist(account);
+
+                Profil driver = new Profil();
+                driver.setFirstname("Jean");
+                driver.setLastname("Dupont" + i);
+                driver.setPhone("0612345678");
+                driver.setUser(account);
+                entityManager.persist(driver);
+
+                Vehicle vehicle = new Vehicle();
+                vehicle.setSeats((short) 4);
+                vehicle.setCarregistration("AB-" + i + "-CD");
+                vehicle.setModel(model);
+                vehicle.setOwner(driver);
+                driver.setVehicle(vehicle);
+                entityManager.persist(vehicle);
+                drivers[i] = driver;
+            }
+
+            for (int i = 0; i < ROUTES; i++) {
+                Route route = new Route();
+                route.setPlace((short) 3);
+                route.setDate(LocalDate.now().plusDays(i % 60));
+                route.setHour(LocalTime.of(6 + i % 14, (i * 7) % 60));
+                route.setDistance(465);
+                route.setIcon(icon);
+                route.setDriver(drivers[i % DRIVERS]);
+
+                String[] from = CITIES[i % CITIES.length];
+                String[] to = CITIES[(i / CITIES.length + 1 + i) % CITIES.length];
+                Location start = address(entityManager, from, i);
+                Location end = address(entityManager, to, i + 1);
+                route.setDeparture(RouteEndpoint.of(start));
+                route.setArrival(RouteEndpoint.of(end));
+                entityManager.persist(route);
+                link(entityManager, route, start, "starting");
+                link(entityManager, route, end, "arrival");
+
+            }
+        });
+    }
+
+    // Ligne insérée par V4__reference_data.sql
+    private static <T> T reference(EntityManager entityManager, Class<T> type, String label) {
+        return entityManager.createQuery("SELECT e FROM " + type.getSimpleName() + " e WHERE e.label = :label", type)
+                .setParameter("label", label)
+                .getSingleResult();
+    }
+
+    private static Location address(EntityManager entityManager, String[] city, int salt) {
+        // Adresses distinctes, dispersées de quelques kilomètres autour du centre-ville
+        Location location = new Location();
+        location.setStreetName(salt + " rue du Benchmark");
+        location.setPostalCode("00000");
+        location.setCityName(city[0]);
+        location.setLatitude(Double.parseDouble(city[1]) + (salt % 20 - 10) * 0.005);
+        location.setLongitude(Double.parseDouble(city[2]) + (salt % 13 - 6) * 0.005);
+        entityManager.persist(location);
+        return location;
+    }
+
+    private static void link(EntityManager entityManager, Route route, Location location, String type) {
+        RouteLocation link = new RouteLocation();
+        link.setId(new RouteLocationId(route.getId(), location.getId()));
+        link.setRoute(route);
+        link.setLocation(location);
+        link.setType(type);
+        entityManager.persist(link);
+    }
+}
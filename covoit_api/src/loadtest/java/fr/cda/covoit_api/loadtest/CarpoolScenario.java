@@ -0,0 +1,135 @@
+package fr.cda.covoit_api.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Parcours type d'un passager : connexion, quelques recherches, réservation d'une place puis annulation.
+ * <p>
+ * Une session enchaîne {@code POST /login}, {@value #SEARCHES_PER_SESSION} {@code GET /api/trips}
+ * (une sur trois filtrée par date), {@code POST /api/trips/{id}/person} sur un trajet trouvé
+ * puis {@code DELETE /api/trips/{id}/person}. Chaque appel est chronométré dans {@link LatencyStats}.
+ * </p>
+ */
+final class CarpoolScenario {
+
+    static final String LOGIN = "login";
+    static final String SEARCH = "search";
+    static final String RESERVE = "reserve";
+    static final String CANCEL = "cancel";
+
+    private static final int SEARCHES_PER_SESSION = 3;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final int passengers;
+    private final LatencyStats stats;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    CarpoolScenario(HttpClient client, String baseUrl, int passengers, LatencyStats stats) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.passengers = passengers;
+        this.stats = stats;
+    }
+
+    /** Joue une session complète pour un passager tiré au hasard. */
+    void runSession() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String email = LoadTestSeeder.passengerEmail(random.nextInt(passengers));
+
+        HttpResponse<String> login = send(LOGIN, HttpRequest.newBuilder(uri("/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(
+                        Map.of("email", email, "password", LoadTestSeeder.PASSWORD)))));
+        if (!isSuccess(login)) {
+            return;
+        }
+        String authorization = "Bearer " + jsonMapper.readTree(login.body()).path("token").asString();
+
+        List<Integer> bookable = new ArrayList<>();
+        for (int i = 0; i < SEARCHES_PER_SESSION; i++) {
+            bookable = search(authorization, random);
+        }
+        if (bookable.isEmpty()) {
+            return;
+        }
+
+        String passengerPath = "/api/trips/" + bookable.get(random.nextInt(bookable.size())) + "/person";
+        HttpResponse<String> reserve = send(RESERVE, HttpRequest.newBuilder(uri(passengerPath))
+                .header("Authorization", authorization)
+                .POST(HttpRequest.BodyPublishers.noBody()));
+        if (isSuccess(reserve)) {
+            send(CANCEL, HttpRequest.newBuilder(uri(passengerPath))
+                    .header("Authorization", authorization)
+                    .DELETE());
+        }
+    }
+
+    /** Recherche ville à ville et renvoie les identifiants des trajets ayant encore des places. */
+    private List<Integer> search(String authorization, ThreadLocalRandom random) {
+        String[][] cities = LoadTestSeeder.CITIES;
+        StringBuilder query = new StringBuilder("/api/trips?size=20")
+                .append("&startingcity=").append(encode(cities[random.nextInt(cities.length)][0]))
+                .append("&arrivalcity=").append(encode(cities[random.nextInt(cities.length)][0]));
+        if (random.nextInt(3) == 0) {
+            query.append("&tripdate=").append(LocalDate.now().plusDays(1 + random.nextInt(60)));
+        }
+
+        HttpResponse<String> response = send(SEARCH, HttpRequest.newBuilder(uri(query.toString()))
+                .header("Authorization", authorization)
+                .GET());
+        List<Integer> bookable = new ArrayList<>();
+        if (isSuccess(response)) {
+            for (JsonNode route : jsonMapper.readTree(response.body()).path("content")) {
+                if (route.path("availableSeats").asInt() > 0) {
+                    bookable.add(route.path("id").asInt());
+                }
+            }
+        }
+        return bookable;
+    }
+
+    private HttpResponse<String> send(String operation, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request.timeout(TIMEOUT).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            stats.record(operation, System.nanoTime() - start, response.statusCode());
+            return response;
+        } catch (IOException e) {
+            stats.record(operation, System.nanoTime() - start, 0);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static boolean isSuccess(HttpResponse<String> response) {
+        return response != null && response.statusCode() / 100 == 2;
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,88 @@
+package fr.cda.covoit_api.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Mesures de latence par opération (login, recherche, réservation, annulation).
+ * <p>
+ * Les durées sont conservées brutes pour calculer des percentiles exacts en fin de tir ;
+ * les volumes d'un tir de quelques minutes (quelques centaines de milliers d'échantillons) le permettent.
+ * </p>
+ */
+final class LatencyStats {
+
+    private final Map<String, Operation> operations = new ConcurrentSkipListMap<>();
+
+    /**
+     * Enregistre un appel.
+     *
+     * @param operation Nom de l'opération.
+     * @param nanos Durée de l'appel, en nanosecondes.
+     * @param status Code HTTP reçu (0 en cas d'erreur réseau).
+     */
+    void record(String operation, long nanos, int status) {
+        operations.computeIfAbsent(operation, k -> new Operation()).record(nanos, status);
+    }
+
+    /** Oublie toutes les mesures (fin de la période de chauffe). */
+    void reset() {
+        operations.clear();
+    }
+
+    /**
+     * Produit le rapport texte : volume, débit, erreurs et percentiles par opération.
+     *
+     * @param elapsedSeconds Durée de la période mesurée, en secondes.
+     * @return Rapport prêt à afficher.
+     */
+    String report(double elapsedSeconds) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-10s %9s %9s %8s %9s %9s %9s %9s  %s%n",
+                "operation", "count", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms", "status"));
+        operations.forEach((name, operation) -> out.append(operation.line(name, elapsedSeconds)));
+        return out.toString();
+    }
+
+    private static final class Operation {
+
+        private final List<Long> samples = new ArrayList<>();
+        private final Map<Integer, Integer> statuses = new ConcurrentHashMap<>();
+
+        synchronized void record(long nanos, int status) {
+            samples.add(nanos);
+            statuses.merge(status, 1, Integer::sum);
+        }
+
+        synchronized String line(String name, double elapsedSeconds) {
+            long[] sorted = samples.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            // Les 409 (plus de place, déjà réservé) sont des refus métier attendus sous concurrence, pas des erreurs
+            int errors = statuses.entrySet().stream()
+                    .filter(e -> e.getKey() == 0 || (e.getKey() >= 400 && e.getKey() != 409))
+                    .mapToInt(Map.Entry::getValue)
+                    .sum();
+            return String.format("%-10s %9d %9.1f %8d %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    name, sorted.length, sorted.length / elapsedSeconds, errors,
+                    millis(percentile(sorted, 50)), millis(percentile(sorted, 90)),
+                    millis(percentile(sorted, 99)), millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]),
+                    new ConcurrentSkipListMap<>(statuses));
+        }
+
+        private static long percentile(long[] sorted, int percent) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
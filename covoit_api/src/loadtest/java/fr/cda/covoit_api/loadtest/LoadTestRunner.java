@@ -0,0 +1,160 @@
+package fr.cda.covoit_api.loadtest;
+
+import fr.cda.covoit_api.CovoitApiApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tir de charge reproductible de l'API : trafic de passagers simulé sur un jeu de données de plusieurs milliers de lignes.
+ * <p>
+ * Démarre un PostgreSQL embarqué et l'application sur un port libre (schéma créé par les migrations Flyway,
+ * avec les index et triggers de production), insère le jeu de données
+ * ({@link LoadTestSeeder}), puis fait jouer {@link CarpoolScenario} en boucle par {@code threads}
+ * utilisateurs virtuels (modèle fermé : chaque utilisateur enchaîne ses sessions sans pause).
+ * Les mesures de la période de chauffe sont écartées ; le rapport donne, par opération,
+ * le débit, les erreurs et les latences p50/p90/p99/max, suivis de l'occupation du pool de connexions
+ * (attente moyenne et maximale d'une connexion, durée d'emprunt, délais dépassés) sur la période mesurée.
+ * </p>
+ * <p>
+ * Lancement : {@code mvn -Pload-test test -Dloadtest.args="threads=64 duration=120"}.
+ * Options (valeurs par défaut) : {@code passengers=2000 drivers=300 routes=5000
+ * threads=32 warmup=15 duration=60} (durées en secondes), préfixe {@code --} facultatif.
+ * Les autres arguments {@code cle=valeur} sont transmis à l'application
+ * (ex. {@code spring.datasource.hikari.maximum-pool-size=20}).
+ * </p>
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "passengers", "2000",
+                "drivers", "300",
+                "routes", "5000",
+                "threads", "32",
+                "warmup", "15",
+                "duration", "60"));
+        Map<String, String> applicationArgs = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Argument attendu sous la forme cle=valeur : " + arg);
+            }
+            (options.containsKey(pair[0]) ? options : applicationArgs).put(pair[0], pair[1]);
+        }
+        int passengers = Integer.parseInt(options.get("passengers"));
+        int threads = Integer.parseInt(options.get("threads"));
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext context = start(postgres, applicationArgs)) {
+
+            long seedStart = System.nanoTime();
+            new LoadTestSeeder(context).seed(passengers,
+                    Integer.parseInt(options.get("drivers")), Integer.parseInt(options.get("routes")));
+            System.out.printf("Jeu de données inséré en %d s : %s%n",
+                    TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - seedStart), options);
+
+            String baseUrl = "http://localhost:" + context.getBean(Environment.class).getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            LatencyStats stats = new LatencyStats();
+            CarpoolScenario scenario = new CarpoolScenario(client, baseUrl, passengers, stats);
+
+            run(scenario, threads, Integer.parseInt(options.get("warmup")));
+            stats.reset();
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            PoolSample before = PoolSample.of(meterRegistry);
+            long measured = run(scenario, threads, Integer.parseInt(options.get("duration")));
+
+            System.out.printf("%nRésultats sur %d s, %d utilisateurs virtuels :%n", measured / 1000, threads);
+            System.out.print(stats.report(measured / 1000.0));
+            System.out.print(PoolSample.of(meterRegistry).report(before));
+        }
+    }
+
+    private static ConfigurableApplicationContext start(EmbeddedPostgres postgres, Map<String, String> applicationArgs) {
+        Map<String, String> properties = new HashMap<>(Map.of(
+                "spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"),
+                "spring.datasource.username", "postgres",
+                "spring.datasource.password", "postgres",
+                "jwt.secret", "load-test-secret-key-minimum-32-chars-long!",
+                "server.port", "0",
+                "spring.main.banner-mode", "off",
+                "logging.level.root", "WARN",
+                "logging.level.fr.cda.covoit_api.service.impl.EmailServiceImpl", "ERROR"));
+        properties.putAll(applicationArgs);
+        // devtools relancerait main() dans un nouveau classloader avec les arguments Spring, pas ceux du tir
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        // Arguments de ligne de commande : priorité sur application.properties
+        String[] args = properties.entrySet().stream()
+                .map(e -> "--" + e.getKey() + "=" + e.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(CovoitApiApplication.class).run(args);
+    }
+
+    /**
+     * Fait tourner le scénario en boucle sur {@code threads} utilisateurs virtuels pendant {@code seconds}.
+     *
+     * @return Durée effective de la période, en millisecondes.
+     */
+    private static long run(CarpoolScenario scenario, int threads, int seconds) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    scenario.runSession();
+                }
+            });
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(seconds + 60L, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    /**
+     * Compteurs cumulés du pool HikariCP à un instant donné ; la différence entre deux relevés isole la période mesurée.
+     */
+    private record PoolSample(int size, long acquired, double acquireNanos, double acquireMaxMs,
+                              long used, double usageNanos, double timeouts) {
+
+        static PoolSample of(MeterRegistry registry) {
+            Timer acquire = registry.get("hikaricp.connections.acquire").timer();
+            Timer usage = registry.get("hikaricp.connections.usage").timer();
+            return new PoolSample(
+                    (int) registry.get("hikaricp.connections.max").gauge().value(),
+                    acquire.count(), acquire.totalTime(TimeUnit.NANOSECONDS), acquire.max(TimeUnit.MILLISECONDS),
+                    usage.count(), usage.totalTime(TimeUnit.NANOSECONDS),
+                    registry.get("hikaricp.connections.timeout").counter().count());
+        }
+
+        String report(PoolSample before) {
+            long acquires = Math.max(1, acquired - before.acquired);
+            long uses = Math.max(1, used - before.used);
+            return String.format("%nPool de connexions (%d connexions) : %d emprunts, attente moyenne %.2f ms, "
+                            + "max %.1f ms, emprunt moyen %.2f ms, %d délai(s) dépassé(s)%n",
+                    size, acquired - before.acquired,
+                    (acquireNanos - before.acquireNanos) / acquires / 1_000_000.0, acquireMaxMs,
+                    (usageNanos - before.usageNanos) / uses / 1_000_000.0, (long) (timeouts - before.timeouts));
+        }
+    }
+}
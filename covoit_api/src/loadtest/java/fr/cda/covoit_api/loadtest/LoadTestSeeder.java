@@ -0,0 +1,179 @@
+package fr.cda.covoit_api.loadtest;
+
+import fr.cda.covoit_api.domain.entity.*;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Jeu de données du tir de charge : comptes passagers, conducteurs avec véhicule, trajets et leurs adresses.
+ * <p>
+ * L'insertion passe par JPA et {@code RouteEndpoint.of} pour que les clés de recherche des trajets
+ * ({@code start_*}, {@code arrival_*}) soient calculées comme en production. Elle est découpée en transactions
+ * de {@value #CHUNK} comptes ou trajets pour garder un contexte de persistance de taille raisonnable.
+ * </p>
+ */
+final class LoadTestSeeder {
+
+    /** Mot de passe commun à tous les comptes générés. */
+    static final String PASSWORD = "LoadTest@1234";
+
+    static final String[][] CITIES = {
+            {"Paris", "48.856614", "2.3522219"},
+            {"Lyon", "45.757801", "4.832011"},
+            {"Marseille", "43.296482", "5.36978"},
+            {"Bordeaux", "44.837789", "-0.57918"},
+            {"Lille", "50.62925", "3.057256"},
+            {"Nantes", "47.218371", "-1.553621"},
+            {"Toulouse", "43.604652", "1.444209"},
+            {"Saint-Étienne", "45.439695", "4.387178"}
+    };
+
+    private static final int CHUNK = 500;
+
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final String passwordHash;
+
+    LoadTestSeeder(ConfigurableApplicationContext context) {
+        this.transactionTemplate = context.getBean(TransactionTemplate.class);
+        this.entityManager = context.getBean(EntityManager.class);
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        // Un seul hash BCrypt pour tous les comptes : le coût du hash reste côté /login, pas côté seed
+        this.passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+    }
+
+    static String passengerEmail(int index) {
+        return "passenger" + index + "@load.test";
+    }
+
+    /**
+     * Insère les données puis met à jour les statistiques du planificateur.
+     *
+     * @param passengers Nombre de comptes passagers.
+     * @param drivers Nombre de conducteurs (un véhicule chacun).
+     * @param routes Nombre de trajets, répartis sur 60 jours et sur les villes de {@link #CITIES}.
+     */
+    void seed(int passengers, int drivers, int routes) {
+        Integer[] refs = transactionTemplate.execute(tx -> references());
+        Integer[] driverIds = new Integer[drivers];
+
+        for (int from = 0; from < passengers; from += CHUNK) {
+            int start = from;
+            transactionTemplate.executeWithoutResult(tx -> {
+                for (int i = start; i < Math.min(start + CHUNK, passengers); i++) {
+                    profil(account(passengerEmail(i), refs), "Passager", i);
+                }
+            });
+        }
+        for (int from = 0; from < drivers; from += CHUNK) {
+            int start = from;
+            transactionTemplate.executeWithoutResult(tx -> {
+                Model model = entityManager.getReference(Model.class, refs[2]);
+                for (int i = start; i < Math.min(start + CHUNK, drivers); i++) {
+                    Profil driver = profil(account("driver" + i + "@load.test", refs), "Conducteur", i);
+                    Vehicle vehicle = new Vehicle();
+                    vehicle.setSeats((short) 4);
+                    vehicle.setCarregistration("LT-" + i);
+                    vehicle.setModel(model);
+                    vehicle.setOwner(driver);
+                    driver.setVehicle(vehicle);
+                    entityManager.persist(vehicle);
+                    driverIds[i] = driver.getId();
+                }
+            });
+        }
+        for (int from = 0; from < routes; from += CHUNK) {
+            int start = from;
+            transactionTemplate.executeWithoutResult(tx -> {
+                Icon icon = entityManager.getReference(Icon.class, refs[3]);
+                for (int i = start; i < Math.min(start + CHUNK, routes); i++) {
+                    route(i, icon, entityManager.getReference(Profil.class, driverIds[i % drivers]));
+                }
+            });
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    /** Référentiels insérés par la migration {@code V4__reference_data.sql} : statut, rôle, modèle et icône. */
+    private Integer[] references() {
+        return new Integer[]{
+                reference(Status.class, "ACTIVE").getId(),
+                reference(Role.class, "USER").getId(),
+                reference(Model.class, "308").getId(),
+                reference(Icon.class, "Non-fumeur").getId()};
+    }
+
+    private <T> T reference(Class<T> type, String label) {
+        return entityManager.createQuery("SELECT e FROM " + type.getSimpleName() + " e WHERE e.label = :label", type)
+                .setParameter("label", label)
+                .getSingleResult();
+    }
+
+    private User account(String email, Integer[] refs) {
+        User account = new User();
+        account.setEmail(email);
+        account.setPassword(passwordHash);
+        account.setStatus(entityManager.getReference(Status.class, refs[0]));
+        account.setRole(entityManager.getReference(Role.class, refs[1]));
+        entityManager.persist(account);
+        return account;
+    }
+
+    private Profil profil(User account, String firstname, int index) {
+        Profil profil = new Profil();
+        profil.setFirstname(firstname);
+        profil.setLastname("Charge" + index);
+        profil.setPhone("0600000000");
+        profil.setUser(account);
+        entityManager.persist(profil);
+        return profil;
+    }
+
+    private void route(int index, Icon icon, Profil driver) {
+        Route route = new Route();
+        route.setPlace((short) 3);
+        route.setDate(LocalDate.now().plusDays(1 + index % 60));
+        route.setHour(LocalTime.of(6 + index % 14, (index * 7) % 60));
+        route.setDistance(465);
+        route.setIcon(icon);
+        route.setDriver(driver);
+
+        String[] from = CITIES[index % CITIES.length];
+        String[] to = CITIES[(index / CITIES.length + 1 + index) % CITIES.length];
+        Location start = address(from, index);
+        Location end = address(to, index + 1);
+        route.setDeparture(RouteEndpoint.of(start));
+        route.setArrival(RouteEndpoint.of(end));
+        entityManager.persist(route);
+        link(route, start, "starting");
+        link(route, end, "arrival");
+    }
+
+    private Location address(String[] city, int salt) {
+        // Adresses distinctes, dispersées de quelques kilomètres autour du centre-ville
+        Location location = new Location();
+        location.setStreetName(salt + " rue de la Charge");
+        location.setPostalCode("00000");
+        location.setCityName(city[0]);
+        location.setLatitude(Double.parseDouble(city[1]) + (salt % 20 - 10) * 0.005);
+        location.setLongitude(Double.parseDouble(city[2]) + (salt % 13 - 6) * 0.005);
+        entityManager.persist(location);
+        return location;
+    }
+
+    private void link(Route route, Location location, String type) {
+        RouteLocation link = new RouteLocation();
+        link.setId(new RouteLocationId(route.getId(), location.getId()));
+        link.setRoute(route);
+        link.setLocation(location);
+        link.setType(type);
+        entityManager.persist(link);
+    }
+}
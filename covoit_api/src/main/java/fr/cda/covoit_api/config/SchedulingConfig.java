@@ -0,0 +1,12 @@
+package fr.cda.covoit_api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Active les tâches planifiées (distribution de la table {@code notification_outbox}).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -49,7 +49,7 @@ public class SecurityConfig {
      * 1. Désactivation du CSRF (inutile pour une API stateless JWT).
      * 2. Politique de session STATELESS (aucune session côté serveur).
      * 3. Définition des accès :
-     *    - Publique : /login, /register, documentation Swagger.
+     *    - Publique : /login, /register, /refresh, documentation Swagger.
      *    - Restricted (ADMIN) : Gestion des marques et suppression de comptes.
      *    - Authenticated : Accès général aux trajets et profils.
      *
@@ -68,10 +68,12 @@ public class SecurityConfig {
 
         http.cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
+            // POST /logout est traité par AuthController (révocation des tokens), pas par le filtre de session
+            .logout(logout -> logout.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
             // Routes publiques
-            .requestMatchers("/register", "/login", "/forgot-password", "/reset-password", "/health","/v3/api-docs", "/v3/api-docs/**","/swagger-ui/**","/swagger-ui.html").permitAll()
+            .requestMatchers("/register", "/login", "/refresh", "/forgot-password", "/reset-password", "/health","/v3/api-docs", "/v3/api-docs/**","/swagger-ui/**","/swagger-ui.html").permitAll()
             // Accès restreints aux Administrateurs
             .requestMatchers(HttpMethod.POST, ENDPOINT_BRAND).hasRole(ADMIN)
             .requestMatchers(HttpMethod.PUT, ENDPOINT_BRAND).hasRole(ADMIN)
@@ -83,6 +85,7 @@ public class SecurityConfig {
             .requestMatchers(HttpMethod.POST, API_MODEL).hasRole(ADMIN)
             .requestMatchers(HttpMethod.PUT, API_MODEL).hasRole(ADMIN)
             .requestMatchers(HttpMethod.DELETE, API_MODEL).hasRole(ADMIN)
+            .requestMatchers("/actuator/**").hasRole(ADMIN)
              // Accès utilisateurs authentifié
             .requestMatchers(HttpMethod.PATCH, API_PERSONS).authenticated()
             .requestMatchers(HttpMethod.GET, API_PERSONS).authenticated()
@@ -2,11 +2,13 @@ package fr.cda.covoit_api.controller;
 
 import fr.cda.covoit_api.dto.request.ForgotPasswordRequest;
 import fr.cda.covoit_api.dto.request.LoginRequest;
+import fr.cda.covoit_api.dto.request.RefreshTokenRequest;
 import fr.cda.covoit_api.dto.request.RegisterRequest;
 import fr.cda.covoit_api.dto.request.ResetPasswordRequest;
 import fr.cda.covoit_api.dto.response.AuthResponse;
 import fr.cda.covoit_api.service.interfaces.IAuthService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -30,6 +32,20 @@ public class AuthController {
         return ResponseEntity.ok(authService.login(request.getEmail(), request.getPassword()));
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
+    }
+
+    // Le filtre n'authentifie que les en-têtes "Bearer <token>" : l'en-tête est présent et bien formé ici
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+                                       @RequestBody(required = false) RefreshTokenRequest request) {
+        authService.logout(authorization.substring("Bearer ".length()),
+                request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.ok().build();
+    }
+
     @PostMapping("/forgot-password")
     public ResponseEntity<Void> forgotPassword(@Valid @RequestBody ForgotPasswordRequest request) {
         authService.forgotPassword(request.getEmail());
@@ -1,13 +1,12 @@
 package fr.cda.covoit_api.controller;
 
-import fr.cda.covoit_api.domain.entity.Brand;
 import fr.cda.covoit_api.dto.request.BrandRequest;
 import fr.cda.covoit_api.dto.response.BrandResponse;
-import fr.cda.covoit_api.exception.BusinessException;
 import fr.cda.covoit_api.mapper.EntityMapper;
-import fr.cda.covoit_api.repository.BrandRepository;
+import fr.cda.covoit_api.service.interfaces.ICatalogService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -20,40 +19,35 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BrandController {
 
-    private final BrandRepository brandRepository;
+    // Le client garde sa copie mais revalide à chaque fois : 304 sans corps tant que l'ETag n'a pas changé
+    static final CacheControl CATALOG_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final ICatalogService catalogService;
     private final EntityMapper entityMapper;
 
     @GetMapping
     public ResponseEntity<List<BrandResponse>> getAll() {
-        return ResponseEntity.ok(brandRepository.findAll().stream()
-                .map(entityMapper::toBrandResponse).toList());
+        ICatalogService.Listing<BrandResponse> brands = catalogService.getBrands();
+        return ResponseEntity.ok()
+                .cacheControl(CATALOG_CACHE_CONTROL)
+                .eTag(brands.etag())
+                .body(brands.items());
     }
 
     @PostMapping
     // @PreAuthorize("hasRole('ADMIN')") // Optionnel si configuré dans SecurityConfig
     public ResponseEntity<BrandResponse> create(@Valid @RequestBody BrandRequest dto) {
-        if (brandRepository.findByLabel(dto.getLabel()).isPresent()) {
-            throw new BusinessException("Cette marque existe déjà", HttpStatus.CONFLICT);
-        }
-        Brand brand = new Brand();
-        brand.setLabel(dto.getLabel());
-        return new ResponseEntity<>(entityMapper.toBrandResponse(brandRepository.save(brand)), HttpStatus.CREATED);
+        return new ResponseEntity<>(entityMapper.toBrandResponse(catalogService.createBrand(dto)), HttpStatus.CREATED);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<BrandResponse> update(@PathVariable Integer id, @Valid @RequestBody BrandRequest dto) {
-        Brand brand = brandRepository.findById(id)
-                .orElseThrow(() -> new BusinessException("Marque non trouvée", HttpStatus.NOT_FOUND));
-        brand.setLabel(dto.getLabel());
-        return ResponseEntity.ok(entityMapper.toBrandResponse(brandRepository.save(brand)));
+        return ResponseEntity.ok(entityMapper.toBrandResponse(catalogService.updateBrand(id, dto)));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Integer id) {
-        if (!brandRepository.existsById(id)) {
-            throw new BusinessException("Marque non trouvée", HttpStatus.NOT_FOUND);
-        }
-        brandRepository.deleteById(id);
+        catalogService.deleteBrand(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+}
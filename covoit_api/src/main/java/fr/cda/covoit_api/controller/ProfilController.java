@@ -2,17 +2,20 @@ package fr.cda.covoit_api.controller;
 
 import fr.cda.covoit_api.dto.request.ProfilRequest;
 import fr.cda.covoit_api.domain.entity.Profil;
+import fr.cda.covoit_api.dto.request.RouteCursor;
+import fr.cda.covoit_api.dto.response.CursorPageResponse;
 import fr.cda.covoit_api.dto.response.ProfilResponse;
 import fr.cda.covoit_api.dto.response.RouteResponse;
 import fr.cda.covoit_api.mapper.EntityMapper;
+import fr.cda.covoit_api.security.AuthenticatedUser;
 import fr.cda.covoit_api.service.interfaces.IProfilService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.security.Principal;
 import java.util.List;
 
 @RestController
@@ -24,37 +27,49 @@ public class ProfilController {
     private final EntityMapper entityMapper;
 
     @PostMapping
-    public ResponseEntity<ProfilResponse> create(@Valid @RequestBody ProfilRequest dto, Principal principal) {
-        Profil saved = profilService.createProfil(dto, principal.getName());
+    public ResponseEntity<ProfilResponse> create(@Valid @RequestBody ProfilRequest dto, @AuthenticationPrincipal AuthenticatedUser principal) {
+        Profil saved = profilService.createProfil(dto, principal.getAccountId());
         return new ResponseEntity<>(entityMapper.toProfilResponse(saved), HttpStatus.CREATED);
     }
 
     @GetMapping("/me/trips-driver")
-    public ResponseEntity<List<RouteResponse>> getMyTripsAsDriver(Principal principal) {
-        Profil profil = profilService.getProfilByEmail(principal.getName());
-        return ResponseEntity.ok(profilService.getDriverTrips(profil.getId()));
+    public ResponseEntity<CursorPageResponse<RouteResponse>> getMyTripsAsDriver(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + RouteCursor.DEFAULT_PAGE_SIZE) int size) {
+        RouteCursor.checkPageSize(size);
+        return ResponseEntity.ok(profilService.getDriverTrips(principal.requireProfilId(), RouteCursor.decode(cursor), size));
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<ProfilResponse> update(@PathVariable Integer id,@Valid @RequestBody ProfilRequest dto, Principal principal) {
-        Profil updated = profilService.updateProfil(id, dto, principal.getName());
+    public ResponseEntity<ProfilResponse> update(@PathVariable Integer id,@Valid @RequestBody ProfilRequest dto, @AuthenticationPrincipal AuthenticatedUser principal) {
+        Profil updated = profilService.updateProfil(id, dto, principal.getProfilId());
         return ResponseEntity.ok(entityMapper.toProfilResponse(updated));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Integer id, Principal principal) {
-        profilService.deleteProfil(id, principal.getName());
+    public ResponseEntity<Void> delete(@PathVariable Integer id, @AuthenticationPrincipal AuthenticatedUser principal) {
+        profilService.deleteProfil(id, principal.getProfilId());
         return ResponseEntity.noContent().build();
     }
 
+    // Historiques paginés par curseur, comme la recherche de trajets (voir RouteController#search)
     @GetMapping("/{id}/trips-driver")
-    public ResponseEntity<List<RouteResponse>> getTripsAsDriver(@PathVariable Integer id) {
-        return ResponseEntity.ok(profilService.getDriverTrips(id));
+    public ResponseEntity<CursorPageResponse<RouteResponse>> getTripsAsDriver(
+            @PathVariable Integer id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + RouteCursor.DEFAULT_PAGE_SIZE) int size) {
+        RouteCursor.checkPageSize(size);
+        return ResponseEntity.ok(profilService.getDriverTrips(id, RouteCursor.decode(cursor), size));
     }
 
     @GetMapping("/{id}/trips-passenger")
-    public ResponseEntity<List<RouteResponse>> getTripsAsPassenger(@PathVariable Integer id) {
-        return ResponseEntity.ok(profilService.getPassengerTrips(id));
+    public ResponseEntity<CursorPageResponse<RouteResponse>> getTripsAsPassenger(
+            @PathVariable Integer id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + RouteCursor.DEFAULT_PAGE_SIZE) int size) {
+        RouteCursor.checkPageSize(size);
+        return ResponseEntity.ok(profilService.getPassengerTrips(id, RouteCursor.decode(cursor), size));
     }
 
 
@@ -72,8 +87,8 @@ public class ProfilController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<ProfilResponse> getMyProfil(Principal principal) {
-        Profil profil = profilService.getProfilByEmail(principal.getName());
+    public ResponseEntity<ProfilResponse> getMyProfil(@AuthenticationPrincipal AuthenticatedUser principal) {
+        Profil profil = profilService.getProfilById(principal.requireProfilId());
         return ResponseEntity.ok(entityMapper.toProfilResponse(profil));
     }
 }
\ No newline at end of file
@@ -3,11 +3,12 @@ package fr.cda.covoit_api.controller;
 import fr.cda.covoit_api.domain.entity.UserRoute;
 import fr.cda.covoit_api.dto.response.ProfilResponse;
 import fr.cda.covoit_api.dto.response.ReservationResponse;
+import fr.cda.covoit_api.security.AuthenticatedUser;
 import fr.cda.covoit_api.service.interfaces.IReservationService;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.security.Principal;
 import java.util.List;
 
 @RestController
@@ -21,18 +22,18 @@ public class ReservationController {
     }
 
     @PostMapping("/{id}/person")
-    public ResponseEntity<ReservationResponse> reserve(@PathVariable Integer id, Principal principal) {
-        return ResponseEntity.ok(reservationService.reservePlace(id, principal.getName()));
+    public ResponseEntity<ReservationResponse> reserve(@PathVariable Integer id, @AuthenticationPrincipal AuthenticatedUser principal) {
+        return ResponseEntity.ok(reservationService.reservePlace(id, principal.requireProfilId()));
     }
 
     @GetMapping("/my-reservations")
-    public ResponseEntity<List<ReservationResponse>> getMyReservations(Principal principal) {
-        return ResponseEntity.ok(reservationService.getPassengerReservations(principal.getName()));
+    public ResponseEntity<List<ReservationResponse>> getMyReservations(@AuthenticationPrincipal AuthenticatedUser principal) {
+        return ResponseEntity.ok(reservationService.getPassengerReservations(principal.requireProfilId()));
     }
 
     @DeleteMapping("/{id}/person")
-    public ResponseEntity<Void> cancel(@PathVariable Integer id, Principal principal) {
-        reservationService.cancelReservation(id, principal.getName());
+    public ResponseEntity<Void> cancel(@PathVariable Integer id, @AuthenticationPrincipal AuthenticatedUser principal) {
+        reservationService.cancelReservation(id, principal.requireProfilId());
         return ResponseEntity.noContent().build();
     }
 
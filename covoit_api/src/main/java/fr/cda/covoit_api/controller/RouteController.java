@@ -3,11 +3,15 @@ package fr.cda.covoit_api.controller;
 import fr.cda.covoit_api.domain.entity.Icon;
 import fr.cda.covoit_api.domain.entity.Location;
 import fr.cda.covoit_api.domain.entity.Route;
+import fr.cda.covoit_api.domain.geo.GeoCircle;
+import fr.cda.covoit_api.dto.request.RouteCursor;
 import fr.cda.covoit_api.dto.request.RouteRequest;
+import fr.cda.covoit_api.dto.response.CursorPageResponse;
 import fr.cda.covoit_api.dto.response.RouteResponse;
 import fr.cda.covoit_api.exception.BusinessException;
 import fr.cda.covoit_api.mapper.EntityMapper;
-import fr.cda.covoit_api.repository.IconRepository;
+import fr.cda.covoit_api.security.AuthenticatedUser;
+import fr.cda.covoit_api.service.interfaces.ICatalogService;
 import fr.cda.covoit_api.service.interfaces.IRouteService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,11 +20,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.security.Principal;
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -38,27 +41,72 @@ public class RouteController {
 
     private final IRouteService routeService;
     private final EntityMapper entityMapper;
-    private final IconRepository iconRepository;
+    private final ICatalogService catalogService;
     private static final String ARRIVAL = "arrival";
     private static final String STARTING = "starting";
+    private static final int DEFAULT_RADIUS_KM = 10;
 
 
     /**
      * Recherche des trajets selon des critères géographiques et temporels.
+     * Les résultats sont paginés par curseur et triés par date, heure puis identifiant.
      *
      * @param startingcity Nom de la ville de départ (optionnel).
      * @param arrivalcity Nom de la ville d'arrivée (optionnel).
      * @param tripdate Date du trajet au format ISO (optionnel).
-     * @return ResponseEntity contenant la liste des {@link RouteResponse}.
+     * @param cursor Curseur {@code next} renvoyé par la page précédente (optionnel).
+     * @param size Nombre de trajets par page, entre 1 et {@value RouteCursor#MAX_PAGE_SIZE}.
+     * @return ResponseEntity contenant la page de {@link RouteResponse} et le curseur de la page suivante.
+     * @throws BusinessException (400) si la taille de page ou le curseur est invalide.
      */
-    @Operation(summary = "Rechercher des trajets", description = "Permet de filtrer par ville et date")
+    @Operation(summary = "Rechercher des trajets", description = "Permet de filtrer par ville et date, avec pagination par curseur")
     @GetMapping
-    public ResponseEntity<List<RouteResponse>> search(
+    public ResponseEntity<CursorPageResponse<RouteResponse>> search(
             @RequestParam(required = false) String startingcity,
             @RequestParam(required = false) String arrivalcity,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate tripdate) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate tripdate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + RouteCursor.DEFAULT_PAGE_SIZE) int size) {
 
-        return ResponseEntity.ok(routeService.searchRoutesWithDetails(startingcity, arrivalcity, tripdate));
+        RouteCursor.checkPageSize(size);
+        return ResponseEntity.ok(routeService.searchRoutesWithDetails(
+                startingcity, arrivalcity, tripdate, RouteCursor.decode(cursor), size));
+    }
+
+    /**
+     * Recherche des trajets par proximité : départ et arrivée chacun dans un rayon autour d'un point.
+     * Même tri et même pagination par curseur que {@link #search}.
+     *
+     * @param startinglat Latitude du point de départ recherché.
+     * @param startinglng Longitude du point de départ recherché.
+     * @param startingradius Rayon autour du point de départ, en km.
+     * @param arrivallat Latitude du point d'arrivée recherché.
+     * @param arrivallng Longitude du point d'arrivée recherché.
+     * @param arrivalradius Rayon autour du point d'arrivée, en km.
+     * @param tripdate Date du trajet au format ISO (optionnel).
+     * @param cursor Curseur {@code next} renvoyé par la page précédente (optionnel).
+     * @param size Nombre de trajets par page, entre 1 et {@value RouteCursor#MAX_PAGE_SIZE}.
+     * @return ResponseEntity contenant la page de {@link RouteResponse} et le curseur de la page suivante.
+     * @throws BusinessException (400) si les coordonnées, les rayons, la taille de page ou le curseur sont invalides.
+     */
+    @Operation(summary = "Rechercher des trajets à proximité", description = "Départ et arrivée dans un rayon donné (km) autour de deux points")
+    @GetMapping("/nearby")
+    public ResponseEntity<CursorPageResponse<RouteResponse>> searchNearby(
+            @RequestParam double startinglat,
+            @RequestParam double startinglng,
+            @RequestParam(defaultValue = "" + DEFAULT_RADIUS_KM) double startingradius,
+            @RequestParam double arrivallat,
+            @RequestParam double arrivallng,
+            @RequestParam(defaultValue = "" + DEFAULT_RADIUS_KM) double arrivalradius,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate tripdate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + RouteCursor.DEFAULT_PAGE_SIZE) int size) {
+
+        RouteCursor.checkPageSize(size);
+        GeoCircle departure = new GeoCircle(startinglat, startinglng, startingradius);
+        GeoCircle arrival = new GeoCircle(arrivallat, arrivallng, arrivalradius);
+        return ResponseEntity.ok(routeService.searchRoutesNearby(
+                departure, arrival, tripdate, RouteCursor.decode(cursor), size));
     }
 
 
@@ -71,16 +119,16 @@ public class RouteController {
      * @throws BusinessException si l'icône de préférence n'est pas trouvée.
      */
     @PostMapping
-    public ResponseEntity<RouteResponse> create(@Valid @RequestBody RouteRequest dto, Principal principal) {
+    public ResponseEntity<RouteResponse> create(@Valid @RequestBody RouteRequest dto, @AuthenticationPrincipal AuthenticatedUser principal) {
         Location start = entityMapper.toLocation(dto.getStartingAddress());
         Location end = entityMapper.toLocation(dto.getArrivalAddress());
         Route route = entityMapper.toRoute(dto);
 
-        Icon icon = iconRepository.findById(dto.getIconId())
+        Icon icon = catalogService.findIcon(dto.getIconId())
                 .orElseThrow(() -> new BusinessException("Icône de préférence non trouvée", HttpStatus.NOT_FOUND));
         route.setIcon(icon);
 
-        Route saved = routeService.createRoute(route, start, end, principal.getName());
+        Route saved = routeService.createRoute(route, start, end, principal.requireProfilId());
 
         return new ResponseEntity<>(
                 entityMapper.toRouteResponse(saved, start, end),
@@ -92,9 +140,9 @@ public class RouteController {
     public ResponseEntity<RouteResponse> update(
             @PathVariable Integer id,
             @Valid @RequestBody RouteRequest dto,
-            Principal principal) {
+            @AuthenticationPrincipal AuthenticatedUser principal) {
 
-        Route updated = routeService.updateRoute(id, dto, principal.getName());
+        Route updated = routeService.updateRoute(id, dto, principal.getProfilId());
 
         // Récupération des locations mises à jour pour la réponse
         Map<String, Location> locations = routeService.getLocationsForRoute(id);
@@ -108,14 +156,14 @@ public class RouteController {
     public ResponseEntity<RouteResponse> updateSeats(
             @PathVariable Integer id,
             @RequestBody Map<String, Short> body,
-            Principal principal) {
+            @AuthenticationPrincipal AuthenticatedUser principal) {
 
         Short newSeats = body.get("availableSeats");
         if (newSeats == null || newSeats < 1) {
             throw new BusinessException("Le nombre de places doit être supérieur à 0", HttpStatus.BAD_REQUEST);
         }
 
-        Route updated = routeService.updateRouteSeats(id, newSeats, principal.getName());
+        Route updated = routeService.updateRouteSeats(id, newSeats, principal.getProfilId());
 
         // Pour le retour, on récupère les locations pour le mapper
         Map<String, Location> locations = routeService.getLocationsForRoute(id);
@@ -132,8 +180,8 @@ public class RouteController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Integer id, Principal principal) {
-        routeService.deleteRoute(id, principal.getName());
+    public ResponseEntity<Void> delete(@PathVariable Integer id, @AuthenticationPrincipal AuthenticatedUser principal) {
+        routeService.deleteRoute(id, principal.getProfilId());
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package fr.cda.covoit_api.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entit&eacute; repr&eacute;sentant un &eacute;v&eacute;nement de notification en attente de distribution.
+ * <p>
+ * Cette classe est mapp&eacute;e sur la table {@code notification_outbox}. Une ligne est &eacute;crite
+ * dans la m&ecirc;me transaction que la modification m&eacute;tier (r&eacute;servation, annulation) :
+ * la notification existe si et seulement si la modification est valid&eacute;e.
+ * Un poller la distribue ensuite par email et dans la bo&icirc;te de r&eacute;ception de l'utilisateur
+ * ({@code user_notification}), puis renseigne {@code processed_at}. Un &eacute;v&eacute;nement dont la distribution
+ * &eacute;choue est retent&eacute;, puis &eacute;cart&eacute; ({@code failed_at}) apr&egrave;s un nombre maximal de tentatives.
+ * </p>
+ *
+ * @see UserNotification
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class NotificationOutbox {
+
+    /**
+     * Identifiant unique de l'&eacute;v&eacute;nement, croissant : il fixe l'ordre de distribution.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_outbox")
+    private Long id;
+
+    /**
+     * Identifiant du compte destinataire (bo&icirc;te de r&eacute;ception).
+     */
+    @Column(name = "id_account", nullable = false)
+    private Integer accountId;
+
+    /**
+     * Adresse email du destinataire, fig&eacute;e au moment de l'&eacute;v&eacute;nement.
+     */
+    @Column(name = "recipient_email", nullable = false)
+    private String recipientEmail;
+
+    /**
+     * Libell&eacute; du type de notification ({@code type_notif.label}, ex : {@code TRIP_CONFIRMED}).
+     */
+    @Column(name = "type_label", nullable = false, length = 50)
+    private String typeLabel;
+
+    /**
+     * Sujet de l'email.
+     */
+    @Column(nullable = false)
+    private String subject;
+
+    /**
+     * Contenu de l'email et de la notification.
+     */
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    /**
+     * Date et heure de cr&eacute;ation de l'&eacute;v&eacute;nement.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    /**
+     * Date et heure de distribution ; {@code null} tant que l'&eacute;v&eacute;nement est en attente.
+     */
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    /**
+     * Nombre de tentatives de distribution &eacute;chou&eacute;es.
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * Cause du dernier &eacute;chec de distribution.
+     */
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    /**
+     * Date et heure &agrave; laquelle l'&eacute;v&eacute;nement a &eacute;t&eacute; &eacute;cart&eacute; apr&egrave;s trop d'&eacute;checs ;
+     * il n'est plus distribu&eacute;.
+     */
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    /**
+     * Date et heure &agrave; partir de laquelle un &eacute;v&eacute;nement en &eacute;chec peut &ecirc;tre retent&eacute; ;
+     * {@code null} tant qu'aucune tentative n'a &eacute;chou&eacute;.
+     */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+}
@@ -80,11 +80,13 @@ public class Profil {
      * <p>
      * Relation {@code OneToOne} invers&eacute;e avec suppression en cascade
      * et suppression des orphelins activ&eacute;e ({@code orphanRemoval = true}).
+     * Paresseuse gr&acirc;ce &agrave; l'enrichissement du bytecode ; les requ&ecirc;tes qui en ont besoin
+     * la chargent par {@code JOIN FETCH}.
      * </p>
      *
      * @see Vehicle
      */
-    @OneToOne(mappedBy = "owner", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToOne(mappedBy = "owner", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private Vehicle vehicle;
 
     /**
@@ -0,0 +1,81 @@
+package fr.cda.covoit_api.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entit&eacute; repr&eacute;sentant un jeton de rafra&icirc;chissement.
+ * <p>
+ * Cette classe est mapp&eacute;e sur la table {@code refresh_token}. Seule l'empreinte SHA-256 du jeton
+ * est conserv&eacute;e : une fuite de la table ne permet pas d'obtenir de jeton d'acc&egrave;s.
+ * Un jeton est &agrave; usage unique ; son utilisation le marque ({@code used_at}) et en cr&eacute;e un
+ * successeur dans la m&ecirc;me famille. Les lignes utilis&eacute;es ou r&eacute;voqu&eacute;es sont conserv&eacute;es
+ * jusqu'&agrave; leur expiration pour d&eacute;tecter une r&eacute;utilisation.
+ * </p>
+ *
+ * @see User
+ */
+@Entity
+@Table(name = "refresh_token")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class RefreshToken {
+
+    /**
+     * Identifiant unique du jeton.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_refresh_token")
+    private Long id;
+
+    /**
+     * Identifiant du compte propri&eacute;taire (suppression en cascade avec le compte).
+     */
+    @Column(name = "id_account", nullable = false)
+    private Integer accountId;
+
+    /**
+     * Empreinte SHA-256 (hexad&eacute;cimal) du jeton remis au client.
+     */
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    /**
+     * Famille du jeton : identique pour tous les jetons issus d'une m&ecirc;me connexion.
+     */
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+
+    /**
+     * Version des jetons du compte &agrave; l'&eacute;mission ({@code user_account.token_version}) :
+     * un changement de mot de passe, de statut ou de r&ocirc;le invalide aussi les jetons de rafra&icirc;chissement.
+     */
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
+    /**
+     * Date et heure d'&eacute;mission.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Date et heure d'expiration.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Date et heure d'utilisation ; {@code null} tant que le jeton n'a pas &eacute;t&eacute; &eacute;chang&eacute;.
+     */
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    /**
+     * Date et heure de r&eacute;vocation ; {@code null} si le jeton n'a pas &eacute;t&eacute; r&eacute;voqu&eacute;.
+     */
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+}
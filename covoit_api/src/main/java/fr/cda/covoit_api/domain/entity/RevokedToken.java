@@ -0,0 +1,52 @@
+package fr.cda.covoit_api.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entit&eacute; repr&eacute;sentant un token d'acc&egrave;s r&eacute;voqu&eacute; avant son expiration (d&eacute;connexion).
+ * <p>
+ * Cette classe est mapp&eacute;e sur la table {@code revoked_token}. Les instances de l'API en conservent
+ * une copie en m&eacute;moire ({@link fr.cda.covoit_api.security.TokenRevocationList}) ; la ligne peut
+ * &ecirc;tre supprim&eacute;e d&egrave;s que le token a expir&eacute;.
+ * </p>
+ */
+@Entity
+@Table(name = "revoked_token")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class RevokedToken {
+
+    /**
+     * Identifiant unique de la r&eacute;vocation.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_revoked_token")
+    private Long id;
+
+    /**
+     * Identifiant du token r&eacute;voqu&eacute; (claim {@code jti}).
+     */
+    @Column(nullable = false, unique = true)
+    private UUID jti;
+
+    /**
+     * Identifiant du compte propri&eacute;taire du token (suppression en cascade avec le compte).
+     */
+    @Column(name = "id_account", nullable = false)
+    private Integer accountId;
+
+    /**
+     * Date et heure d'expiration du token : au-del&agrave;, la r&eacute;vocation n'a plus d'effet.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Date et heure de la r&eacute;vocation.
+     */
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
@@ -20,11 +20,17 @@ import java.util.List;
  * @see Profil
  * @see Icon
  * @see RouteLocation
+ * @see RouteEndpoint
  * @see UserRoute
  * @see Historical
  */
 @Entity
-@Table(name = "route")
+@Table(name = "route", indexes = {
+        @Index(name = "idx_route_start_arrival_city", columnList = "start_city_key, arrival_city_key, date_, hour_, id_route"),
+        @Index(name = "idx_route_arrival_city", columnList = "arrival_city_key, date_, hour_, id_route"),
+        @Index(name = "idx_route_start_grid_cell", columnList = "start_grid_cell"),
+        @Index(name = "idx_route_arrival_grid_cell", columnList = "arrival_grid_cell")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor
 public class Route {
 
@@ -91,6 +97,42 @@ public class Route {
     @JoinColumn(name = "id_profil", nullable = false)
     private Profil driver;
 
+    /**
+     * Point de d&eacute;part d&eacute;normalis&eacute; (ville, code postal, coordonn&eacute;es et cl&eacute;s de recherche).
+     * <p>
+     * Copie de la localisation de type {@code starting}, tenue &agrave; jour par le service des trajets,
+     * pour que la recherche ne lise que la table {@code route}.
+     * </p>
+     *
+     * @see RouteEndpoint
+     */
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "cityName", column = @Column(name = "start_city_name", length = 100)),
+            @AttributeOverride(name = "cityKey", column = @Column(name = "start_city_key", length = 100)),
+            @AttributeOverride(name = "postalCode", column = @Column(name = "start_postal_code", length = 10)),
+            @AttributeOverride(name = "latitude", column = @Column(name = "start_latitude")),
+            @AttributeOverride(name = "longitude", column = @Column(name = "start_longitude")),
+            @AttributeOverride(name = "gridCell", column = @Column(name = "start_grid_cell"))
+    })
+    private RouteEndpoint departure;
+
+    /**
+     * Point d'arriv&eacute;e d&eacute;normalis&eacute;, copie de la localisation de type {@code arrival}.
+     *
+     * @see #departure
+     */
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "cityName", column = @Column(name = "arrival_city_name", length = 100)),
+            @AttributeOverride(name = "cityKey", column = @Column(name = "arrival_city_key", length = 100)),
+            @AttributeOverride(name = "postalCode", column = @Column(name = "arrival_postal_code", length = 10)),
+            @AttributeOverride(name = "latitude", column = @Column(name = "arrival_latitude")),
+            @AttributeOverride(name = "longitude", column = @Column(name = "arrival_longitude")),
+            @AttributeOverride(name = "gridCell", column = @Column(name = "arrival_grid_cell"))
+    })
+    private RouteEndpoint arrival;
+
     /**
      * Liste des localisations (&eacute;tapes) associ&eacute;es &agrave; ce trajet.
      * <p>
@@ -0,0 +1,78 @@
+package fr.cda.covoit_api.domain.entity;
+
+import fr.cda.covoit_api.domain.geo.GeoGrid;
+import fr.cda.covoit_api.domain.search.CityKey;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+/**
+ * Copie d&eacute;normalis&eacute;e du point de d&eacute;part ou d'arriv&eacute;e d'un trajet.
+ * <p>
+ * Embarqu&eacute;e deux fois dans {@link Route} (colonnes {@code start_*} et {@code arrival_*}),
+ * elle sert de mod&egrave;le de lecture &agrave; la recherche : ville, code postal et coordonn&eacute;es
+ * sont lus directement sur la table {@code route}, sans jointure sur {@code route_location}
+ * ni {@code location}. L'adresse compl&egrave;te reste dans {@link Location}.
+ * </p>
+ * <p>
+ * Les valeurs sont recopi&eacute;es depuis la {@link Location} correspondante
+ * &agrave; la cr&eacute;ation et &agrave; la modification du trajet.
+ * </p>
+ *
+ * @see Route
+ * @see Location
+ */
+@Embeddable
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class RouteEndpoint {
+
+    /** Nom de la ville, tel que saisi. */
+    @Column(length = 100)
+    private String cityName;
+
+    /**
+     * Cl&eacute; de recherche normalis&eacute;e du nom de la ville.
+     *
+     * @see CityKey
+     */
+    @Column(length = 100)
+    private String cityKey;
+
+    /** Code postal. */
+    @Column(length = 10)
+    private String postalCode;
+
+    /** Latitude GPS. */
+    private Double latitude;
+
+    /** Longitude GPS. */
+    private Double longitude;
+
+    /**
+     * Cellule de la grille g&eacute;ographique, utilis&eacute;e par la recherche par rayon.
+     *
+     * @see GeoGrid
+     */
+    private Long gridCell;
+
+    /**
+     * Recopie les champs de recherche d'une localisation, cl&eacute;s calcul&eacute;es comprises.
+     *
+     * @param location Localisation de d&eacute;part ou d'arriv&eacute;e du trajet.
+     * @return Le point de trajet correspondant, ou null si la localisation est null.
+     */
+    public static RouteEndpoint of(Location location) {
+        if (location == null) {
+            return null;
+        }
+        Double latitude = location.getLatitude();
+        Double longitude = location.getLongitude();
+        return new RouteEndpoint(
+                location.getCityName(),
+                CityKey.of(location.getCityName()),
+                location.getPostalCode(),
+                latitude,
+                longitude,
+                (latitude != null && longitude != null) ? GeoGrid.cellOf(latitude, longitude) : null);
+    }
+}
@@ -18,7 +18,9 @@ import lombok.*;
  * @see RouteLocationId
  */
 @Entity
-@Table(name = "route_location")
+@Table(name = "route_location", indexes = {
+        @Index(name = "idx_route_location_route_type", columnList = "id_route, type")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor
 public class RouteLocation {
 
@@ -2,6 +2,7 @@ package fr.cda.covoit_api.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -76,6 +77,16 @@ public class User {
     @Column(name = "last_login_at")
     private LocalDateTime lastLoginAt;
 
+    /**
+     * Version des jetons JWT du compte.
+     * <p>Incr&eacute;ment&eacute;e par la base (d&eacute;clencheur de {@code V6__user_token_version.sql})
+     * &agrave; chaque changement de mot de passe, de statut ou de r&ocirc;le : les jetons sign&eacute;s
+     * avec une version ant&eacute;rieure sont refus&eacute;s. Jamais &eacute;crite par l'application.</p>
+     */
+    @ColumnDefault("0")
+    @Column(name = "token_version", nullable = false, insertable = false, updatable = false)
+    private int tokenVersion;
+
     /**
      * Statut du compte utilisateur.
      * <p>
@@ -107,10 +118,12 @@ public class User {
      * <p>
      * Relation {@code OneToOne} invers&eacute;e avec suppression en cascade
      * et suppression des orphelins activ&eacute;e ({@code orphanRemoval = true}).
+     * Charg&eacute;e au premier acc&egrave;s gr&acirc;ce &agrave; l'enrichissement du bytecode (plugin Hibernate du pom) :
+     * l'authentification, qui ne lit que le compte, n'interroge pas {@code user_profil}.
      * </p>
      *
      * @see Profil
      */
-    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToOne(mappedBy = "user", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private Profil profil;
 }
\ No newline at end of file
@@ -9,7 +9,10 @@ import java.time.LocalDateTime;
  * Gère le cycle de vie de la participation d'un utilisateur (confirmé, annulé, etc.).
  */
 @Entity
-@Table(name = "user_route")
+@Table(name = "user_route", indexes = {
+        // Réservations d'un trajet (comptage des places, liste des passagers) : la clé primaire commence par id_profil
+        @Index(name = "idx_user_route_route_status", columnList = "id_route, status")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor
 public class UserRoute {
 
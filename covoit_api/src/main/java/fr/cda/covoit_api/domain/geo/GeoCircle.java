@@ -0,0 +1,144 @@
+package fr.cda.covoit_api.domain.geo;
+
+import fr.cda.covoit_api.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Zone de recherche circulaire autour d'un point : "dans un rayon de N km de ce point".
+ * <p>
+ * Fournit les cellules de {@link GeoGrid} qui recouvrent le cercle, ainsi que les termes
+ * d'une distance équirectangulaire (précise à mieux que 1 % sous {@value #MAX_RADIUS_KM} km)
+ * exprimée en degrés, pour que la base n'évalue qu'une expression arithmétique simple.
+ * </p>
+ * <p>
+ * Un cercle qui franchit l'antiméridien couvre les colonnes des deux bords de la grille, et la distance
+ * y est aussi calculée par rapport au centre décalé de 360° ({@link #centerLongitudes()}).
+ * Près des pôles, un degré de longitude se réduit à quelques kilomètres : le cercle couvre alors trop
+ * de cellules pour une liste fermée, et la recherche se rabat sur la bande de latitude ({@link #firstCell()},
+ * {@link #lastCell()}).
+ * </p>
+ *
+ * @param latitude  latitude du centre en degrés
+ * @param longitude longitude du centre en degrés
+ * @param radiusKm  rayon en kilomètres
+ */
+public record GeoCircle(double latitude, double longitude, double radiusKm) {
+
+    /** Rayon maximal accepté, qui borne le nombre de cellules à parcourir. */
+    public static final double MAX_RADIUS_KM = 100;
+
+    /**
+     * Nombre maximal de cellules passées en liste à la requête. Couvre le rayon maximal jusqu'à 52° de latitude
+     * environ (19 x 29 cellules à Paris) ; au-delà, la requête porte sur la bande de latitude.
+     */
+    public static final int MAX_CELLS = 600;
+
+    /**
+     * @throws BusinessException (400) si le centre ou le rayon sont hors limites.
+     */
+    public GeoCircle {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BusinessException("Coordonnées GPS invalides", HttpStatus.BAD_REQUEST);
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            throw new BusinessException("Le rayon doit être compris entre 0 et " + (int) MAX_RADIUS_KM + " km", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * @return identifiants des cellules de la grille qui intersectent le cercle,
+     *         ou vide s'il y en a plus de {@value #MAX_CELLS} (recherche par bande de latitude).
+     */
+    public Optional<List<Long>> cells() {
+        long minRow = GeoGrid.row(Math.max(-90, latitude - radiusDegrees()));
+        long maxRow = GeoGrid.row(Math.min(90, latitude + radiusDegrees()));
+        long minCol = GeoGrid.unboundedColumn(longitude - longitudeDelta());
+        long maxCol = GeoGrid.unboundedColumn(longitude + longitudeDelta());
+        if (maxCol - minCol + 1 >= GeoGrid.COLUMNS) {
+            minCol = 0;
+            maxCol = GeoGrid.COLUMNS - 1;
+        }
+
+        long count = (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        if (count > MAX_CELLS) {
+            return Optional.empty();
+        }
+        List<Long> cells = new ArrayList<>((int) count);
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                // Colonnes au-delà de ±180 : de l'autre côté de l'antiméridien
+                cells.add(row * GeoGrid.COLUMNS + Math.floorMod(col, GeoGrid.COLUMNS));
+            }
+        }
+        return Optional.of(cells);
+    }
+
+    /**
+     * @return première cellule de la bande de latitude couverte par le cercle (toutes longitudes).
+     */
+    public long firstCell() {
+        return GeoGrid.row(Math.max(-90, latitude - radiusDegrees())) * GeoGrid.COLUMNS;
+    }
+
+    /**
+     * @return dernière cellule de la bande de latitude couverte par le cercle (toutes longitudes).
+     */
+    public long lastCell() {
+        return (GeoGrid.row(Math.min(90, latitude + radiusDegrees())) + 1) * GeoGrid.COLUMNS - 1;
+    }
+
+    /**
+     * @return longitude du centre, plus le centre décalé de 360° de chaque côté de l'antiméridien que le cercle franchit :
+     *         la distance d'un point est la plus petite des distances à ces centres.
+     */
+    public List<Double> centerLongitudes() {
+        List<Double> centers = new ArrayList<>(3);
+        centers.add(longitude);
+        if (longitude + longitudeDelta() > 180) {
+            centers.add(longitude - 360);
+        }
+        if (longitude - longitudeDelta() < -180) {
+            centers.add(longitude + 360);
+        }
+        return centers;
+    }
+
+    /**
+     * @return facteur appliqué au carré de l'écart de longitude (cos² de la latitude du centre).
+     */
+    public double longitudeScale() {
+        double cos = Math.cos(Math.toRadians(latitude));
+        return cos * cos;
+    }
+
+    /**
+     * @return carré du rayon exprimé en degrés de latitude.
+     */
+    public double squaredRadiusDegrees() {
+        return radiusDegrees() * radiusDegrees();
+    }
+
+    /**
+     * @return true si le point est à moins de {@link #radiusKm()} du centre (même formule que la requête SQL).
+     */
+    public boolean contains(double pointLatitude, double pointLongitude) {
+        double dLat = pointLatitude - latitude;
+        return centerLongitudes().stream().anyMatch(center -> {
+            double dLon = pointLongitude - center;
+            return dLat * dLat + dLon * dLon * longitudeScale() <= squaredRadiusDegrees();
+        });
+    }
+
+    private double radiusDegrees() {
+        return radiusKm / GeoGrid.KM_PER_DEGREE;
+    }
+
+    // Demi-largeur du cercle en longitude, bornée à 180° (cercle qui entoure le pôle)
+    private double longitudeDelta() {
+        return Math.min(180, radiusDegrees() / Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+    }
+}
@@ -0,0 +1,53 @@
+package fr.cda.covoit_api.domain.geo;
+
+/**
+ * Grille géographique régulière utilisée comme index spatial des départs et arrivées de trajets.
+ * <p>
+ * La surface du globe est découpée en cellules de {@code 1 / CELLS_PER_DEGREE} degré de côté
+ * (environ 11 km en latitude). Chaque trajet stocke la cellule de son départ et de son arrivée
+ * ({@code route.start_grid_cell}, {@code route.arrival_grid_cell}, indexés) : une recherche par rayon se ramène
+ * à une liste fermée de cellules, puis à un filtre de distance exact sur les seules lignes de ces cellules.
+ * </p>
+ * <p>
+ * La formule doit rester identique à celle utilisée pour le rattrapage SQL de la migration {@code V3__search_keys_backfill.sql}.
+ * </p>
+ */
+public final class GeoGrid {
+
+    /** Nombre de cellules par degré : 10 cellules de 0,1° par degré. */
+    public static final int CELLS_PER_DEGREE = 10;
+
+    /** Nombre de colonnes de la grille (360° de longitude). */
+    static final long COLUMNS = 360L * CELLS_PER_DEGREE;
+
+    /** Longueur moyenne d'un degré de latitude, en kilomètres. */
+    public static final double KM_PER_DEGREE = 111.32;
+
+    private GeoGrid() {
+    }
+
+    /**
+     * Calcule l'identifiant de la cellule contenant un point.
+     *
+     * @param latitude  latitude en degrés, entre -90 et 90
+     * @param longitude longitude en degrés, entre -180 et 180
+     * @return identifiant de cellule (ligne * COLUMNS + colonne)
+     */
+    public static long cellOf(double latitude, double longitude) {
+        return row(latitude) * COLUMNS + column(longitude);
+    }
+
+    static long row(double latitude) {
+        return (long) Math.floor((latitude + 90) * CELLS_PER_DEGREE);
+    }
+
+    static long column(double longitude) {
+        // La longitude 180 est rattachée à la dernière colonne plutôt qu'à une colonne hors grille
+        return Math.min(unboundedColumn(longitude), COLUMNS - 1);
+    }
+
+    // Colonne d'une longitude hors de [-180, 180] (cercle qui franchit l'antiméridien), à ramener modulo COLUMNS
+    static long unboundedColumn(double longitude) {
+        return (long) Math.floor((longitude + 180) * CELLS_PER_DEGREE);
+    }
+}
@@ -0,0 +1,61 @@
+package fr.cda.covoit_api.domain.search;
+
+import fr.cda.covoit_api.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Clé de recherche normalisée d'un nom de ville.
+ * <p>
+ * Minuscules, sans accents, ponctuation et espaces multiples ramenés à un seul espace :
+ * "Saint-Étienne", "saint etienne" et "SAINT ETIENNE" donnent tous {@code "saint etienne"}.
+ * Stockée dans {@code route.start_city_key} et {@code route.arrival_city_key} (indexées) et appliquée aux critères de recherche,
+ * elle permet une égalité simple, donc un accès par index.
+ * </p>
+ */
+public final class CityKey {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+
+    private CityKey() {
+    }
+
+    /**
+     * @param cityName nom de ville tel que saisi
+     * @return la clé normalisée, ou null si le nom est null ou vide
+     */
+    public static String of(String cityName) {
+        if (cityName == null) {
+            return null;
+        }
+        String key = cityName.toLowerCase(Locale.ROOT)
+                .replace("œ", "oe")
+                .replace("æ", "ae");
+        key = DIACRITICS.matcher(Normalizer.normalize(key, Normalizer.Form.NFD)).replaceAll("");
+        key = SEPARATORS.matcher(key).replaceAll(" ").trim();
+        return key.isEmpty() ? null : key;
+    }
+
+    /**
+     * Clé d'un critère de recherche par ville.
+     *
+     * @param cityName nom de ville saisi comme critère
+     * @return la clé normalisée, ou null si aucun nom n'est saisi (critère absent)
+     * @throws BusinessException (400) si le nom saisi ne contient ni lettre ni chiffre :
+     *                           l'ignorer renverrait tous les trajets
+     */
+    public static String ofCriterion(String cityName) {
+        if (cityName == null || cityName.isBlank()) {
+            return null;
+        }
+        String key = of(cityName);
+        if (key == null) {
+            throw new BusinessException("Nom de ville invalide : " + cityName, HttpStatus.BAD_REQUEST);
+        }
+        return key;
+    }
+}
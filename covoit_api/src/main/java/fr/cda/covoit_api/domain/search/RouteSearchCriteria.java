@@ -0,0 +1,27 @@
+package fr.cda.covoit_api.domain.search;
+
+import fr.cda.covoit_api.domain.geo.GeoCircle;
+
+import java.time.LocalDate;
+
+/**
+ * Critères optionnels de recherche de trajets.
+ * Seuls les critères renseignés (non null) sont traduits en conditions dans la requête générée.
+ *
+ * @param startingCity nom de la ville de départ
+ * @param arrivalCity  nom de la ville d'arrivée
+ * @param tripDate     date du trajet
+ * @param departure    zone de départ (centre et rayon)
+ * @param arrival      zone d'arrivée (centre et rayon)
+ */
+public record RouteSearchCriteria(String startingCity, String arrivalCity, LocalDate tripDate,
+                                  GeoCircle departure, GeoCircle arrival) {
+
+    public static RouteSearchCriteria byCity(String startingCity, String arrivalCity, LocalDate tripDate) {
+        return new RouteSearchCriteria(startingCity, arrivalCity, tripDate, null, null);
+    }
+
+    public static RouteSearchCriteria byProximity(GeoCircle departure, GeoCircle arrival, LocalDate tripDate) {
+        return new RouteSearchCriteria(null, null, tripDate, departure, arrival);
+    }
+}
@@ -0,0 +1,10 @@
+package fr.cda.covoit_api.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class RefreshTokenRequest {
+    @NotBlank(message = "Le jeton de rafraîchissement est obligatoire")
+    private String refreshToken;
+}
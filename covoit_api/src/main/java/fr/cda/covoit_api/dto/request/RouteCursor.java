@@ -0,0 +1,70 @@
+package fr.cda.covoit_api.dto.request;
+
+import fr.cda.covoit_api.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Curseur de pagination par clé (keyset) pour la recherche de trajets.
+ * Désigne le dernier trajet renvoyé selon l'ordre (date, heure, identifiant) ;
+ * la page suivante commence strictement après lui.
+ * Transmis au client sous forme d'une chaîne opaque encodée en Base64 URL.
+ *
+ * @param date date du dernier trajet renvoyé
+ * @param hour heure du dernier trajet renvoyé
+ * @param id   identifiant du dernier trajet renvoyé
+ */
+public record RouteCursor(LocalDate date, LocalTime hour, Integer id) {
+
+    /** Nombre de trajets par page lorsque le client n'en précise pas. */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    /** Nombre maximal de trajets par page. */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = date + SEPARATOR + hour + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Décode un curseur reçu du client.
+     *
+     * @param token curseur opaque, ou null pour la première page
+     * @return le curseur décodé, ou null si aucun curseur n'est fourni
+     * @throws BusinessException (400) si le curseur est illisible
+     */
+    public static RouteCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new RouteCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Integer.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException("Curseur de pagination invalide", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Vérifie la taille de page demandée par le client.
+     *
+     * @param size nombre de trajets par page
+     * @throws BusinessException (400) si la taille n'est pas comprise entre 1 et {@value #MAX_PAGE_SIZE}
+     */
+    public static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException("La taille de page doit être comprise entre 1 et " + MAX_PAGE_SIZE, HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -16,6 +16,10 @@ import lombok.NoArgsConstructor;
 public class AuthResponse {
     /** Token JWT (Json Web Token) à inclure dans le header 'Authorization'. */
     private String token;
+    /** Durée de validité du token JWT, en secondes. */
+    private long expiresIn;
+    /** Jeton de rafraîchissement, à usage unique, échangé contre un nouveau token sur {@code POST /refresh}. */
+    private String refreshToken;
     /** Email de l'utilisateur pour la gestion du profil côté client. */
     private String email;
     /** Rôle principal de l'utilisateur (ADMIN, USER) pour le contrôle d'UI. */
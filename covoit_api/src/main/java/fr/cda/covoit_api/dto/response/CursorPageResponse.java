@@ -0,0 +1,22 @@
+package fr.cda.covoit_api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Page de résultats paginée par curseur.
+ *
+ * @param <T> type des éléments de la page
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponse<T> {
+    /** Éléments de la page courante, dans l'ordre de tri. */
+    private List<T> content;
+    /** Curseur à renvoyer pour obtenir la page suivante, null s'il n'y en a pas. */
+    private String next;
+}
@@ -1,12 +1,17 @@
 package fr.cda.covoit_api.dto.response;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 /**
  * DTO détaillant l'état d'une réservation effectuée par un passager.
  */
 @Data
+@NoArgsConstructor
 public class ReservationResponse {
 
     private Integer routeId;
@@ -22,4 +27,20 @@ public class ReservationResponse {
     private String tripDate;
     /** Nom du conducteur */
     private String driverName;
-}
\ No newline at end of file
+
+    /**
+     * Construit une ligne de réservation directement depuis la requête de projection
+     * {@code UserRouteRepository.findReservationsByPassengerId}, sans charger les entités.
+     */
+    public ReservationResponse(Integer routeId, String status, LocalDateTime createdAt,
+                               String departureCity, String arrivalCity, LocalDate date, LocalTime hour,
+                               String driverFirstname, String driverLastname) {
+        this.routeId = routeId;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.departureCity = departureCity;
+        this.arrivalCity = arrivalCity;
+        this.tripDate = date + " " + hour;
+        this.driverName = driverFirstname + " " + driverLastname;
+    }
+}
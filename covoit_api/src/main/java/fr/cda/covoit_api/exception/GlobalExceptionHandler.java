@@ -1,8 +1,11 @@
 package fr.cda.covoit_api.exception;
 
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -35,4 +38,14 @@ public class GlobalExceptionHandler {
         error.put(ERROR_MESSAGE, "Impossible de supprimer cette ressource car elle est utilisée par d'autres éléments.");
         return new ResponseEntity<>(error, HttpStatus.CONFLICT); // Code 409
     }
-}
\ No newline at end of file
+
+    // Pool de connexions saturé (connection-timeout dépassé) ou base injoignable : le client peut réessayer
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<Map<String, String>> handleDatabaseUnavailable(Exception ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put(ERROR_MESSAGE, "Service momentanément indisponible, veuillez réessayer");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+}
@@ -2,6 +2,7 @@ package fr.cda.covoit_api.repository;
 
 import fr.cda.covoit_api.domain.entity.Model;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
@@ -9,4 +10,8 @@ import java.util.List;
 public interface ModelRepository extends JpaRepository<Model, Integer> {
     // Utile pour filtrer les modèles par marque dans l'IHM plus tard
     List<Model> findByBrandId(Integer brandId);
+
+    // Chargement du catalogue : marque incluse, en une requête
+    @Query("SELECT m FROM Model m JOIN FETCH m.brand ORDER BY m.id")
+    List<Model> findAllWithBrand();
 }
\ No newline at end of file
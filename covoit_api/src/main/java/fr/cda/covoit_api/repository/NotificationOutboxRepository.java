@@ -0,0 +1,38 @@
+package fr.cda.covoit_api.repository;
+
+import fr.cda.covoit_api.domain.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * Identifiants des événements en attente (ni traités ni écartés) dont le délai avant nouvelle tentative
+     * est écoulé, dans l'ordre de création. Sans verrou : chaque événement est ensuite verrouillé
+     * dans sa propre transaction ({@link #lockPending}).
+     */
+    @Query(value = "SELECT id_outbox FROM notification_outbox WHERE processed_at IS NULL AND failed_at IS NULL " +
+            "AND (next_attempt_at IS NULL OR next_attempt_at <= :now) ORDER BY id_outbox LIMIT :limit", nativeQuery = true)
+    List<Long> findPendingIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Verrouille un événement s'il est toujours en attente.
+     * Une ligne déjà verrouillée par un autre nœud est sautée (SKIP LOCKED) :
+     * plusieurs instances de l'API se partagent la file sans se bloquer ni traiter deux fois le même événement.
+     * Doit être appelée dans une transaction, le verrou étant relâché au commit.
+     */
+    @Query(value = "SELECT * FROM notification_outbox WHERE id_outbox = :id " +
+            "AND processed_at IS NULL AND failed_at IS NULL FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<NotificationOutbox> lockPending(@Param("id") long id);
+
+    long countByProcessedAtIsNullAndFailedAtIsNull();
+
+    long countByFailedAtIsNotNull();
+}
@@ -0,0 +1,9 @@
+package fr.cda.covoit_api.repository;
+
+import fr.cda.covoit_api.domain.entity.Notification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Integer> {
+}
@@ -0,0 +1,36 @@
+package fr.cda.covoit_api.repository;
+
+import fr.cda.covoit_api.domain.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    // Révocations encore actives (rechargement complet)
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    // Révocations récentes encore actives (relecture incrémentale)
+    List<RevokedToken> findByRevokedAtGreaterThanEqualAndExpiresAtAfter(LocalDateTime since, LocalDateTime now);
+
+    /**
+     * Inscrit la révocation si le token n'est pas déjà révoqué (contrainte UNIQUE sur jti),
+     * sans lever d'erreur en cas de déconnexions concurrentes avec le même token.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO revoked_token (jti, id_account, expires_at, revoked_at) " +
+            "VALUES (:jti, :accountId, :expiresAt, :revokedAt) ON CONFLICT (jti) DO NOTHING", nativeQuery = true)
+    void insertIfAbsent(@Param("jti") UUID jti, @Param("accountId") Integer accountId,
+                        @Param("expiresAt") LocalDateTime expiresAt, @Param("revokedAt") LocalDateTime revokedAt);
+
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -3,10 +3,32 @@ package fr.cda.covoit_api.repository;
 import fr.cda.covoit_api.domain.entity.RouteLocation;
 import fr.cda.covoit_api.domain.entity.RouteLocationId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface RouteLocationRepository extends JpaRepository<RouteLocation, RouteLocationId> {
 
     List<RouteLocation> findByIdRouteId(Integer routeId);
-}
\ No newline at end of file
+
+    /**
+     * Charge en une seule requête les liens départ/arrivée d'un ensemble de trajets,
+     * avec tout le graphe nécessaire à {@code EntityMapper.toRouteResponse} :
+     * adresse, trajet, icône, conducteur, compte, véhicule, modèle et marque.
+     */
+    @Query("SELECT rl FROM RouteLocation rl " +
+            "JOIN FETCH rl.location " +
+            "JOIN FETCH rl.route r " +
+            "JOIN FETCH r.icon " +
+            "JOIN FETCH r.driver d " +
+            "JOIN FETCH d.user u " +
+            "JOIN FETCH u.status " +
+            "JOIN FETCH u.role " +
+            "LEFT JOIN FETCH d.vehicle v " +
+            "LEFT JOIN FETCH v.model m " +
+            "LEFT JOIN FETCH m.brand " +
+            "WHERE rl.id.routeId IN :routeIds")
+    List<RouteLocation> findWithRouteDetailsByRouteIdIn(@Param("routeIds") Collection<Integer> routeIds);
+}
@@ -2,34 +2,36 @@ package fr.cda.covoit_api.repository;
 
 import fr.cda.covoit_api.domain.entity.Route;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface RouteRepository extends JpaRepository<Route, Integer> {
+public interface RouteRepository extends JpaRepository<Route, Integer>, RouteSearchRepository {
 
     /**
-     * Recherche des trajets en filtrant par ville de départ, ville d'arrivée et date.
-     * Cette requête effectue des jointures sur la table d'association RouteLocation.
+     * Récupère tous les trajets créés par un conducteur spécifique
      */
-    @Query("SELECT DISTINCT r FROM Route r " +
-            "JOIN RouteLocation rlStart ON r.id = rlStart.route.id AND rlStart.type = 'starting' " +
-            "JOIN RouteLocation rlEnd ON r.id = rlEnd.route.id AND rlEnd.type = 'arrival' " +
-            "WHERE (:startCity IS NULL OR LOWER(CAST(rlStart.location.cityName AS string)) = LOWER(CAST(:startCity AS string))) " +
-            "AND (:endCity IS NULL OR LOWER(CAST(rlEnd.location.cityName AS string)) = LOWER(CAST(:endCity AS string))) " +
-            "AND (CAST(:tripDate AS date) IS NULL OR r.date = :tripDate)")
-    List<Route> findBySearchCriteria(
-            @Param("startCity") String startCity,
-            @Param("endCity") String endCity,
-            @Param("tripDate") LocalDate tripDate
-    );
+    List<Route> findByDriverId(Integer driverId);
 
     /**
-     * Récupère tous les trajets créés par un conducteur spécifique
+     * Retire une place au trajet s'il en reste au moins une.
+     * La condition et la décrémentation sont évaluées par la base dans un seul UPDATE :
+     * deux réservations concurrentes ne peuvent pas prendre la même dernière place.
+     *
+     * @return 1 si une place a été prise, 0 si le trajet est complet ou inexistant
      */
-    List<Route> findByDriverId(Integer driverId);
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Route r SET r.place = r.place - 1 WHERE r.id = :routeId AND r.place > 0")
+    int decrementPlaceIfAvailable(@Param("routeId") Integer routeId);
+
+    /**
+     * Rend une place au trajet (annulation d'une réservation), sans relire la valeur courante.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Route r SET r.place = r.place + 1 WHERE r.id = :routeId")
+    int incrementPlace(@Param("routeId") Integer routeId);
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package fr.cda.covoit_api.repository;
+
+import fr.cda.covoit_api.domain.search.RouteSearchCriteria;
+import fr.cda.covoit_api.dto.request.RouteCursor;
+
+import java.util.List;
+
+/**
+ * Fragment de {@link RouteRepository} pour la recherche de trajets à critères optionnels
+ * et pour les historiques conducteur et passager, paginés par clé.
+ * La requête est générée à la volée : seuls les critères renseignés produisent des jointures et des conditions,
+ * si bien que chaque combinaison de filtres obtient sa propre requête SQL et son propre plan d'exécution.
+ */
+public interface RouteSearchRepository {
+
+    /**
+     * Recherche les clés (date, heure, identifiant) des trajets correspondant aux critères, triées dans cet ordre.
+     * Chaque clé peut servir de curseur de la page suivante.
+     *
+     * @param criteria critères de recherche, tous optionnels
+     * @param after    curseur du dernier trajet déjà renvoyé, null pour la première page
+     * @param limit    nombre maximal de clés renvoyées
+     * @return les clés des trajets, dans l'ordre de tri
+     */
+    List<RouteCursor> findKeysByCriteria(RouteSearchCriteria criteria, RouteCursor after, int limit);
+
+    /**
+     * Clés des trajets proposés par un conducteur, avec le même tri et la même pagination
+     * que {@link #findKeysByCriteria}.
+     *
+     * @param driverId identifiant du profil conducteur
+     * @param after    curseur du dernier trajet déjà renvoyé, null pour la première page
+     * @param limit    nombre maximal de clés renvoyées
+     * @return les clés des trajets, dans l'ordre de tri
+     */
+    List<RouteCursor> findKeysByDriver(Integer driverId, RouteCursor after, int limit);
+
+    /**
+     * Clés des trajets réservés par un passager (quel que soit le statut de la réservation),
+     * avec le même tri et la même pagination que {@link #findKeysByCriteria}.
+     *
+     * @param passengerId identifiant du profil passager
+     * @param after       curseur du dernier trajet déjà renvoyé, null pour la première page
+     * @param limit       nombre maximal de clés renvoyées
+     * @return les clés des trajets, dans l'ordre de tri
+     */
+    List<RouteCursor> findKeysByPassenger(Integer passengerId, RouteCursor after, int limit);
+}
@@ -0,0 +1,126 @@
+package fr.cda.covoit_api.repository;
+
+import fr.cda.covoit_api.domain.entity.Route;
+import fr.cda.covoit_api.domain.entity.UserRoute;
+import fr.cda.covoit_api.domain.geo.GeoCircle;
+import fr.cda.covoit_api.domain.search.CityKey;
+import fr.cda.covoit_api.domain.search.RouteSearchCriteria;
+import fr.cda.covoit_api.dto.request.RouteCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implémentation Criteria API de {@link RouteSearchRepository}.
+ * <p>
+ * La recherche ne lit que la table {@code route} : départ et arrivée y sont dénormalisés
+ * ({@link fr.cda.covoit_api.domain.entity.RouteEndpoint}, colonnes {@code start_*} et {@code arrival_*}).
+ * Les villes sont comparées par égalité sur les clés normalisées indexées,
+ * les zones géographiques par appartenance aux cellules de grille (indexées) puis par une distance exacte.
+ * Près des pôles, où un cercle couvre trop de cellules pour une liste, la grille est lue par bande de latitude.
+ * </p>
+ */
+public class RouteSearchRepositoryImpl implements RouteSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<RouteCursor> findKeysByCriteria(RouteSearchCriteria criteria, RouteCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RouteCursor> query = cb.createQuery(RouteCursor.class);
+        Root<Route> route = query.from(Route.class);
+        List<Predicate> predicates = new ArrayList<>();
+
+        addEndpointPredicates(cb, route.get("departure"), CityKey.ofCriterion(criteria.startingCity()), criteria.departure(), predicates);
+        addEndpointPredicates(cb, route.get("arrival"), CityKey.ofCriterion(criteria.arrivalCity()), criteria.arrival(), predicates);
+
+        if (criteria.tripDate() != null) {
+            predicates.add(cb.equal(route.get("date"), criteria.tripDate()));
+        }
+
+        return keysetPage(cb, query, route, predicates, after, limit);
+    }
+
+    @Override
+    public List<RouteCursor> findKeysByDriver(Integer driverId, RouteCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RouteCursor> query = cb.createQuery(RouteCursor.class);
+        Root<Route> route = query.from(Route.class);
+        List<Predicate> predicates = new ArrayList<>();
+
+        predicates.add(cb.equal(route.get("driver").get("id"), driverId));
+
+        return keysetPage(cb, query, route, predicates, after, limit);
+    }
+
+    @Override
+    public List<RouteCursor> findKeysByPassenger(Integer passengerId, RouteCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RouteCursor> query = cb.createQuery(RouteCursor.class);
+        Root<Route> route = query.from(Route.class);
+        List<Predicate> predicates = new ArrayList<>();
+
+        // Une réservation au plus par (passager, trajet) : la jointure ne duplique pas les trajets
+        Join<Route, UserRoute> reservation = route.join("passengers");
+        predicates.add(cb.equal(reservation.get("passenger").get("id"), passengerId));
+
+        return keysetPage(cb, query, route, predicates, after, limit);
+    }
+
+    // Tri, curseur et limite communs à toutes les listes de trajets
+    private List<RouteCursor> keysetPage(CriteriaBuilder cb, CriteriaQuery<RouteCursor> query, Root<Route> route,
+                                         List<Predicate> predicates, RouteCursor after, int limit) {
+        Path<LocalDate> date = route.get("date");
+        Path<LocalTime> hour = route.get("hour");
+        Path<Integer> id = route.get("id");
+
+        // Pagination par clé : strictement après (date, heure, identifiant) du curseur
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(date, after.date()),
+                    cb.and(cb.equal(date, after.date()), cb.or(
+                            cb.greaterThan(hour, after.hour()),
+                            cb.and(cb.equal(hour, after.hour()), cb.greaterThan(id, after.id()))))));
+        }
+
+        query.select(cb.construct(RouteCursor.class, date, hour, id))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(date), cb.asc(hour), cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // Conditions sur le point de départ ou d'arrivée dénormalisé du trajet
+    private void addEndpointPredicates(CriteriaBuilder cb, Path<?> endpoint,
+                                       String cityKey, GeoCircle circle, List<Predicate> predicates) {
+        if (cityKey != null) {
+            predicates.add(cb.equal(endpoint.get("cityKey"), cityKey));
+        }
+        if (circle != null) {
+            Path<Long> gridCell = endpoint.get("gridCell");
+            predicates.add(circle.cells()
+                    .map(gridCell::in)
+                    .orElseGet(() -> cb.between(gridCell, circle.firstCell(), circle.lastCell())));
+
+            Expression<Double> dLat = cb.diff(endpoint.<Double>get("latitude"), circle.latitude());
+            Predicate[] withinRadius = circle.centerLongitudes().stream()
+                    .map(center -> {
+                        Expression<Double> dLon = cb.diff(endpoint.<Double>get("longitude"), center);
+                        Expression<Double> squaredDistance = cb.sum(
+                                cb.prod(dLat, dLat),
+                                cb.prod(cb.prod(dLon, dLon), circle.longitudeScale()));
+                        return cb.le(squaredDistance, circle.squaredRadiusDegrees());
+                    })
+                    .toArray(Predicate[]::new);
+            predicates.add(withinRadius.length == 1 ? withinRadius[0] : cb.or(withinRadius));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package fr.cda.covoit_api.repository;
+
+import fr.cda.covoit_api.domain.entity.TypeNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface TypeNotificationRepository extends JpaRepository<TypeNotification, Integer> {
+    Optional<TypeNotification> findByLabel(String label);
+}
@@ -0,0 +1,12 @@
+package fr.cda.covoit_api.repository;
+
+import fr.cda.covoit_api.domain.entity.UserNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface UserNotificationRepository extends JpaRepository<UserNotification, Integer> {
+    // Boîte de réception d'un compte
+    List<UserNotification> findByUserId(Integer accountId);
+}
@@ -1,11 +1,13 @@
 package fr.cda.covoit_api.repository;
 
 import fr.cda.covoit_api.domain.entity.User;
-import fr.cda.covoit_api.domain.entity.UserRoute;
+import fr.cda.covoit_api.security.AccountState;
+import fr.cda.covoit_api.security.AuthenticatedUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +16,37 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findByToken(String token);
     boolean existsByEmail(String email);
     Optional<User> findByResetPasswordToken(String resetPasswordToken);
-}
\ No newline at end of file
+
+    // Principal de sécurité en une requête : compte, rôle, statut et identifiant du profil (null si pas de profil)
+    @Query("""
+            SELECT new fr.cda.covoit_api.security.AuthenticatedUser(
+                u.id, p.id, u.email, u.password, r.label, s.label, u.tokenVersion)
+            FROM User u
+            JOIN u.role r
+            JOIN u.status s
+            LEFT JOIN u.profil p
+            WHERE u.email = :email
+            """)
+    Optional<AuthenticatedUser> findPrincipalByEmail(@Param("email") String email);
+
+    // Même principal, retrouvé par identifiant de compte (échange d'un jeton de rafraîchissement)
+    @Query("""
+            SELECT new fr.cda.covoit_api.security.AuthenticatedUser(
+                u.id, p.id, u.email, u.password, r.label, s.label, u.tokenVersion)
+            FROM User u
+            JOIN u.role r
+            JOIN u.status s
+            LEFT JOIN u.profil p
+            WHERE u.id = :id
+            """)
+    Optional<AuthenticatedUser> findPrincipalById(@Param("id") Integer id);
+
+    // Version des jetons et profil d'un compte, pour valider un JWT (vide si le compte a été supprimé)
+    @Query("""
+            SELECT new fr.cda.covoit_api.security.AccountState(u.tokenVersion, p.id)
+            FROM User u
+            LEFT JOIN u.profil p
+            WHERE u.id = :id
+            """)
+    Optional<AccountState> findAccountStateById(@Param("id") Integer id);
+}
@@ -2,7 +2,11 @@ package fr.cda.covoit_api.repository;
 
 import fr.cda.covoit_api.domain.entity.UserRoute;
 import fr.cda.covoit_api.domain.entity.UserRouteId;
+import fr.cda.covoit_api.dto.response.ReservationResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
@@ -18,4 +22,26 @@ public interface UserRouteRepository extends JpaRepository<UserRoute, UserRouteI
     List<UserRoute> findByRouteId(Integer routeId);
 
     List<UserRoute> findByPassengerIdAndStatusNot(Integer id, String cancelled);
-}
\ No newline at end of file
+
+    // Réservations actives d'un passager en une seule requête (trajet, conducteur, villes de départ et d'arrivée),
+    // projetées directement en DTO : pas de chargement paresseux par réservation
+    @Query("""
+            SELECT new fr.cda.covoit_api.dto.response.ReservationResponse(
+                r.id, ur.status, ur.createdAt, sl.cityName, al.cityName, r.date, r.hour, d.firstname, d.lastname)
+            FROM UserRoute ur
+            JOIN ur.route r
+            JOIN r.driver d
+            LEFT JOIN RouteLocation s ON s.route = r AND s.type = 'starting'
+            LEFT JOIN s.location sl
+            LEFT JOIN RouteLocation a ON a.route = r AND a.type = 'arrival'
+            LEFT JOIN a.location al
+            WHERE ur.passenger.id = :profilId AND ur.status <> 'cancelled'
+            ORDER BY r.date, r.hour, r.id
+            """)
+    List<ReservationResponse> findReservationsByPassengerId(@Param("profilId") Integer profilId);
+
+    // Annule la réservation si elle ne l'est pas déjà (0 si une annulation concurrente est passée avant)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserRoute ur SET ur.status = 'cancelled' WHERE ur.id = :id AND ur.status <> 'cancelled'")
+    int cancelIfActive(@Param("id") UserRouteId id);
+}
@@ -9,6 +9,6 @@ import java.util.Optional;
 public interface VehicleRepository extends JpaRepository<Vehicle, Integer> {
     boolean existsByOwnerId(Integer profilId);
 
-    // Recherche le véhicule par l'email du compte utilisateur
-    Optional<Vehicle> findByOwnerUserEmail(String email);
+    // Recherche le véhicule par l'identifiant du profil propriétaire (colonne Id_profil, sans jointure)
+    Optional<Vehicle> findByOwnerId(Integer profilId);
 }
\ No newline at end of file
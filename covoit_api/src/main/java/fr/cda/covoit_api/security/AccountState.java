@@ -0,0 +1,10 @@
+package fr.cda.covoit_api.security;
+
+/**
+ * État courant d'un compte, comparé aux claims d'un JWT.
+ *
+ * @param tokenVersion version courante des jetons du compte
+ * @param profilId     identifiant du profil, {@code null} si le compte n'en a pas
+ */
+public record AccountState(int tokenVersion, Integer profilId) {
+}
@@ -0,0 +1,67 @@
+package fr.cda.covoit_api.security;
+
+import fr.cda.covoit_api.exception.BusinessException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+
+/**
+ * Utilisateur authentifié, principal du {@code SecurityContext} pendant toute la requête.
+ * <p>
+ * Porte, en plus de l'email et des droits, les identifiants du compte et du profil : les contrôleurs
+ * le reçoivent par {@code @AuthenticationPrincipal} et les services comparent des identifiants
+ * (propriétaire d'un trajet, d'un véhicule, d'un profil) sans relire le profil par email ni parcourir
+ * {@code route.driver.user}. Construit en une requête par {@link CustomUserDetailsService} à la connexion,
+ * puis reconstruit à chaque requête depuis les claims du JWT ({@link JwtTokenProvider#toPrincipal}).
+ * </p>
+ */
+@Getter
+public class AuthenticatedUser extends User {
+
+    private final Integer accountId;
+
+    /** Identifiant du profil, {@code null} tant que le compte n'a pas créé son profil. */
+    private final Integer profilId;
+
+    private final String role;
+    private final String status;
+
+    /** Version des jetons du compte, recopiée dans le JWT et comparée à la version courante. */
+    private final int tokenVersion;
+
+    public AuthenticatedUser(Integer accountId, Integer profilId, String email, String password,
+                             String role, String status, int tokenVersion) {
+        super(email, password,
+                "ACTIVE".equalsIgnoreCase(status),
+                true,
+                true,
+                !"BANNED".equalsIgnoreCase(status),
+                List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+        this.accountId = accountId;
+        this.profilId = profilId;
+        this.role = role;
+        this.status = status;
+        this.tokenVersion = tokenVersion;
+    }
+
+    /**
+     * @return le même utilisateur, rattaché au profil créé après la signature de son jeton
+     */
+    public AuthenticatedUser withProfilId(Integer profilId) {
+        return new AuthenticatedUser(accountId, profilId, getUsername(), getPassword(), role, status, tokenVersion);
+    }
+
+    /**
+     * @return l'identifiant du profil
+     * @throws BusinessException (404) si le compte n'a pas encore de profil
+     */
+    public Integer requireProfilId() {
+        if (profilId == null) {
+            throw new BusinessException("Profil non trouvé", HttpStatus.NOT_FOUND);
+        }
+        return profilId;
+    }
+}
@@ -1,11 +1,8 @@
 package fr.cda.covoit_api.security;
 
-import fr.cda.covoit_api.domain.entity.User;
 import fr.cda.covoit_api.repository.UserRepository;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
-import java.util.Collections;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
@@ -17,22 +14,9 @@ public class CustomUserDetailsService implements UserDetailsService {
     }
 
     @Override
-    public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+    public AuthenticatedUser loadUserByUsername(String email) throws UsernameNotFoundException {
+        // Compte activé si ACTIVE, verrouillé si BANNED (voir AuthenticatedUser)
+        return userRepository.findPrincipalByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("Utilisateur non trouvé avec l'email: " + email));
-
-        boolean isEnabled = "ACTIVE".equalsIgnoreCase(user.getStatus().getLabel());
-
-        boolean isAccountNonLocked = !"BANNED".equalsIgnoreCase(user.getStatus().getLabel());
-
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                isEnabled,
-                true,
-                true,
-                isAccountNonLocked,
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().getLabel()))
-        );
     }
-}
\ No newline at end of file
+}
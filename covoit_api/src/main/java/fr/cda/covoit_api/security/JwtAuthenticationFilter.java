@@ -1,25 +1,31 @@
 package fr.cda.covoit_api.security;
 
+import fr.cda.covoit_api.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList revocationList;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserRepository userRepository,
+                                   PrincipalCache principalCache, TokenRevocationList revocationList) {
         this.tokenProvider = tokenProvider;
-        this.userDetailsService = userDetailsService;
+        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.revocationList = revocationList;
     }
 
     @Override
@@ -37,17 +43,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
 
-            if (tokenProvider.validateToken(token)) {
-                String email = tokenProvider.getEmailFromToken(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            // Une seule analyse du token, révocation vérifiée en mémoire, principal construit depuis ses claims,
+            // version vérifiée en cache
+            tokenProvider.parseAndValidate(token)
+                    .filter(claims -> !revocationList.isRevoked(claims.getId()))
+                    .flatMap(tokenProvider::toPrincipal)
+                    .flatMap(this::checkTokenVersion)
+                    .ifPresent(user -> {
+                        UsernamePasswordAuthenticationToken authentication =
+                                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
 
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    });
         }
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    // Jeton révoqué (version dépassée) ou compte supprimé : la requête reste anonyme
+    private Optional<AuthenticatedUser> checkTokenVersion(AuthenticatedUser claimed) {
+        return principalCache.get(claimed.getAccountId(), userRepository::findAccountStateById)
+                .filter(state -> state.tokenVersion() == claimed.getTokenVersion())
+                .map(state -> claimed.getProfilId() == null && state.profilId() != null
+                        // Profil créé après la connexion : le token n'en porte pas encore l'identifiant
+                        ? claimed.withProfilId(state.profilId())
+                        : claimed);
+    }
+}
@@ -4,60 +4,111 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Composant utilitaire pour la génération et la validation des tokens JWT.
  * Utilise l'algorithme HS256 avec une clé secrète configurée.
+ * <p>
+ * La clé HMAC et le parser sont construits une seule fois au démarrage puis partagés
+ * (tous deux immuables et thread-safe) : aucune dérivation de clé ni construction de parser par requête.
+ * Un secret absent ou trop court (moins de 32 octets) empêche le démarrage de l'application.
+ * </p>
+ * <p>
+ * Le token porte l'identifiant du compte, celui du profil, le rôle et la version des jetons du compte :
+ * le filtre construit l'{@code Authentication} à partir de ces claims vérifiés, sans relire le compte.
+ * Seuls les comptes actifs obtiennent un token, et tout changement de statut, de rôle ou de mot de passe
+ * incrémente la version (voir {@code User.tokenVersion}).
+ * </p>
+ * <p>
+ * Le token d'accès ne vit que quelques minutes ({@code jwt.access-token.ttl-seconds}) ; le client le renouvelle
+ * avec son jeton de rafraîchissement ({@link fr.cda.covoit_api.service.interfaces.IRefreshTokenService}).
+ * </p>
  */
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret:}")
-    private String JWT_SECRET;
-    private final long JWT_EXPIRATION = 86400000L; // 24h
+    private static final String CLAIM_ACCOUNT_ID = "uid";
+    private static final String CLAIM_PROFIL_ID = "pid";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_TOKEN_VERSION = "ver";
+
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final long expirationSeconds;
+
+    public JwtTokenProvider(@Value("${jwt.secret:}") String secret,
+                            @Value("${jwt.access-token.ttl-seconds:900}") long expirationSeconds) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.expirationSeconds = expirationSeconds;
+    }
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(JWT_SECRET.getBytes());
+    /**
+     * @return durée de validité d'un token, en secondes
+     */
+    public long getExpirationSeconds() {
+        return expirationSeconds;
     }
 
     /**
-     * Génère un token JWT signé pour un email utilisateur donné.
+     * Génère un token JWT signé pour un utilisateur authentifié.
      *
-     * @param email Sujet (Subject) du token.
+     * @param user Utilisateur : email en sujet (Subject), identifiants, rôle et version des jetons en claims.
+     *             Chaque token reçoit un identifiant unique (jti), inscrit dans {@link TokenRevocationList} à la déconnexion.
      * @return Chaîne de caractères représentant le JWT.
      */
-    public String generateToken(String email) {
-        return Jwts.builder()
-                .setSubject(email)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRATION))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+    public String generateToken(AuthenticatedUser user) {
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getUsername())
+                .claim(CLAIM_ACCOUNT_ID, user.getAccountId())
+                .claim(CLAIM_ROLE, user.getRole())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion());
+        if (user.getProfilId() != null) {
+            builder.claim(CLAIM_PROFIL_ID, user.getProfilId());
+        }
+        long now = System.currentTimeMillis();
+        return builder
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expirationSeconds * 1000))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-
     /**
-     * Valide l'intégrité et l'expiration d'un token.
+     * Vérifie la signature et l'expiration du token et en extrait les claims, en une seule analyse.
      *
      * @param token Le JWT à vérifier.
-     * @return true si le token est valide, false en cas d'erreur de signature ou d'expiration.
+     * @return les claims du token (sujet, émission, expiration), ou vide si la signature ou l'expiration sont invalides.
      */
-    public boolean validateToken(String token) {
+    public Optional<Claims> parseAndValidate(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token);
-            return true;
+            return Optional.of(parser.parseClaimsJws(token).getBody());
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reconstruit l'utilisateur à partir des claims d'un token déjà vérifié par {@link #parseAndValidate}.
+     *
+     * @param claims Claims d'un token valide.
+     * @return l'utilisateur (sans mot de passe), ou vide pour un token émis sans ces claims (ancien format).
+     */
+    public Optional<AuthenticatedUser> toPrincipal(Claims claims) {
+        Integer accountId = claims.get(CLAIM_ACCOUNT_ID, Integer.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        Integer tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Integer.class);
+        if (accountId == null || role == null || tokenVersion == null) {
+            return Optional.empty();
         }
+        return Optional.of(new AuthenticatedUser(accountId, claims.get(CLAIM_PROFIL_ID, Integer.class),
+                claims.getSubject(), "", role, "ACTIVE", tokenVersion));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package fr.cda.covoit_api.security;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Cache de l'état des comptes authentifiés ({@link AccountState}), indexé par identifiant de compte.
+ * <p>
+ * Le principal de chaque requête est reconstruit depuis les claims du JWT ; ce cache ne sert qu'à vérifier
+ * que la version du jeton est toujours la version courante du compte, sans lecture de {@code user_account}
+ * à chaque requête. Un compte supprimé est mis en cache comme absent. Taille bornée et expiration après
+ * écriture : une modification faite hors de l'application (rôle ou statut changé par script) est prise en
+ * compte au plus tard après le TTL. Les services qui changent le mot de passe d'un compte, lui créent un
+ * profil ou le suppriment appellent {@link #evict(Integer)}.
+ * </p>
+ * <p>
+ * Métriques Micrometer {@code cache.*} avec le tag {@code cache=principals} (taux de succès, évictions).
+ * </p>
+ * <p>
+ * Le chargement s'exécute sur l'exécuteur de tâches de l'application, hors du verrou de la table de hachage :
+ * une lecture en base sous {@code synchronized} bloquerait le thread porteur d'un thread virtuel (JDK &lt; 24).
+ * Les requêtes concurrentes pour le même compte attendent le même chargement.
+ * </p>
+ */
+@Component
+public class PrincipalCache {
+
+    private final AsyncCache<Integer, Optional<AccountState>> cache;
+
+    public PrincipalCache(MeterRegistry meterRegistry,
+                          @Qualifier("applicationTaskExecutor") Executor executor,
+                          @Value("${covoit.security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                          @Value("${covoit.security.principal-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .executor(executor)
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    /**
+     * @param accountId identifiant du compte (claim {@code uid} du token)
+     * @param loader    chargement depuis la base en cas d'absence
+     * @return l'état du compte en cache ou fraîchement chargé, vide si le compte n'existe plus
+     */
+    public Optional<AccountState> get(Integer accountId, Function<Integer, Optional<AccountState>> loader) {
+        try {
+            return cache.get(accountId, (key, executor) -> CompletableFuture.supplyAsync(() -> loader.apply(key), executor))
+                    .join();
+        } catch (CompletionException e) {
+            // Exception du chargement relancée telle quelle, comme un appel direct
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Retire un compte du cache.
+     * <p>
+     * Dans une transaction, l'éviction est répétée après le commit : une requête concurrente
+     * qui aurait rechargé l'ancienne valeur avant le commit ne la conserve pas.
+     * </p>
+     */
+    public void evict(Integer accountId) {
+        cache.synchronous().invalidate(accountId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.synchronous().invalidate(accountId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package fr.cda.covoit_api.security;
+
+import fr.cda.covoit_api.domain.entity.RevokedToken;
+import fr.cda.covoit_api.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Liste des tokens d'accès révoqués avant leur expiration (déconnexion), consultée à chaque requête authentifiée.
+ * <p>
+ * La table {@code revoked_token} fait foi ; chaque instance en garde une copie en mémoire : un filtre de Bloom,
+ * qui répond « non révoqué » sans autre accès pour la quasi-totalité des tokens, et l'ensemble exact des
+ * identifiants, qui départage les réponses positives du filtre (faux positifs). Aucune entrée/sortie par requête.
+ * </p>
+ * <p>
+ * Les révocations faites par les autres instances sont relues toutes les {@code covoit.security.revocation.refresh-ms}
+ * (lignes dont {@code revoked_at} est postérieur à la relecture précédente, moins une marge qui couvre les transactions
+ * validées en retard et les écarts d'horloge). Toutes les {@code covoit.security.revocation.rebuild-ms}, les lignes
+ * expirées sont purgées et le filtre est reconstruit à la taille de la liste : un filtre de Bloom ne permet pas
+ * de retirer un élément, et son taux de faux positifs croît au-delà de la capacité prévue.
+ * </p>
+ * <p>
+ * La révocation de tous les tokens d'un compte (mot de passe, statut ou rôle modifié) ne passe pas par cette liste
+ * mais par la version des jetons ({@link PrincipalCache}).
+ * </p>
+ * <p>
+ * Métriques Micrometer : {@code covoit.security.revoked-tokens} (taille de la liste)
+ * et {@code covoit.security.revocation.false-positives}.
+ * </p>
+ */
+@Component
+@Slf4j
+public class TokenRevocationList {
+
+    private final RevokedTokenRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final int minCapacity;
+    private final double falsePositiveRate;
+    private final Duration lookback;
+    private final Counter falsePositives;
+
+    private volatile Snapshot snapshot;
+    private volatile LocalDateTime lastRefresh;
+
+    /**
+     * @param bloom    filtre de Bloom des identifiants
+     * @param revoked  identifiants révoqués et expiration du token correspondant
+     * @param capacity nombre d'éléments prévu à la construction du filtre
+     */
+    private record Snapshot(BloomFilter bloom, Map<UUID, LocalDateTime> revoked, int capacity) {
+    }
+
+    public TokenRevocationList(RevokedTokenRepository repository,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${covoit.security.revocation.expected-insertions:10000}") int minCapacity,
+                               @Value("${covoit.security.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${covoit.security.revocation.lookback-seconds:60}") long lookbackSeconds) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.minCapacity = minCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.lookback = Duration.ofSeconds(lookbackSeconds);
+
+        Gauge.builder("covoit.security.revoked-tokens", this, list -> list.snapshot == null ? 0 : list.snapshot.revoked().size())
+                .description("Tokens d'accès révoqués et non expirés")
+                .register(meterRegistry);
+        this.falsePositives = meterRegistry.counter("covoit.security.revocation.false-positives");
+    }
+
+    /**
+     * @param jti identifiant du token (claim {@code jti})
+     * @return {@code true} si le token a été révoqué, ou s'il n'a pas d'identifiant valide
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return true;
+        }
+        UUID id;
+        try {
+            id = UUID.fromString(jti);
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+        Snapshot current = snapshot;
+        if (!current.bloom().mightContain(id)) {
+            return false;
+        }
+        if (current.revoked().containsKey(id)) {
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Inscrit un token dans la table puis dans la copie locale ; les autres instances le voient à leur prochaine relecture.
+     * Sans effet si le token est déjà révoqué (déconnexions concurrentes avec le même token).
+     *
+     * @param jti       identifiant du token
+     * @param accountId compte propriétaire du token
+     * @param expiresAt expiration du token
+     */
+    public void revoke(String jti, Integer accountId, LocalDateTime expiresAt) {
+        UUID id = UUID.fromString(jti);
+        transactionTemplate.executeWithoutResult(status ->
+                repository.insertIfAbsent(id, accountId, expiresAt, LocalDateTime.now()));
+        add(id, expiresAt);
+    }
+
+    /**
+     * Relit les révocations récentes, faites par cette instance ou par les autres.
+     */
+    @Scheduled(fixedDelayString = "${covoit.security.revocation.refresh-ms:5000}")
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> recent = repository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(lastRefresh.minus(lookback), now);
+        lastRefresh = now;
+        recent.forEach(token -> add(token.getJti(), token.getExpiresAt()));
+        if (snapshot.revoked().size() > snapshot.capacity()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Purge les révocations expirées puis reconstruit la copie locale depuis la table.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${covoit.security.revocation.rebuild-ms:3600000}",
+            initialDelayString = "${covoit.security.revocation.rebuild-ms:3600000}")
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer purged = transactionTemplate.execute(status -> repository.deleteExpired(now));
+        List<RevokedToken> active = repository.findByExpiresAtAfter(now);
+
+        int capacity = Math.max(minCapacity, active.size() * 2);
+        Snapshot rebuilt = new Snapshot(new BloomFilter(capacity, falsePositiveRate), new ConcurrentHashMap<>(), capacity);
+        active.forEach(token -> add(rebuilt, token.getJti(), token.getExpiresAt()));
+
+        // Révocations ajoutées à l'ancienne copie pendant la lecture
+        Snapshot previous = snapshot;
+        snapshot = rebuilt;
+        lastRefresh = now;
+        if (previous != null) {
+            previous.revoked().forEach((id, expiresAt) -> {
+                if (expiresAt.isAfter(now)) {
+                    add(rebuilt, id, expiresAt);
+                }
+            });
+        }
+        log.debug("Liste de révocation reconstruite : {} tokens, {} expirés purgés", rebuilt.revoked().size(), purged);
+    }
+
+    private void add(UUID id, LocalDateTime expiresAt) {
+        add(snapshot, id, expiresAt);
+    }
+
+    // Ensemble exact d'abord : un identifiant présent dans le filtre l'est toujours dans l'ensemble
+    private static void add(Snapshot target, UUID id, LocalDateTime expiresAt) {
+        target.revoked().put(id, expiresAt);
+        target.bloom().put(id);
+    }
+}
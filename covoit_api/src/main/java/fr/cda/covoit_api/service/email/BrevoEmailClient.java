@@ -0,0 +1,74 @@
+package fr.cda.covoit_api.service.email;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.*;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client HTTP de l'API transactionnelle Brevo.
+ * <p>
+ * Un lot de messages est envoyé en un seul appel grâce aux {@code messageVersions} :
+ * même template, un destinataire et des paramètres par version.
+ * Les erreurs HTTP sont propagées pour laisser l'appelant décider d'une nouvelle tentative.
+ * </p>
+ */
+@Component
+@Slf4j
+public class BrevoEmailClient {
+
+    private static final int TEMPLATE_ID = 4;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final String apiUrl;
+    private final String apiKey;
+    private final RestTemplate restTemplate;
+
+    public BrevoEmailClient(@Value("${brevo.api.url:https://api.brevo.com/v3/smtp/email}") String apiUrl,
+                            @Value("${brevo.api.key:}") String apiKey) {
+        this.apiUrl = apiUrl;
+        this.apiKey = apiKey;
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(TIMEOUT);
+        requestFactory.setReadTimeout(TIMEOUT);
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
+
+    public boolean isConfigured() {
+        return apiKey != null && !apiKey.isBlank();
+    }
+
+    /**
+     * Envoie un lot de messages en un seul appel Brevo.
+     *
+     * @param messages lot non vide
+     * @throws org.springframework.web.client.RestClientException si Brevo répond en erreur ou est injoignable
+     */
+    public void sendBatch(List<EmailMessage> messages) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("api-key", apiKey);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("sender", Map.of("name", "Covoit GRETA", "email", "johngreta904@gmail.com"));
+        body.put("templateId", TEMPLATE_ID);
+        body.put("messageVersions", messages.stream()
+                .map(message -> Map.of(
+                        "to", List.of(Map.of("email", message.to())),
+                        "params", Map.of(
+                                "subject", message.subject(),
+                                "content", message.content()
+                        )))
+                .toList());
+
+        restTemplate.postForEntity(apiUrl, new HttpEntity<>(body, headers), String.class);
+        log.info("Lot de {} email(s) envoyé via Brevo", messages.size());
+    }
+}
@@ -0,0 +1,176 @@
+package fr.cda.covoit_api.service.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * File d'envoi asynchrone des emails.
+ * <p>
+ * Les messages sont déposés dans une file bornée puis drainés par un petit pool de workers
+ * qui les regroupent par lots ({@link BrevoEmailClient#sendBatch}). Un lot en échec
+ * transitoire (Brevo injoignable, 5xx, 429) est retenté avec un délai exponentiel ;
+ * les autres erreurs abandonnent le lot. Si la file est pleine, le message est rejeté
+ * plutôt que de bloquer le thread de la requête.
+ * </p>
+ * <p>
+ * Métriques Micrometer : {@code covoit.email.queue.size} (profondeur de file),
+ * {@code covoit.email.sent}, {@code covoit.email.retries}, {@code covoit.email.failed}
+ * et {@code covoit.email.rejected}.
+ * </p>
+ * <p>
+ * Avec {@code spring.threads.virtual.enabled=true}, les workers sont des threads virtuels :
+ * l'attente sur la file et sur l'appel HTTP ne retient aucun thread du système.
+ * </p>
+ */
+@Component
+@Slf4j
+public class EmailDispatcher {
+
+    private static final long POLL_TIMEOUT_MS = 500;
+    private static final long MAX_BACKOFF_MS = 30_000;
+    private static final long SHUTDOWN_TIMEOUT_S = 10;
+
+    private final BrevoEmailClient client;
+    private final BlockingQueue<EmailMessage> queue;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final boolean virtualThreads;
+
+    private final Counter sent;
+    private final Counter retries;
+    private final Counter failed;
+    private final Counter rejected;
+
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    public EmailDispatcher(BrevoEmailClient client,
+                           MeterRegistry meterRegistry,
+                           @Value("${covoit.email.queue-capacity:1000}") int queueCapacity,
+                           @Value("${covoit.email.workers:2}") int workers,
+                           @Value("${covoit.email.batch-size:50}") int batchSize,
+                           @Value("${covoit.email.max-attempts:5}") int maxAttempts,
+                           @Value("${covoit.email.initial-backoff-ms:500}") long initialBackoffMs,
+                           @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.client = client;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.virtualThreads = virtualThreads;
+
+        Gauge.builder("covoit.email.queue.size", queue, BlockingQueue::size)
+                .description("Emails en attente d'envoi")
+                .register(meterRegistry);
+        this.sent = meterRegistry.counter("covoit.email.sent");
+        this.retries = meterRegistry.counter("covoit.email.retries");
+        this.failed = meterRegistry.counter("covoit.email.failed");
+        this.rejected = meterRegistry.counter("covoit.email.rejected");
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("email-dispatcher-", 0).factory()
+                : Thread.ofPlatform().name("email-dispatcher-", 0).daemon().factory();
+        executor = Executors.newFixedThreadPool(workers, threadFactory);
+        for (int i = 0; i < workers; i++) {
+            executor.submit(this::drainLoop);
+        }
+    }
+
+    /**
+     * Arrête les workers après avoir vidé la file (dans la limite de {@value #SHUTDOWN_TIMEOUT_S} s).
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_S, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+            log.warn("{} email(s) non envoyé(s) à l'arrêt", queue.size());
+        }
+    }
+
+    /**
+     * Dépose un message dans la file sans bloquer.
+     *
+     * @return false si la file est pleine (message abandonné)
+     */
+    public boolean enqueue(EmailMessage message) {
+        if (queue.offer(message)) {
+            return true;
+        }
+        rejected.increment();
+        log.error("File d'emails pleine, message pour {} abandonné", message.to());
+        return false;
+    }
+
+    public int queueSize() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<EmailMessage> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                EmailMessage first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void deliver(List<EmailMessage> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                client.sendBatch(batch);
+                sent.increment(batch.size());
+                return;
+            } catch (RestClientException e) {
+                if (!isTransient(e) || attempt >= maxAttempts) {
+                    failed.increment(batch.size());
+                    log.error("Échec définitif de l'envoi de {} email(s) après {} tentative(s) : {}",
+                            batch.size(), attempt, e.getMessage());
+                    return;
+                }
+                retries.increment();
+                long backoff = Math.min(initialBackoffMs << (attempt - 1), MAX_BACKOFF_MS);
+                log.warn("Envoi Brevo en échec (tentative {}), nouvel essai dans {} ms : {}",
+                        attempt, backoff, e.getMessage());
+                Thread.sleep(backoff);
+            }
+        }
+    }
+
+    private static boolean isTransient(RestClientException e) {
+        return e instanceof ResourceAccessException
+                || e instanceof HttpServerErrorException
+                || e instanceof HttpClientErrorException.TooManyRequests;
+    }
+}
@@ -0,0 +1,7 @@
+package fr.cda.covoit_api.service.email;
+
+/**
+ * Email transactionnel en attente d'envoi (destinataire, sujet et contenu du template Brevo).
+ */
+public record EmailMessage(String to, String subject, String content) {
+}
@@ -4,21 +4,27 @@ import fr.cda.covoit_api.domain.entity.User;
 import fr.cda.covoit_api.dto.request.RegisterRequest;
 import fr.cda.covoit_api.dto.response.AuthResponse;
 import fr.cda.covoit_api.exception.BusinessException;
-import fr.cda.covoit_api.repository.RoleRepository;
-import fr.cda.covoit_api.repository.StatusRepository;
 import fr.cda.covoit_api.repository.UserRepository;
+import fr.cda.covoit_api.security.AuthenticatedUser;
 import fr.cda.covoit_api.security.JwtTokenProvider;
+import fr.cda.covoit_api.security.PrincipalCache;
+import fr.cda.covoit_api.security.TokenRevocationList;
 import fr.cda.covoit_api.service.interfaces.IAuthService;
+import fr.cda.covoit_api.service.interfaces.ICatalogService;
 import fr.cda.covoit_api.service.interfaces.IEmailService;
+import fr.cda.covoit_api.service.interfaces.IRefreshTokenService;
+import io.jsonwebtoken.Claims;
 import jakarta.transaction.Transactional;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.UUID;
 
 /**
@@ -51,38 +57,51 @@ public class AuthServiceImpl implements IAuthService {
     /** Gestionnaire d'authentification Spring Security. */
     private final AuthenticationManager authenticationManager;
 
-    /** R&eacute;f&eacute;rentiel d'acc&egrave;s aux donn&eacute;es des r&ocirc;les. */
-    private final RoleRepository roleRepository;
-
-    /** R&eacute;f&eacute;rentiel d'acc&egrave;s aux donn&eacute;es des statuts. */
-    private final StatusRepository statusRepository;
+    /** Catalogue en m&eacute;moire des r&ocirc;les et statuts. */
+    private final ICatalogService catalogService;
 
     private final IEmailService emailService;
 
+    /** Cache de l'&eacute;tat des comptes, &agrave; invalider lorsque la version des jetons change. */
+    private final PrincipalCache principalCache;
+
+    /** &Eacute;mission et rotation des jetons de rafra&icirc;chissement. */
+    private final IRefreshTokenService refreshTokenService;
+
+    /** Liste des jetons d'acc&egrave;s r&eacute;voqu&eacute;s (d&eacute;connexion). */
+    private final TokenRevocationList revocationList;
+
     /**
      * Constructeur avec injection des d&eacute;pendances.
      *
      * @param userRepository        r&eacute;f&eacute;rentiel des utilisateurs
-     * @param roleRepository        r&eacute;f&eacute;rentiel des r&ocirc;les
-     * @param statusRepository      r&eacute;f&eacute;rentiel des statuts
+     * @param catalogService        catalogue des r&ocirc;les et statuts
      * @param passwordEncoder       encodeur de mots de passe
      * @param tokenProvider         fournisseur de jetons JWT
      * @param authenticationManager gestionnaire d'authentification Spring Security
+     * @param emailService          service d'envoi des emails
+     * @param principalCache        cache de l'&eacute;tat des comptes (version des jetons)
+     * @param refreshTokenService   service des jetons de rafra&icirc;chissement
+     * @param revocationList        liste des jetons d'acc&egrave;s r&eacute;voqu&eacute;s
      */
     public AuthServiceImpl(UserRepository userRepository,
-                           RoleRepository roleRepository,
-                           StatusRepository statusRepository,
+                           ICatalogService catalogService,
                            PasswordEncoder passwordEncoder,
                            JwtTokenProvider tokenProvider,
                            AuthenticationManager authenticationManager,
-                           IEmailService emailService) {
+                           IEmailService emailService,
+                           PrincipalCache principalCache,
+                           IRefreshTokenService refreshTokenService,
+                           TokenRevocationList revocationList) {
         this.userRepository = userRepository;
-        this.roleRepository = roleRepository;
-        this.statusRepository = statusRepository;
+        this.catalogService = catalogService;
         this.passwordEncoder = passwordEncoder;
         this.tokenProvider = tokenProvider;
         this.authenticationManager = authenticationManager;
         this.emailService = emailService;
+        this.principalCache = principalCache;
+        this.refreshTokenService = refreshTokenService;
+        this.revocationList = revocationList;
     }
 
     /**
@@ -107,20 +126,18 @@ public class AuthServiceImpl implements IAuthService {
         user.setEmail(request.getEmail());
         user.setPassword(passwordEncoder.encode(request.getPassword()));
 
-        user.setRole(roleRepository.findByLabel("USER")
+        user.setRole(catalogService.findRole("USER")
                 .orElseThrow(() -> new RuntimeException("Rôle par défaut non configuré")));
-        user.setStatus(statusRepository.findByLabel("ACTIVE")
+        user.setStatus(catalogService.findStatus("ACTIVE")
                 .orElseThrow(() -> new RuntimeException("Statut par défaut non configuré")));
 
         userRepository.save(user);
 
-        String token = tokenProvider.generateToken(user.getEmail());
+        // Nouveau compte : pas encore de profil, version des jetons initiale
+        AuthenticatedUser principal = new AuthenticatedUser(user.getId(), null, user.getEmail(),
+                user.getPassword(), user.getRole().getLabel(), user.getStatus().getLabel(), user.getTokenVersion());
 
-        return AuthResponse.builder()
-                .token(token)
-                .email(user.getEmail())
-                .role(user.getRole().getLabel())
-                .build();
+        return authResponse(principal, refreshTokenService.issue(principal));
     }
 
     /**
@@ -129,32 +146,70 @@ public class AuthServiceImpl implements IAuthService {
      * Proc&egrave;de en trois &eacute;tapes :
      * <ol>
      *   <li>Authentification via Spring Security ({@link AuthenticationManager})</li>
-     *   <li>R&eacute;cup&eacute;ration de l'utilisateur en base de donn&eacute;es</li>
-     *   <li>G&eacute;n&eacute;ration d'un jeton JWT</li>
+     *   <li>R&eacute;cup&eacute;ration de l'utilisateur authentifi&eacute; (charg&eacute; une seule fois par
+     *   {@link fr.cda.covoit_api.security.CustomUserDetailsService})</li>
+     *   <li>G&eacute;n&eacute;ration d'un jeton JWT portant ses identifiants, son r&ocirc;le et la version de ses jetons,
+     *   et d'un jeton de rafra&icirc;chissement ouvrant une nouvelle session</li>
      * </ol>
      * </p>
      *
      * @param email    l'adresse e-mail de l'utilisateur
      * @param password le mot de passe en clair
-     * @return un objet {@link AuthResponse} contenant le jeton JWT, l'e-mail et le r&ocirc;le
-     * @throws RuntimeException si l'utilisateur n'est pas trouv&eacute; ou si l'authentification &eacute;choue
+     * @return un objet {@link AuthResponse} contenant le jeton JWT, le jeton de rafra&icirc;chissement, l'e-mail et le r&ocirc;le
+     * @throws org.springframework.security.core.AuthenticationException si l'authentification &eacute;choue
      */
     @Override
     public AuthResponse login(String email, String password) {
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(email, password)
         );
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Utilisateur non trouvé"));
+        AuthenticatedUser user = (AuthenticatedUser) authentication.getPrincipal();
 
-        String token = tokenProvider.generateToken(user.getEmail());
+        return authResponse(user, refreshTokenService.issue(user));
+    }
 
-        return AuthResponse.builder()
-                .token(token)
-                .email(user.getEmail())
-                .role(user.getRole().getLabel())
-                .build();
+    /**
+     * &Eacute;change un jeton de rafra&icirc;chissement contre un nouveau jeton JWT.
+     * <p>
+     * Le jeton pr&eacute;sent&eacute; est consomm&eacute; et remplac&eacute; par un nouveau jeton de rafra&icirc;chissement
+     * (rotation). Le r&ocirc;le et le profil port&eacute;s par le nouveau JWT sont relus en base.
+     * </p>
+     *
+     * @param refreshToken le jeton de rafra&icirc;chissement re&ccedil;u &agrave; la connexion ou au pr&eacute;c&eacute;dent &eacute;change
+     * @return un objet {@link AuthResponse} contenant le nouveau jeton JWT et le nouveau jeton de rafra&icirc;chissement
+     * @throws BusinessException (401) si le jeton est invalide, expir&eacute;, d&eacute;j&agrave; utilis&eacute; ou r&eacute;voqu&eacute;
+     */
+    @Override
+    public AuthResponse refresh(String refreshToken) {
+        IRefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        return authResponse(rotation.user(), rotation.refreshToken());
+    }
+
+    /**
+     * D&eacute;connecte la session courante.
+     * <p>
+     * Le jeton d'acc&egrave;s est inscrit dans la liste de r&eacute;vocation jusqu'&agrave; son expiration ;
+     * le jeton de rafra&icirc;chissement, s'il est fourni, est r&eacute;voqu&eacute; avec toute sa famille.
+     * Les autres sessions du compte restent ouvertes.
+     * </p>
+     *
+     * @param accessToken  le jeton JWT de la requ&ecirc;te, d&eacute;j&agrave; valid&eacute; par le filtre d'authentification
+     * @param refreshToken le jeton de rafra&icirc;chissement de la session, ou {@code null}
+     * @throws BusinessException (401) si le jeton d'acc&egrave;s est invalide
+     */
+    @Override
+    public void logout(String accessToken, String refreshToken) {
+        Claims claims = tokenProvider.parseAndValidate(accessToken)
+                .orElseThrow(() -> new BusinessException("Token invalide", HttpStatus.UNAUTHORIZED));
+        AuthenticatedUser user = tokenProvider.toPrincipal(claims)
+                .orElseThrow(() -> new BusinessException("Token invalide", HttpStatus.UNAUTHORIZED));
+
+        revocationList.revoke(claims.getId(), user.getAccountId(),
+                LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault()));
+        if (refreshToken != null) {
+            refreshTokenService.revoke(refreshToken, user.getAccountId());
+        }
     }
 
     @Override
@@ -190,5 +245,17 @@ public class AuthServiceImpl implements IAuthService {
         user.setResetPasswordToken(null);
         user.setResetPasswordExpiresAt(null);
         userRepository.save(user);
+        // Nouveau mot de passe : la base incrémente la version, les jetons déjà émis (accès et rafraîchissement) sont refusés
+        principalCache.evict(user.getId());
+    }
+
+    private AuthResponse authResponse(AuthenticatedUser user, String refreshToken) {
+        return AuthResponse.builder()
+                .token(tokenProvider.generateToken(user))
+                .expiresIn(tokenProvider.getExpirationSeconds())
+                .refreshToken(refreshToken)
+                .email(user.getUsername())
+                .role(user.getRole())
+                .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,261 @@
+package fr.cda.covoit_api.service.impl;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fr.cda.covoit_api.domain.entity.*;
+import fr.cda.covoit_api.dto.request.BrandRequest;
+import fr.cda.covoit_api.dto.request.ModelRequest;
+import fr.cda.covoit_api.dto.response.BrandResponse;
+import fr.cda.covoit_api.dto.response.ModelResponse;
+import fr.cda.covoit_api.exception.BusinessException;
+import fr.cda.covoit_api.mapper.EntityMapper;
+import fr.cda.covoit_api.repository.*;
+import fr.cda.covoit_api.service.interfaces.ICatalogService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Implémentation de {@link ICatalogService}.
+ * <p>
+ * Les cinq tables de référence sont chargées ensemble dans un instantané immuable, conservé dans un cache
+ * Caffeine à clé unique : quelques centaines de lignes au plus, rechargées en cinq requêtes.
+ * Le rechargement s'exécute sur l'exécuteur de tâches de l'application, comme pour
+ * {@link fr.cda.covoit_api.security.PrincipalCache} : pas de requête SQL sous verrou.
+ * Les entités de l'instantané sont des copies détachées (jamais gérées par un contexte de persistance),
+ * utilisables comme références de clé étrangère ({@code route.icon}, {@code vehicle.model}, {@code user.role}...)
+ * mais à ne pas modifier.
+ * </p>
+ * <p>
+ * Toute écriture d'administration invalide l'instantané, une première fois tout de suite puis après le commit,
+ * comme {@link fr.cda.covoit_api.security.PrincipalCache}. Une modification faite hors de l'application
+ * (script SQL, autre instance) est prise en compte au plus tard après {@code covoit.catalog.ttl-seconds}.
+ * Les ETag sont des empreintes du contenu : deux instances qui servent les mêmes données renvoient le même ETag.
+ * </p>
+ * <p>
+ * Métriques Micrometer {@code cache.*} avec le tag {@code cache=catalog}.
+ * </p>
+ */
+@Service
+public class CatalogServiceImpl implements ICatalogService {
+
+    private static final String SNAPSHOT = "catalog";
+    private static final String BRAND_NOT_FOUND = "Marque non trouvée";
+    private static final String MODEL_NOT_FOUND = "Modèle non trouvé";
+
+    private final BrandRepository brandRepository;
+    private final ModelRepository modelRepository;
+    private final IconRepository iconRepository;
+    private final RoleRepository roleRepository;
+    private final StatusRepository statusRepository;
+    private final EntityMapper entityMapper;
+    private final AsyncLoadingCache<String, Snapshot> cache;
+
+    public CatalogServiceImpl(BrandRepository brandRepository,
+                              ModelRepository modelRepository,
+                              IconRepository iconRepository,
+                              RoleRepository roleRepository,
+                              StatusRepository statusRepository,
+                              EntityMapper entityMapper,
+                              MeterRegistry meterRegistry,
+                              @Qualifier("applicationTaskExecutor") Executor executor,
+                              @Value("${covoit.catalog.ttl-seconds:300}") long ttlSeconds) {
+        this.brandRepository = brandRepository;
+        this.modelRepository = modelRepository;
+        this.iconRepository = iconRepository;
+        this.roleRepository = roleRepository;
+        this.statusRepository = statusRepository;
+        this.entityMapper = entityMapper;
+        this.cache = Caffeine.newBuilder()
+                .executor(executor)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync(key -> load());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "catalog");
+    }
+
+    @Override
+    public Listing<BrandResponse> getBrands() {
+        return snapshot().brands();
+    }
+
+    @Override
+    public Listing<ModelResponse> getModels() {
+        return snapshot().models();
+    }
+
+    @Override
+    public Listing<ModelResponse> getModelsByBrand(Integer brandId) {
+        return snapshot().modelsByBrand().getOrDefault(brandId, listing(List.of()));
+    }
+
+    @Override
+    public Optional<Model> findModel(Integer id) {
+        return Optional.ofNullable(snapshot().modelsById().get(id));
+    }
+
+    @Override
+    public Optional<Icon> findIcon(Integer id) {
+        return Optional.ofNullable(snapshot().iconsById().get(id));
+    }
+
+    @Override
+    public Optional<Role> findRole(String label) {
+        return Optional.ofNullable(snapshot().rolesByLabel().get(label));
+    }
+
+    @Override
+    public Optional<Status> findStatus(String label) {
+        return Optional.ofNullable(snapshot().statusesByLabel().get(label));
+    }
+
+    @Override
+    @Transactional
+    public Brand createBrand(BrandRequest dto) {
+        if (brandRepository.findByLabel(dto.getLabel()).isPresent()) {
+            throw new BusinessException("Cette marque existe déjà", HttpStatus.CONFLICT);
+        }
+        Brand brand = new Brand();
+        brand.setLabel(dto.getLabel());
+        invalidate();
+        return brandRepository.save(brand);
+    }
+
+    @Override
+    @Transactional
+    public Brand updateBrand(Integer id, BrandRequest dto) {
+        Brand brand = brandRepository.findById(id)
+                .orElseThrow(() -> new BusinessException(BRAND_NOT_FOUND, HttpStatus.NOT_FOUND));
+        brand.setLabel(dto.getLabel());
+        invalidate();
+        return brandRepository.save(brand);
+    }
+
+    @Override
+    @Transactional
+    public void deleteBrand(Integer id) {
+        if (!brandRepository.existsById(id)) {
+            throw new BusinessException(BRAND_NOT_FOUND, HttpStatus.NOT_FOUND);
+        }
+        invalidate();
+        brandRepository.deleteById(id);
+    }
+
+    @Override
+    @Transactional
+    public Model createModel(ModelRequest dto) {
+        Brand brand = brandRepository.findById(dto.getBrandId())
+                .orElseThrow(() -> new BusinessException(BRAND_NOT_FOUND, HttpStatus.NOT_FOUND));
+        Model model = new Model();
+        model.setLabel(dto.getLabel());
+        model.setBrand(brand);
+        invalidate();
+        return modelRepository.save(model);
+    }
+
+    @Override
+    @Transactional
+    public Model updateModel(Integer id, ModelRequest dto) {
+        Model model = modelRepository.findById(id)
+                .orElseThrow(() -> new BusinessException(MODEL_NOT_FOUND, HttpStatus.NOT_FOUND));
+        Brand brand = brandRepository.findById(dto.getBrandId())
+                .orElseThrow(() -> new BusinessException(BRAND_NOT_FOUND, HttpStatus.NOT_FOUND));
+        model.setLabel(dto.getLabel());
+        model.setBrand(brand);
+        invalidate();
+        return modelRepository.save(model);
+    }
+
+    @Override
+    @Transactional
+    public void deleteModel(Integer id) {
+        if (!modelRepository.existsById(id)) {
+            throw new BusinessException(MODEL_NOT_FOUND, HttpStatus.NOT_FOUND);
+        }
+        invalidate();
+        modelRepository.deleteById(id);
+    }
+
+    private Snapshot snapshot() {
+        try {
+            return cache.get(SNAPSHOT).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Un chargement concurrent qui aurait lu l'ancienne version avant le commit est écarté par la seconde invalidation
+    private void invalidate() {
+        cache.synchronous().invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.synchronous().invalidateAll();
+                }
+            });
+        }
+    }
+
+    private Snapshot load() {
+        List<BrandResponse> brands = brandRepository.findAll(Sort.by("id")).stream()
+                .map(entityMapper::toBrandResponse)
+                .toList();
+
+        Map<Integer, Model> modelsById = new LinkedHashMap<>();
+        for (Model model : modelRepository.findAllWithBrand()) {
+            Brand brand = new Brand(model.getBrand().getId(), model.getBrand().getLabel(), null);
+            modelsById.put(model.getId(), new Model(model.getId(), model.getLabel(), brand));
+        }
+        List<ModelResponse> models = modelsById.values().stream()
+                .map(entityMapper::toModelResponse)
+                .toList();
+        Map<Integer, Listing<ModelResponse>> modelsByBrand = models.stream()
+                .collect(Collectors.groupingBy(ModelResponse::getBrandId,
+                        Collectors.collectingAndThen(Collectors.toList(), CatalogServiceImpl::listing)));
+
+        return new Snapshot(
+                listing(brands),
+                listing(models),
+                Map.copyOf(modelsByBrand),
+                Collections.unmodifiableMap(modelsById),
+                iconRepository.findAll().stream()
+                        .collect(Collectors.toUnmodifiableMap(Icon::getId, i -> new Icon(i.getId(), i.getLabel()))),
+                roleRepository.findAll().stream()
+                        .collect(Collectors.toUnmodifiableMap(Role::getLabel, r -> new Role(r.getId(), r.getLabel()))),
+                statusRepository.findAll().stream()
+                        .collect(Collectors.toUnmodifiableMap(Status::getLabel, s -> new Status(s.getId(), s.getLabel()))));
+    }
+
+    private static <T> Listing<T> listing(List<T> items) {
+        String content = items.stream().map(String::valueOf).collect(Collectors.joining("\n"));
+        return new Listing<>(List.copyOf(items), DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private record Snapshot(Listing<BrandResponse> brands,
+                            Listing<ModelResponse> models,
+                            Map<Integer, Listing<ModelResponse>> modelsByBrand,
+                            Map<Integer, Model> modelsById,
+                            Map<Integer, Icon> iconsById,
+                            Map<String, Role> rolesByLabel,
+                            Map<String, Status> statusesByLabel) {
+    }
+}
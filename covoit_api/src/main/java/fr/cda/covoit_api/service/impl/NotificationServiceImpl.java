@@ -0,0 +1,38 @@
+package fr.cda.covoit_api.service.impl;
+
+import fr.cda.covoit_api.domain.entity.NotificationOutbox;
+import fr.cda.covoit_api.domain.entity.User;
+import fr.cda.covoit_api.repository.NotificationOutboxRepository;
+import fr.cda.covoit_api.service.interfaces.INotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Publication des notifications utilisateur via la table {@code notification_outbox}.
+ * <p>
+ * L'événement est enregistré dans la transaction de l'appelant (propagation MANDATORY) :
+ * aucun appel réseau pendant la réservation, et pas de notification pour une opération annulée.
+ * La distribution (email + boîte de réception) est assurée par
+ * {@link fr.cda.covoit_api.service.outbox.NotificationOutboxPoller}.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationServiceImpl implements INotificationService {
+
+    private final NotificationOutboxRepository outboxRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void notify(User recipient, String typeLabel, String subject, String content) {
+        NotificationOutbox event = new NotificationOutbox();
+        event.setAccountId(recipient.getId());
+        event.setRecipientEmail(recipient.getEmail());
+        event.setTypeLabel(typeLabel);
+        event.setSubject(subject);
+        event.setContent(content);
+        outboxRepository.save(event);
+    }
+}
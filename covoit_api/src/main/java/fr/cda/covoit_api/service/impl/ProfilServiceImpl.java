@@ -2,10 +2,12 @@ package fr.cda.covoit_api.service.impl;
 
 import fr.cda.covoit_api.domain.entity.*;
 import fr.cda.covoit_api.dto.request.ProfilRequest;
+import fr.cda.covoit_api.dto.request.RouteCursor;
+import fr.cda.covoit_api.dto.response.CursorPageResponse;
 import fr.cda.covoit_api.dto.response.RouteResponse;
 import fr.cda.covoit_api.exception.BusinessException;
-import fr.cda.covoit_api.mapper.EntityMapper;
 import fr.cda.covoit_api.repository.*;
+import fr.cda.covoit_api.security.PrincipalCache;
 import fr.cda.covoit_api.service.interfaces.IProfilService;
 import fr.cda.covoit_api.service.interfaces.IRouteService;
 import jakarta.transaction.Transactional;
@@ -14,7 +16,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -23,16 +24,14 @@ public class ProfilServiceImpl implements IProfilService {
     private final UserRepository userRepository;
     private final VehicleRepository vehicleRepository;
 
-    private final RouteRepository routeRepository;
-    private final UserRouteRepository userRouteRepository;
     private final IRouteService routeService;
-    private final EntityMapper entityMapper;
+    private final PrincipalCache principalCache;
 
     private static final String PROFIL_NOT_FOUND ="Profil non trouvé";
 
     @Override
-    public Profil createProfil(ProfilRequest dto, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
+    public Profil createProfil(ProfilRequest dto, Integer accountId) {
+        User user = userRepository.findById(accountId)
                 .orElseThrow(() -> new BusinessException("Compte non trouvé", HttpStatus.NOT_FOUND));
 
         Profil profil = new Profil();
@@ -41,7 +40,10 @@ public class ProfilServiceImpl implements IProfilService {
         profil.setPhone(dto.getPhone());
         profil.setUser(user);
 
-        return profilRepository.save(profil);
+        Profil saved = profilRepository.save(profil);
+        // Les jetons déjà émis ne portent pas d'identifiant de profil : il est relu depuis l'état du compte
+        principalCache.evict(user.getId());
+        return saved;
     }
 
     @Override
@@ -56,17 +58,11 @@ public class ProfilServiceImpl implements IProfilService {
     }
 
     @Override
-    public Profil getProfilByEmail(String email) {
-        return profilRepository.findByUserEmail(email)
-                .orElseThrow(() -> new BusinessException(PROFIL_NOT_FOUND, HttpStatus.NOT_FOUND));
-    }
-
-    @Override
-    public Profil updateProfil(Integer id, ProfilRequest dto, String emailRequestor) {
+    public Profil updateProfil(Integer id, ProfilRequest dto, Integer requestorProfilId) {
         Profil current = profilRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(PROFIL_NOT_FOUND, HttpStatus.NOT_FOUND));
 
-        if (!current.getUser().getEmail().equals(emailRequestor)) {
+        if (!current.getId().equals(requestorProfilId)) {
             throw new BusinessException("Action non autorisée", HttpStatus.FORBIDDEN);
         }
 
@@ -79,34 +75,36 @@ public class ProfilServiceImpl implements IProfilService {
 
     @Transactional
     @Override
-    public void deleteProfil(Integer id, String requestorEmail) {
+    public void deleteProfil(Integer id, Integer requestorProfilId) {
         Profil profil = profilRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(PROFIL_NOT_FOUND, HttpStatus.NOT_FOUND));
 
         // Sécurité : Seul l'utilisateur ou un ADMIN peut supprimer
-        if (!profil.getUser().getEmail().equals(requestorEmail)) {
+        if (!profil.getId().equals(requestorProfilId)) {
             // Logique de vérification de rôle ADMIN pourrait être ajoutée ici
             throw new BusinessException("Non autorisé", HttpStatus.FORBIDDEN);
         }
 
         // Suppression du compte User (le cascade JPA s'occupera du Profil et du Véhicule)
         userRepository.delete(profil.getUser());
+        principalCache.evict(profil.getUser().getId());
     }
 
     @Override
-    public Vehicle getVehicleByEmail(String email) {
-        return vehicleRepository.findByOwnerUserEmail(email)
+    public Vehicle getVehicleByOwner(Integer profilId) {
+        return vehicleRepository.findByOwnerId(profilId)
                 .orElseThrow(() -> new BusinessException("Aucun véhicule trouvé pour cet utilisateur", HttpStatus.NOT_FOUND));
     }
 
     @Override
     @Transactional
-    public Vehicle updateVehicle(Integer id, Vehicle details, String emailRequestor) {
+    public Vehicle updateVehicle(Integer id, Vehicle details, Integer requestorProfilId) {
         Vehicle current = vehicleRepository.findById(id)
                 .orElseThrow(() -> new BusinessException("Véhicule introuvable", HttpStatus.NOT_FOUND));
 
         // Sécurité : Vérifier que le véhicule appartient bien à l'utilisateur qui fait la requête
-        if (!current.getOwner().getUser().getEmail().equals(emailRequestor)) {
+        // (identifiant du propriétaire lu sur la clé étrangère, sans charger le profil ni le compte)
+        if (!current.getOwner().getId().equals(requestorProfilId)) {
             throw new BusinessException("Vous n'êtes pas autorisé à modifier ce véhicule", HttpStatus.FORBIDDEN);
         }
 
@@ -120,11 +118,11 @@ public class ProfilServiceImpl implements IProfilService {
 
     @Override
     @Transactional
-    public void deleteVehicle(Integer id, String emailRequestor) {
+    public void deleteVehicle(Integer id, Integer requestorProfilId) {
         Vehicle current = vehicleRepository.findById(id)
                 .orElseThrow(() -> new BusinessException("Véhicule introuvable", HttpStatus.NOT_FOUND));
 
-        if (!current.getOwner().getUser().getEmail().equals(emailRequestor)) {
+        if (!current.getOwner().getId().equals(requestorProfilId)) {
             throw new BusinessException("Action interdite", HttpStatus.FORBIDDEN);
         }
 
@@ -132,33 +130,20 @@ public class ProfilServiceImpl implements IProfilService {
     }
 
     @Override
-    public List<RouteResponse> getDriverTrips(Integer profilId) {
+    public CursorPageResponse<RouteResponse> getDriverTrips(Integer profilId, RouteCursor after, int size) {
         if (!profilRepository.existsById(profilId)) {
             throw new BusinessException(PROFIL_NOT_FOUND, HttpStatus.NOT_FOUND);
         }
-
-        List<Route> routes = routeRepository.findByDriverId(profilId);
-
-        return routes.stream().map(route -> {
-            Map<String, Location> locs = routeService.getLocationsForRoute(route.getId());
-            return entityMapper.toRouteResponse(route, locs.get("starting"), locs.get("arrival"));
-        }).toList();
+        // Identifiants de la page puis chargement ensembliste des trajets, adresses et conducteur
+        return routeService.getDriverTrips(profilId, after, size);
     }
 
     @Override
-    public List<RouteResponse> getPassengerTrips(Integer profilId) {
+    public CursorPageResponse<RouteResponse> getPassengerTrips(Integer profilId, RouteCursor after, int size) {
         if (!profilRepository.existsById(profilId)) {
             throw new BusinessException(PROFIL_NOT_FOUND, HttpStatus.NOT_FOUND);
         }
-
-        // Récupère les associations UserRoute du passager
-        List<UserRoute> reservations = userRouteRepository.findByPassengerId(profilId);
-
-        return reservations.stream().map(res -> {
-            Route route = res.getRoute();
-            Map<String, Location> locs = routeService.getLocationsForRoute(route.getId());
-            return entityMapper.toRouteResponse(route, locs.get("starting"), locs.get("arrival"));
-        }).toList();
+        return routeService.getPassengerTrips(profilId, after, size);
     }
 
     @Override
@@ -0,0 +1,141 @@
+package fr.cda.covoit_api.service.impl;
+
+import fr.cda.covoit_api.domain.entity.RefreshToken;
+import fr.cda.covoit_api.exception.BusinessException;
+import fr.cda.covoit_api.repository.RefreshTokenRepository;
+import fr.cda.covoit_api.repository.UserRepository;
+import fr.cda.covoit_api.security.AuthenticatedUser;
+import fr.cda.covoit_api.service.interfaces.IRefreshTokenService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Implémentation de {@link IRefreshTokenService}.
+ * <p>
+ * Le jeton remis au client est une valeur aléatoire de 256 bits (Base64 URL) ; la table {@code refresh_token}
+ * n'en conserve que l'empreinte SHA-256, suffisante pour une valeur de cette entropie (pas de BCrypt à chaque échange).
+ * L'échange verrouille la ligne du jeton : deux échanges simultanés du même jeton sont traités comme une réutilisation.
+ * </p>
+ * <p>
+ * Un jeton n'est accepté que si la version des jetons du compte n'a pas changé depuis son émission et que le compte
+ * est toujours actif : un changement de mot de passe, de statut ou de rôle révoque aussi les sessions.
+ * </p>
+ */
+@Service
+@Slf4j
+public class RefreshTokenServiceImpl implements IRefreshTokenService {
+
+    private static final String INVALID_TOKEN = "Jeton de rafraîchissement invalide";
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final Duration ttl;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenServiceImpl(RefreshTokenRepository refreshTokenRepository,
+                                   UserRepository userRepository,
+                                   @Value("${jwt.refresh-token.ttl-days:14}") long ttlDays) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    @Override
+    @Transactional
+    public String issue(AuthenticatedUser user) {
+        return save(user, UUID.randomUUID(), LocalDateTime.now());
+    }
+
+    // Les révocations décidées ici doivent être validées malgré l'exception renvoyée au client
+    @Override
+    @Transactional(noRollbackFor = BusinessException.class)
+    public Rotation rotate(String refreshToken) {
+        RefreshToken current = refreshTokenRepository.lockByTokenHash(hash(refreshToken))
+                .orElseThrow(RefreshTokenServiceImpl::invalidToken);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (current.getUsedAt() != null || current.getRevokedAt() != null) {
+            log.warn("Jeton de rafraîchissement réutilisé (compte {}) : famille {} révoquée",
+                    current.getAccountId(), current.getFamilyId());
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            throw invalidToken();
+        }
+        if (current.getExpiresAt().isBefore(now)) {
+            throw invalidToken();
+        }
+
+        AuthenticatedUser user = userRepository.findPrincipalById(current.getAccountId())
+                .filter(u -> u.isEnabled() && u.isAccountNonLocked())
+                .filter(u -> u.getTokenVersion() == current.getTokenVersion())
+                .orElse(null);
+        if (user == null) {
+            // Mot de passe, statut ou rôle modifié depuis l'émission
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            throw invalidToken();
+        }
+
+        current.setUsedAt(now);
+        return new Rotation(user, save(user, current.getFamilyId(), now));
+    }
+
+    @Override
+    @Transactional
+    public void revoke(String refreshToken, Integer accountId) {
+        refreshTokenRepository.lockByTokenHash(hash(refreshToken))
+                .filter(token -> token.getAccountId().equals(accountId))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${jwt.refresh-token.purge-cron:0 0 3 * * *}")
+    public int purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.debug("{} jetons de rafraîchissement expirés supprimés", deleted);
+        return deleted;
+    }
+
+    private String save(AuthenticatedUser user, UUID familyId, LocalDateTime now) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setAccountId(user.getAccountId());
+        refreshToken.setTokenHash(hash(token));
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setTokenVersion(user.getTokenVersion());
+        refreshToken.setCreatedAt(now);
+        refreshToken.setExpiresAt(now.plus(ttl));
+        refreshTokenRepository.save(refreshToken);
+        return token;
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+
+    private static BusinessException invalidToken() {
+        return new BusinessException(INVALID_TOKEN, HttpStatus.UNAUTHORIZED);
+    }
+}
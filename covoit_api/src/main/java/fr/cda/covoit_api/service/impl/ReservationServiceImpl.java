@@ -5,7 +5,7 @@ import fr.cda.covoit_api.dto.response.ProfilResponse;
 import fr.cda.covoit_api.dto.response.ReservationResponse;
 import fr.cda.covoit_api.mapper.EntityMapper;
 import fr.cda.covoit_api.repository.*;
-import fr.cda.covoit_api.service.interfaces.IEmailService;
+import fr.cda.covoit_api.service.interfaces.INotificationService;
 import fr.cda.covoit_api.service.interfaces.IReservationService;
 import fr.cda.covoit_api.service.interfaces.IRouteService;
 import lombok.RequiredArgsConstructor;
@@ -24,26 +24,29 @@ public class ReservationServiceImpl implements IReservationService {
     private final UserRouteRepository userRouteRepository;
     private final RouteRepository routeRepository;
     private final ProfilRepository profilRepository;
-    private final IEmailService emailService;
+    private final INotificationService notificationService;
     private static final String STATUS_CANCELLED = "cancelled";
     private static final String STATUS_CONFIRMED = "confirmed";
+    private static final String NOTIF_TRIP_CONFIRMED = "TRIP_CONFIRMED";
+    private static final String NOTIF_TRIP_CANCELLED = "TRIP_CANCELLED";
     private final IRouteService routeService;
     private final EntityMapper entityMapper;
 
     @Override
     @Transactional
-    public ReservationResponse reservePlace(Integer routeId, String passengerEmail) {
+    public ReservationResponse reservePlace(Integer routeId, Integer passengerId) {
         Route route = routeRepository.findById(routeId)
                 .orElseThrow(() -> new BusinessException("Trajet non trouvé", HttpStatus.NOT_FOUND));
 
-        Profil passenger = profilRepository.findByUserEmail(passengerEmail)
-                .orElseThrow(() -> new BusinessException("Profil passager non trouvé", HttpStatus.NOT_FOUND));
-
         // Règle métier : Un conducteur ne peut pas réserver son propre trajet
-        if (route.getDriver().getId().equals(passenger.getId())) {
+        // (identifiant lu sur la clé étrangère, sans charger le conducteur)
+        if (route.getDriver().getId().equals(passengerId)) {
             throw new BusinessException("Un conducteur ne peut pas réserver son propre trajet", HttpStatus.BAD_REQUEST);
         }
 
+        Profil passenger = profilRepository.findById(passengerId)
+                .orElseThrow(() -> new BusinessException("Profil passager non trouvé", HttpStatus.NOT_FOUND));
+
         // Règle métier : Vérifier qu'il n'a pas déjà réservé
         UserRouteId reservationId = new UserRouteId(passenger.getId(), route.getId());
         userRouteRepository.findById(reservationId).ifPresent(existing -> {
@@ -53,12 +56,12 @@ public class ReservationServiceImpl implements IReservationService {
         });
 
         // Règle métier : Vérifier la disponibilité des places
-        long currentPassengers = userRouteRepository.countByRouteIdAndStatusNot(routeId, STATUS_CANCELLED);
-        if (currentPassengers >= route.getPlace()) {
+        // Vérification et décrémentation en un seul UPDATE conditionnel : pas de survente
+        // entre deux réservations concurrentes, sans verrou applicatif.
+        // L'entité route n'est pas modifiée pour ne pas réécrire une valeur de place périmée au flush.
+        if (routeRepository.decrementPlaceIfAvailable(routeId) == 0) {
             throw new BusinessException("Plus de places disponibles pour ce trajet", HttpStatus.CONFLICT);
         }
-        route.setPlace((short) (route.getPlace() - 1));
-        routeRepository.save(route);
 
         // Créer la réservation
         UserRoute reservation = new UserRoute();
@@ -69,9 +72,10 @@ public class ReservationServiceImpl implements IReservationService {
 
         UserRoute saved = userRouteRepository.save(reservation);
 
-        // Notification au conducteur
-        emailService.sendSimpleMessage(
-                route.getDriver().getUser().getEmail(),
+        // Notification au conducteur (outbox, distribuée après le commit)
+        notificationService.notify(
+                route.getDriver().getUser(),
+                NOTIF_TRIP_CONFIRMED,
                 "Nouvelle réservation",
                 "Le passager " + passenger.getFirstname() + " a réservé une place sur votre trajet."
         );
@@ -83,43 +87,32 @@ public class ReservationServiceImpl implements IReservationService {
 
     @Override
     @Transactional
-    public void cancelReservation(Integer routeId, String passengerEmail) {
-        Profil passenger = profilRepository.findByUserEmail(passengerEmail)
-                .orElseThrow(() -> new BusinessException("Profil non trouvé", HttpStatus.NOT_FOUND));
-
-        UserRouteId id = new UserRouteId(passenger.getId(), routeId);
+    public void cancelReservation(Integer routeId, Integer passengerId) {
+        UserRouteId id = new UserRouteId(passengerId, routeId);
         UserRoute reservation = userRouteRepository.findById(id)
                 .orElseThrow(() -> new BusinessException("Réservation non trouvée", HttpStatus.NOT_FOUND));
+        Profil passenger = reservation.getPassenger();
 
-        if (STATUS_CANCELLED.equals(reservation.getStatus())) {
+        // L'UPDATE conditionnel garantit qu'une place n'est rendue qu'une fois,
+        // même si deux annulations de la même réservation arrivent en même temps
+        if (STATUS_CANCELLED.equals(reservation.getStatus()) || userRouteRepository.cancelIfActive(id) == 0) {
             throw new BusinessException("Cette réservation est déjà annulée", HttpStatus.BAD_REQUEST);
         }
-        Route route = reservation.getRoute();
-        route.setPlace((short) (route.getPlace() + 1));
-        routeRepository.save(route);
-
-        reservation.setStatus(STATUS_CANCELLED);
-        userRouteRepository.save(reservation);
+        routeRepository.incrementPlace(routeId);
 
-        // Notification au conducteur
-        emailService.sendSimpleMessage(
-                reservation.getRoute().getDriver().getUser().getEmail(),
+        // Notification au conducteur (outbox, distribuée après le commit)
+        notificationService.notify(
+                reservation.getRoute().getDriver().getUser(),
+                NOTIF_TRIP_CANCELLED,
                 "Annulation de réservation",
                 "Le passager " + passenger.getFirstname() + " a annulé sa réservation sur votre trajet."
         );
     }
 
     @Override
-    public List<ReservationResponse> getPassengerReservations(String email) {
-        Profil passenger = profilRepository.findByUserEmail(email)
-                .orElseThrow(() -> new BusinessException("Profil non trouvé", HttpStatus.NOT_FOUND));
-
-        List<UserRoute> reservations = userRouteRepository.findByPassengerIdAndStatusNot(passenger.getId(), STATUS_CANCELLED);
-
-        return reservations.stream().map(res -> {
-            Map<String, Location> locs = routeService.getLocationsForRoute(res.getRoute().getId());
-            return entityMapper.toReservationResponse(res, locs.get("starting"), locs.get("arrival"));
-        }).toList();
+    public List<ReservationResponse> getPassengerReservations(Integer passengerId) {
+        // Une seule requête de projection, filtrée sur l'identifiant du profil (pas de jointure sur user_account)
+        return userRouteRepository.findReservationsByPassengerId(passengerId);
     }
 
     @Override
@@ -1,11 +1,16 @@
 package fr.cda.covoit_api.service.impl;
 
 import fr.cda.covoit_api.domain.entity.*;
+import fr.cda.covoit_api.domain.geo.GeoCircle;
+import fr.cda.covoit_api.domain.search.RouteSearchCriteria;
+import fr.cda.covoit_api.dto.request.RouteCursor;
 import fr.cda.covoit_api.dto.request.RouteRequest;
+import fr.cda.covoit_api.dto.response.CursorPageResponse;
 import fr.cda.covoit_api.dto.response.RouteResponse;
 import fr.cda.covoit_api.exception.BusinessException;
 import fr.cda.covoit_api.mapper.EntityMapper;
 import fr.cda.covoit_api.repository.*;
+import fr.cda.covoit_api.service.interfaces.ICatalogService;
 import fr.cda.covoit_api.service.interfaces.IRouteService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -35,7 +40,7 @@ public class RouteServiceImpl implements IRouteService {
     private final LocationRepository locationRepository;
     private final RouteLocationRepository routeLocationRepository;
     private final ProfilRepository profilRepository;
-    private final IconRepository iconRepository;
+    private final ICatalogService catalogService;
     private final EntityMapper entityMapper;
     private final UserRouteRepository userRouteRepository;
 
@@ -46,15 +51,18 @@ public class RouteServiceImpl implements IRouteService {
      * @param route L'entité trajet pré-remplie.
      * @param start L'entité localisation de départ.
      * @param end L'entité localisation d'arrivée.
-     * @param email Email du conducteur pour récupération du profil.
+     * @param driverId Identifiant du profil du conducteur authentifié.
      * @return Le trajet sauvegardé avec ses relations.
      */
     @Override
     @Transactional
-    public Route createRoute(Route route, Location start, Location end, String email) {
-        Profil driver = profilRepository.findByUserEmail(email)
+    public Route createRoute(Route route, Location start, Location end, Integer driverId) {
+        Profil driver = profilRepository.findById(driverId)
                 .orElseThrow(() -> new BusinessException("Profil introuvable", HttpStatus.NOT_FOUND));
         route.setDriver(driver);
+        // Modèle de lecture de la recherche : départ et arrivée recopiés sur la ligne du trajet
+        route.setDeparture(RouteEndpoint.of(start));
+        route.setArrival(RouteEndpoint.of(end));
 
         Location savedStart = locationRepository.save(start);
         Location savedEnd = locationRepository.save(end);
@@ -75,23 +83,83 @@ public class RouteServiceImpl implements IRouteService {
         return savedRoute;
     }
 
+    /**
+     * Recherche une page de trajets et construit directement les {@link RouteResponse}.
+     * Deux requêtes ensemblistes au total : les identifiants de la page (pagination par clé),
+     * puis les liens RouteLocation de ces trajets avec tout le graphe nécessaire au mapping.
+     *
+     * @param after Curseur du dernier trajet de la page précédente, null pour la première page.
+     * @param size Nombre maximal de trajets dans la page.
+     * @return La page de trajets et le curseur de la page suivante (null si c'est la dernière).
+     */
     @Override
-    public List<Route> searchRoutes(String startingCity, String arrivalCity, LocalDate tripDate) {
-        return routeRepository.findBySearchCriteria(startingCity, arrivalCity, tripDate);
+    @Transactional(readOnly = true)
+    public CursorPageResponse<RouteResponse> searchRoutesWithDetails(String startingCity, String arrivalCity, LocalDate tripDate,
+                                                                     RouteCursor after, int size) {
+        return searchPage(RouteSearchCriteria.byCity(startingCity, arrivalCity, tripDate), after, size);
     }
 
+    /**
+     * Recherche une page de trajets dont le départ et l'arrivée se trouvent chacun dans un rayon donné.
+     * Même pagination par clé et même chargement ensembliste que {@link #searchRoutesWithDetails}.
+     *
+     * @param departure Zone de départ (centre et rayon en km).
+     * @param arrival Zone d'arrivée (centre et rayon en km).
+     * @param after Curseur du dernier trajet de la page précédente, null pour la première page.
+     * @param size Nombre maximal de trajets dans la page.
+     * @return La page de trajets et le curseur de la page suivante (null si c'est la dernière).
+     */
     @Override
-    public List<RouteResponse> searchRoutesWithDetails(String startingCity, String arrivalCity, LocalDate tripDate) {
-        List<Route> routes = routeRepository.findBySearchCriteria(startingCity, arrivalCity, tripDate);
-
-        return routes.stream().map(route -> {
-            Map<String, Location> locations = getLocationsForRoute(route.getId());
-            return entityMapper.toRouteResponse(
-                    route,
-                    locations.get(STARTING),
-                    locations.get(ARRIVAL)
-            );
-        }).toList();
+    @Transactional(readOnly = true)
+    public CursorPageResponse<RouteResponse> searchRoutesNearby(GeoCircle departure, GeoCircle arrival, LocalDate tripDate,
+                                                                RouteCursor after, int size) {
+        return searchPage(RouteSearchCriteria.byProximity(departure, arrival, tripDate), after, size);
+    }
+
+    /**
+     * Page des trajets proposés par un conducteur, triés par date et heure.
+     * Même pagination par clé et même chargement ensembliste que {@link #searchRoutesWithDetails}.
+     *
+     * @param profilId Identifiant du profil conducteur.
+     * @param after Curseur du dernier trajet de la page précédente, null pour la première page.
+     * @param size Nombre maximal de trajets dans la page.
+     * @return La page de trajets et le curseur de la page suivante (null si c'est la dernière).
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<RouteResponse> getDriverTrips(Integer profilId, RouteCursor after, int size) {
+        return toPage(routeRepository.findKeysByDriver(profilId, after, size + 1), size);
+    }
+
+    /**
+     * Page des trajets réservés par un passager, triés par date et heure.
+     * Même pagination par clé et même chargement ensembliste que {@link #searchRoutesWithDetails}.
+     *
+     * @param profilId Identifiant du profil passager.
+     * @param after Curseur du dernier trajet de la page précédente, null pour la première page.
+     * @param size Nombre maximal de trajets dans la page.
+     * @return La page de trajets et le curseur de la page suivante (null si c'est la dernière).
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<RouteResponse> getPassengerTrips(Integer profilId, RouteCursor after, int size) {
+        return toPage(routeRepository.findKeysByPassenger(profilId, after, size + 1), size);
+    }
+
+    // Un élément de plus que la taille demandée permet de savoir s'il existe une page suivante
+    private CursorPageResponse<RouteResponse> searchPage(RouteSearchCriteria criteria, RouteCursor after, int size) {
+        return toPage(routeRepository.findKeysByCriteria(criteria, after, size + 1), size);
+    }
+
+    // keys contient jusqu'à size + 1 clés : l'élément en trop signale une page suivante.
+    // Le curseur suivant est la dernière clé lue, même si ce trajet n'a pas pu être chargé (supprimé entre-temps, sans adresse)
+    private CursorPageResponse<RouteResponse> toPage(List<RouteCursor> keys, int size) {
+        boolean hasNext = keys.size() > size;
+        List<RouteCursor> page = hasNext ? keys.subList(0, size) : keys;
+        List<RouteResponse> content = toRouteResponses(page.stream().map(RouteCursor::id).toList());
+
+        String next = hasNext ? page.get(page.size() - 1).encode() : null;
+        return new CursorPageResponse<>(content, next);
     }
 
     @Override
@@ -112,11 +180,11 @@ public class RouteServiceImpl implements IRouteService {
 
     @Override
     @Transactional
-    public void deleteRoute(Integer id, String email) {
+    public void deleteRoute(Integer id, Integer requestorProfilId) {
         Route route = routeRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(TRIP_NOT_FOUND, HttpStatus.NOT_FOUND));
 
-        if (!route.getDriver().getUser().getEmail().equals(email)) {
+        if (!isDriver(route, requestorProfilId)) {
             throw new BusinessException("Vous n'êtes pas le conducteur de ce trajet", HttpStatus.FORBIDDEN);
         }
 
@@ -129,17 +197,17 @@ public class RouteServiceImpl implements IRouteService {
      *
      * @param id Identifiant du trajet.
      * @param newCapacity Nouveau nombre de places disponibles.
-     * @param email Email du demandeur (vérification de propriété).
+     * @param requestorProfilId Profil du demandeur (vérification de propriété).
      * @throws BusinessException (409 Conflict) si la capacité est insuffisante pour les réservations actuelles.
      */
     @Override
     @Transactional
-    public Route updateRouteSeats(Integer id, Short newCapacity, String email) {
+    public Route updateRouteSeats(Integer id, Short newCapacity, Integer requestorProfilId) {
         Route route = routeRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(TRIP_NOT_FOUND, HttpStatus.NOT_FOUND));
 
         // Vérification de propriété
-        if (!route.getDriver().getUser().getEmail().equals(email)) {
+        if (!isDriver(route, requestorProfilId)) {
             throw new BusinessException("Seul le conducteur peut modifier ce trajet", HttpStatus.FORBIDDEN);
         }
 
@@ -156,11 +224,11 @@ public class RouteServiceImpl implements IRouteService {
 
     @Override
     @Transactional
-    public Route updateRoute(Integer id, RouteRequest dto, String email) {
+    public Route updateRoute(Integer id, RouteRequest dto, Integer requestorProfilId) {
         Route route = routeRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(TRIP_NOT_FOUND, HttpStatus.NOT_FOUND));
 
-        if (!route.getDriver().getUser().getEmail().equals(email)) {
+        if (!isDriver(route, requestorProfilId)) {
             throw new BusinessException("Action non autorisée", HttpStatus.FORBIDDEN);
         }
 
@@ -178,7 +246,7 @@ public class RouteServiceImpl implements IRouteService {
         route.setDate(dto.getTripDate());
         route.setHour(dto.getTripHour());
 
-        Icon icon = iconRepository.findById(dto.getIconId())
+        Icon icon = catalogService.findIcon(dto.getIconId())
                 .orElseThrow(() -> new BusinessException("Icône non trouvée", HttpStatus.NOT_FOUND));
         route.setIcon(icon);
 
@@ -187,8 +255,10 @@ public class RouteServiceImpl implements IRouteService {
             Location loc = link.getLocation();
             if (STARTING.equals(link.getType())) {
                 updateLocationFields(loc, dto.getStartingAddress());
+                route.setDeparture(RouteEndpoint.of(loc));
             } else if (ARRIVAL.equals(link.getType())) {
                 updateLocationFields(loc, dto.getArrivalAddress());
+                route.setArrival(RouteEndpoint.of(loc));
             }
             locationRepository.save(loc);
         }
@@ -196,6 +266,37 @@ public class RouteServiceImpl implements IRouteService {
         return routeRepository.save(route);
     }
 
+    // Mappe une liste d'identifiants de trajets en réponses, dans l'ordre fourni, en une seule requête
+    private List<RouteResponse> toRouteResponses(List<Integer> routeIds) {
+        if (routeIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Route> routes = new HashMap<>();
+        Map<Integer, Map<String, Location>> locationsByRoute = new HashMap<>();
+        for (RouteLocation link : routeLocationRepository.findWithRouteDetailsByRouteIdIn(routeIds)) {
+            Integer routeId = link.getId().getRouteId();
+            routes.putIfAbsent(routeId, link.getRoute());
+            locationsByRoute.computeIfAbsent(routeId, k -> new HashMap<>()).put(link.getType(), link.getLocation());
+        }
+
+        return routeIds.stream()
+                .filter(routes::containsKey)
+                .map(routeId -> {
+                    Map<String, Location> locations = locationsByRoute.get(routeId);
+                    return entityMapper.toRouteResponse(
+                            routes.get(routeId),
+                            locations.get(STARTING),
+                            locations.get(ARRIVAL)
+                    );
+                }).toList();
+    }
+
+    // Compare l'identifiant du conducteur (clé étrangère id_profil) sans initialiser le proxy du profil
+    private static boolean isDriver(Route route, Integer profilId) {
+        return route.getDriver().getId().equals(profilId);
+    }
+
     // Méthode utilitaire privée pour éviter la répétition
     private void updateLocationFields(Location loc, RouteRequest.AddressRequest addrDto) {
         loc.setStreetNumber(addrDto.getStreetNumber());
@@ -6,6 +6,8 @@ import fr.cda.covoit_api.dto.response.AuthResponse;
 public interface IAuthService {
     AuthResponse register(RegisterRequest request);
     AuthResponse login(String email, String password);
+    AuthResponse refresh(String refreshToken);
+    void logout(String accessToken, String refreshToken);
     void forgotPassword(String email);
     void resetPassword(String token, String newPassword);
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package fr.cda.covoit_api.service.interfaces;
+
+import fr.cda.covoit_api.domain.entity.*;
+import fr.cda.covoit_api.dto.request.BrandRequest;
+import fr.cda.covoit_api.dto.request.ModelRequest;
+import fr.cda.covoit_api.dto.response.BrandResponse;
+import fr.cda.covoit_api.dto.response.ModelResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Référentiels quasi statiques (marques, modèles, icônes, rôles, statuts), servis depuis la mémoire.
+ * <p>
+ * Les lectures ne touchent pas la base tant que le cache est valide ; les écritures d'administration
+ * passent par ce service, qui invalide le cache après le commit.
+ * </p>
+ */
+public interface ICatalogService {
+
+    /**
+     * Liste prête à servir, avec l'ETag calculé sur son contenu.
+     *
+     * @param items éléments de la liste
+     * @param etag  empreinte du contenu, identique d'une instance de l'API à l'autre
+     */
+    record Listing<T>(List<T> items, String etag) {
+    }
+
+    Listing<BrandResponse> getBrands();
+    Listing<ModelResponse> getModels();
+    Listing<ModelResponse> getModelsByBrand(Integer brandId);
+
+    Optional<Model> findModel(Integer id);
+    Optional<Icon> findIcon(Integer id);
+    Optional<Role> findRole(String label);
+    Optional<Status> findStatus(String label);
+
+    Brand createBrand(BrandRequest dto);
+    Brand updateBrand(Integer id, BrandRequest dto);
+    void deleteBrand(Integer id);
+
+    Model createModel(ModelRequest dto);
+    Model updateModel(Integer id, ModelRequest dto);
+    void deleteModel(Integer id);
+}
@@ -2,4 +2,12 @@ package fr.cda.covoit_api.service.interfaces;
 
 public interface IEmailService {
     void sendSimpleMessage(String to, String subject, String content);
+
+    /**
+     * Envoie l'email immédiatement, dans le thread appelant, sans passer par la file d'envoi.
+     * Pour les appelants qui doivent savoir si l'envoi a réussi (distribution de l'outbox).
+     *
+     * @throws org.springframework.web.client.RestClientException si Brevo répond en erreur ou est injoignable
+     */
+    void sendNow(String to, String subject, String content);
 }
\ No newline at end of file
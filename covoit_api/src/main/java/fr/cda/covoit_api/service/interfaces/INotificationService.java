@@ -0,0 +1,7 @@
+package fr.cda.covoit_api.service.interfaces;
+
+import fr.cda.covoit_api.domain.entity.User;
+
+public interface INotificationService {
+    void notify(User recipient, String typeLabel, String subject, String content);
+}
@@ -3,25 +3,26 @@ package fr.cda.covoit_api.service.interfaces;
 import fr.cda.covoit_api.domain.entity.Profil;
 import fr.cda.covoit_api.domain.entity.Vehicle;
 import fr.cda.covoit_api.dto.request.ProfilRequest;
+import fr.cda.covoit_api.dto.request.RouteCursor;
+import fr.cda.covoit_api.dto.response.CursorPageResponse;
 import fr.cda.covoit_api.dto.response.RouteResponse;
 import jakarta.transaction.Transactional;
 
 import java.util.List;
 
 public interface IProfilService {
-    Profil createProfil(ProfilRequest dto, String userEmail);
+    Profil createProfil(ProfilRequest dto, Integer accountId);
     Vehicle addVehicle(Vehicle vehicle, Integer profilId);
-    Profil getProfilByEmail(String email);
-    Profil updateProfil(Integer id, ProfilRequest dto, String emailRequestor);
+    Profil updateProfil(Integer id, ProfilRequest dto, Integer requestorProfilId);
 
     @Transactional
-    void deleteProfil(Integer id, String requestorEmail);
+    void deleteProfil(Integer id, Integer requestorProfilId);
 
-    Vehicle getVehicleByEmail(String email);
-    Vehicle updateVehicle(Integer id, Vehicle vehicleDetails, String email);
-    void deleteVehicle(Integer id, String email);
-    List<RouteResponse> getDriverTrips(Integer profilId);
-    List<RouteResponse> getPassengerTrips(Integer profilId);
+    Vehicle getVehicleByOwner(Integer profilId);
+    Vehicle updateVehicle(Integer id, Vehicle vehicleDetails, Integer requestorProfilId);
+    void deleteVehicle(Integer id, Integer requestorProfilId);
+    CursorPageResponse<RouteResponse> getDriverTrips(Integer profilId, RouteCursor after, int size);
+    CursorPageResponse<RouteResponse> getPassengerTrips(Integer profilId, RouteCursor after, int size);
     List<Profil> getAllProfils();
     Profil getProfilById(Integer id);
     List<Vehicle> getAllVehicles();
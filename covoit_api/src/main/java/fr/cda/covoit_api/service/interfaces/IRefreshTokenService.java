@@ -0,0 +1,46 @@
+package fr.cda.covoit_api.service.interfaces;
+
+import fr.cda.covoit_api.security.AuthenticatedUser;
+
+/**
+ * Jetons de rafraîchissement : émission à la connexion, puis échange contre un nouveau jeton (rotation).
+ * <p>
+ * Un jeton ne s'échange qu'une fois. Présenter un jeton déjà échangé ou révoqué révoque toute sa famille :
+ * le client légitime comme un éventuel voleur doivent se reconnecter.
+ * </p>
+ */
+public interface IRefreshTokenService {
+
+    /**
+     * Résultat d'un échange.
+     *
+     * @param user         utilisateur relu en base (rôle, profil et version des jetons à jour)
+     * @param refreshToken jeton de rafraîchissement qui remplace celui présenté
+     */
+    record Rotation(AuthenticatedUser user, String refreshToken) {
+    }
+
+    /**
+     * @return un jeton de rafraîchissement ouvrant une nouvelle famille, à remettre au client
+     */
+    String issue(AuthenticatedUser user);
+
+    /**
+     * @throws fr.cda.covoit_api.exception.BusinessException (401) si le jeton est inconnu, expiré,
+     *                                                         déjà utilisé, révoqué ou émis avant un changement
+     *                                                         de mot de passe, de statut ou de rôle
+     */
+    Rotation rotate(String refreshToken);
+
+    /**
+     * Révoque la famille du jeton (déconnexion). Sans effet si le jeton est inconnu ou appartient à un autre compte.
+     */
+    void revoke(String refreshToken, Integer accountId);
+
+    /**
+     * Supprime les jetons expirés.
+     *
+     * @return nombre de jetons supprimés
+     */
+    int purgeExpired();
+}
@@ -7,8 +7,8 @@ import fr.cda.covoit_api.dto.response.ReservationResponse;
 import java.util.List;
 
 public interface IReservationService {
-    ReservationResponse reservePlace(Integer routeId, String passengerEmail);
-    void cancelReservation(Integer routeId, String passengerEmail);
-    List<ReservationResponse> getPassengerReservations(String email);
+    ReservationResponse reservePlace(Integer routeId, Integer passengerId);
+    void cancelReservation(Integer routeId, Integer passengerId);
+    List<ReservationResponse> getPassengerReservations(Integer passengerId);
     List<ProfilResponse> getPassengersByRouteId(Integer routeId);
 }
\ No newline at end of file
@@ -2,20 +2,26 @@ package fr.cda.covoit_api.service.interfaces;
 
 import fr.cda.covoit_api.domain.entity.Location;
 import fr.cda.covoit_api.domain.entity.Route;
+import fr.cda.covoit_api.domain.geo.GeoCircle;
+import fr.cda.covoit_api.dto.request.RouteCursor;
 import fr.cda.covoit_api.dto.request.RouteRequest;
+import fr.cda.covoit_api.dto.response.CursorPageResponse;
 import fr.cda.covoit_api.dto.response.RouteResponse;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Map;
 
 public interface IRouteService {
-    Route createRoute(Route route, Location start, Location end, String email);
-    List<Route> searchRoutes(String startingCity, String arrivalCity, LocalDate tripDate);
-    List<RouteResponse> searchRoutesWithDetails(String startingCity, String arrivalCity, LocalDate tripDate);
+    Route createRoute(Route route, Location start, Location end, Integer driverId);
+    CursorPageResponse<RouteResponse> searchRoutesWithDetails(String startingCity, String arrivalCity, LocalDate tripDate,
+                                                              RouteCursor after, int size);
+    CursorPageResponse<RouteResponse> searchRoutesNearby(GeoCircle departure, GeoCircle arrival, LocalDate tripDate,
+                                                         RouteCursor after, int size);
+    CursorPageResponse<RouteResponse> getDriverTrips(Integer profilId, RouteCursor after, int size);
+    CursorPageResponse<RouteResponse> getPassengerTrips(Integer profilId, RouteCursor after, int size);
     Route getById(Integer id);
-    void deleteRoute(Integer id, String email);
+    void deleteRoute(Integer id, Integer requestorProfilId);
     Map<String, Location> getLocationsForRoute(Integer routeId);
-    Route updateRouteSeats(Integer id, Short newCapacity, String email);
-    Route updateRoute(Integer id, RouteRequest dto, String email);
+    Route updateRouteSeats(Integer id, Short newCapacity, Integer requestorProfilId);
+    Route updateRoute(Integer id, RouteRequest dto, Integer requestorProfilId);
 }
\ No newline at end of file
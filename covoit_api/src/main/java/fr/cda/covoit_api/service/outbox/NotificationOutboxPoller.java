@@ -0,0 +1,162 @@
+package fr.cda.covoit_api.service.outbox;
+
+import fr.cda.covoit_api.domain.entity.Notification;
+import fr.cda.covoit_api.domain.entity.NotificationOutbox;
+import fr.cda.covoit_api.domain.entity.UserNotification;
+import fr.cda.covoit_api.repository.NotificationOutboxRepository;
+import fr.cda.covoit_api.repository.NotificationRepository;
+import fr.cda.covoit_api.repository.TypeNotificationRepository;
+import fr.cda.covoit_api.repository.UserNotificationRepository;
+import fr.cda.covoit_api.repository.UserRepository;
+import fr.cda.covoit_api.service.interfaces.IEmailService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Distribution des événements de {@code notification_outbox}.
+ * <p>
+ * À intervalle régulier, parcourt les événements en attente dans l'ordre de création, un par transaction :
+ * verrouillage de l'événement ({@code FOR UPDATE SKIP LOCKED}), notification et entrée {@code user_notification}
+ * propres à l'événement, envoi synchrone de l'email ({@link IEmailService#sendNow}) puis marquage comme traité.
+ * L'événement n'est marqué traité qu'une fois l'email accepté par Brevo : distribution « au moins une fois »
+ * (un arrêt entre l'envoi et le commit renvoie l'email au passage suivant). Le verrou et la connexion
+ * sont conservés pendant l'appel HTTP, dont la durée est bornée par le délai du client Brevo.
+ * Plusieurs nœuds peuvent exécuter le poller en parallèle : chacun ne voit que les lignes
+ * que les autres n'ont pas verrouillées.
+ * </p>
+ * <p>
+ * Un échec de distribution (envoi compris) n'annule que l'événement concerné : son nombre de tentatives
+ * et la cause sont enregistrés dans une nouvelle transaction, il est retenté après
+ * {@code covoit.outbox.retry-backoff-ms} (délai doublé à chaque échec), puis écarté ({@code failed_at})
+ * après {@code covoit.outbox.max-attempts} échecs.
+ * </p>
+ */
+@Component
+@Slf4j
+public class NotificationOutboxPoller {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final TypeNotificationRepository typeNotificationRepository;
+    private final UserNotificationRepository userNotificationRepository;
+    private final UserRepository userRepository;
+    private final IEmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    public NotificationOutboxPoller(NotificationOutboxRepository outboxRepository,
+                                    NotificationRepository notificationRepository,
+                                    TypeNotificationRepository typeNotificationRepository,
+                                    UserNotificationRepository userNotificationRepository,
+                                    UserRepository userRepository,
+                                    IEmailService emailService,
+                                    TransactionTemplate transactionTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${covoit.outbox.batch-size:100}") int batchSize,
+                                    @Value("${covoit.outbox.max-attempts:5}") int maxAttempts,
+                                    @Value("${covoit.outbox.retry-backoff-ms:30000}") long retryBackoffMs) {
+        this.outboxRepository = outboxRepository;
+        this.notificationRepository = notificationRepository;
+        this.typeNotificationRepository = typeNotificationRepository;
+        this.userNotificationRepository = userNotificationRepository;
+        this.userRepository = userRepository;
+        this.emailService = emailService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+
+        Gauge.builder("covoit.outbox.pending", outboxRepository, NotificationOutboxRepository::countByProcessedAtIsNullAndFailedAtIsNull)
+                .description("Événements de notification en attente de distribution")
+                .register(meterRegistry);
+        Gauge.builder("covoit.outbox.failed", outboxRepository, NotificationOutboxRepository::countByFailedAtIsNotNull)
+                .description("Événements de notification écartés après trop d'échecs")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Vide la file par lots successifs jusqu'à ce qu'un lot incomplet indique qu'elle est épuisée,
+     * ou qu'un échec renvoie les événements concernés au passage suivant.
+     */
+    @Scheduled(fixedDelayString = "${covoit.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        int processed;
+        do {
+            processed = drainBatch();
+        } while (processed == batchSize);
+    }
+
+    /**
+     * Traite un lot d'événements en attente, chacun dans sa propre transaction.
+     *
+     * @return le nombre d'événements distribués
+     */
+    public int drainBatch() {
+        int delivered = 0;
+        for (Long id : outboxRepository.findPendingIds(LocalDateTime.now(), batchSize)) {
+            try {
+                Boolean done = transactionTemplate.execute(status -> outboxRepository.lockPending(id)
+                        .map(event -> {
+                            deliver(event);
+                            event.setProcessedAt(LocalDateTime.now());
+                            return true;
+                        })
+                        .orElse(false));
+                if (Boolean.TRUE.equals(done)) {
+                    delivered++;
+                }
+            } catch (RuntimeException e) {
+                recordFailure(id, e);
+            }
+        }
+        if (delivered > 0) {
+            log.info("{} notification(s) distribuée(s)", delivered);
+        }
+        return delivered;
+    }
+
+    // Nouvelle transaction : celle de la distribution est annulée
+    private void recordFailure(Long id, RuntimeException e) {
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.lockPending(id).ifPresent(event -> {
+            event.setAttempts(event.getAttempts() + 1);
+            event.setLastError(NestedExceptionUtils.getMostSpecificCause(e).toString());
+            if (event.getAttempts() >= maxAttempts) {
+                event.setFailedAt(LocalDateTime.now());
+                log.error("Notification {} écartée après {} échecs (compte {})", id, event.getAttempts(), event.getAccountId(), e);
+            } else {
+                long backoff = retryBackoffMs << (event.getAttempts() - 1);
+                event.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoff)));
+                log.warn("Échec de distribution de la notification {} (tentative {}/{}), nouvel essai dans {} ms : {}",
+                        id, event.getAttempts(), maxAttempts, backoff, event.getLastError());
+            }
+        }));
+    }
+
+    private void deliver(NotificationOutbox event) {
+        // Une notification par événement : deux destinataires d'un même texte ne partagent pas la même ligne
+        Notification notification = new Notification();
+        notification.setContain(event.getContent());
+        notification.setType(typeNotificationRepository.findByLabel(event.getTypeLabel()).orElse(null));
+        notificationRepository.save(notification);
+
+        UserNotification inboxEntry = new UserNotification();
+        inboxEntry.setUser(userRepository.getReferenceById(event.getAccountId()));
+        inboxEntry.setNotification(notification);
+        inboxEntry.setCreatedAt(event.getCreatedAt());
+        userNotificationRepository.save(inboxEntry);
+
+        // En dernier : un échec d'envoi annule aussi l'entrée de boîte de réception
+        emailService.sendNow(event.getRecipientEmail(), event.getSubject(), event.getContent());
+    }
+}
@@ -0,0 +1,8 @@
+-- ============================================================
+-- Délai avant nouvelle tentative de distribution
+-- ============================================================
+-- L'email est désormais envoyé pendant la distribution, avant le marquage comme traité : une panne
+-- de Brevo fait échouer chaque événement. Sans délai, les N tentatives seraient épuisées en quelques
+-- secondes ; next_attempt_at espace les tentatives (délai doublé à chaque échec).
+
+ALTER TABLE notification_outbox ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP(6);
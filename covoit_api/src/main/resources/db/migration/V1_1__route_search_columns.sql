@@ -0,0 +1,20 @@
+-- ============================================================
+-- Clés de recherche des trajets
+-- ============================================================
+-- Colonnes introduites alors que le schéma était encore produit par ddl-auto=update : absentes des bases
+-- marquées en V1, d'où les IF NOT EXISTS. Remplies pour les lignes existantes par V3__search_keys_backfill.sql.
+
+-- Départ et arrivée dénormalisés (modèle de lecture de la recherche, copie de route_location/location),
+-- avec la clé de ville normalisée (CityKey) et la cellule de grille (GeoGrid)
+ALTER TABLE route ADD COLUMN IF NOT EXISTS start_city_name VARCHAR(100);
+ALTER TABLE route ADD COLUMN IF NOT EXISTS start_city_key VARCHAR(100);
+ALTER TABLE route ADD COLUMN IF NOT EXISTS start_postal_code VARCHAR(10);
+ALTER TABLE route ADD COLUMN IF NOT EXISTS start_latitude FLOAT(53);
+ALTER TABLE route ADD COLUMN IF NOT EXISTS start_longitude FLOAT(53);
+ALTER TABLE route ADD COLUMN IF NOT EXISTS start_grid_cell BIGINT;
+ALTER TABLE route ADD COLUMN IF NOT EXISTS arrival_city_name VARCHAR(100);
+ALTER TABLE route ADD COLUMN IF NOT EXISTS arrival_city_key VARCHAR(100);
+ALTER TABLE route ADD COLUMN IF NOT EXISTS arrival_postal_code VARCHAR(10);
+ALTER TABLE route ADD COLUMN IF NOT EXISTS arrival_latitude FLOAT(53);
+ALTER TABLE route ADD COLUMN IF NOT EXISTS arrival_longitude FLOAT(53);
+ALTER TABLE route ADD COLUMN IF NOT EXISTS arrival_grid_cell BIGINT;
@@ -0,0 +1,17 @@
+-- ============================================================
+-- Outbox des notifications
+-- ============================================================
+-- Écrite dans la transaction métier, distribuée par NotificationOutboxPoller.
+-- Table introduite avant Flyway (ddl-auto=update) : IF NOT EXISTS pour les bases qui l'ont déjà.
+
+CREATE TABLE IF NOT EXISTS notification_outbox(
+   Id_outbox BIGINT GENERATED BY DEFAULT AS IDENTITY,
+   Id_account INT NOT NULL,
+   recipient_email VARCHAR(255) NOT NULL,
+   type_label VARCHAR(50) NOT NULL,
+   subject VARCHAR(255) NOT NULL,
+   content TEXT NOT NULL,
+   created_at TIMESTAMP(6) NOT NULL,
+   processed_at TIMESTAMP(6),
+   PRIMARY KEY(Id_outbox)
+);
@@ -0,0 +1,165 @@
+-- ============================================================
+-- Schéma initial
+-- ============================================================
+-- Reprend back_up_bdd/bdd.sql avec les types et contraintes des entités JPA, c'est-à-dire le schéma
+-- que ddl-auto=update a produit sur les bases existantes, avant l'introduction de Flyway. Ces bases sont
+-- marquées à cette version (spring.flyway.baseline-on-migrate) : ce script ne s'exécute que sur une base vide,
+-- et toute évolution du schéma, même antérieure à Flyway dans l'historique du code, passe par une version suivante.
+
+CREATE TABLE icon(
+   Id_icon INT GENERATED BY DEFAULT AS IDENTITY,
+   label VARCHAR(50) NOT NULL,
+   PRIMARY KEY(Id_icon),
+   UNIQUE(label)
+);
+
+CREATE TABLE brand(
+   Id_brand INT GENERATED BY DEFAULT AS IDENTITY,
+   label VARCHAR(255) NOT NULL,
+   PRIMARY KEY(Id_brand),
+   UNIQUE(label)
+);
+
+CREATE TABLE model(
+   Id_model INT GENERATED BY DEFAULT AS IDENTITY,
+   label VARCHAR(255) NOT NULL,
+   Id_brand INT NOT NULL,
+   PRIMARY KEY(Id_model),
+   FOREIGN KEY(Id_brand) REFERENCES brand(Id_brand)
+);
+
+CREATE TABLE role_user(
+   Id_role INT GENERATED BY DEFAULT AS IDENTITY,
+   label VARCHAR(50) NOT NULL,
+   PRIMARY KEY(Id_role),
+   UNIQUE(label)
+);
+
+CREATE TABLE status(
+   Id_status INT GENERATED BY DEFAULT AS IDENTITY,
+   label VARCHAR(50) NOT NULL,
+   PRIMARY KEY(Id_status),
+   UNIQUE(label)
+);
+
+CREATE TABLE location(
+   Id_location INT GENERATED BY DEFAULT AS IDENTITY,
+   street_number VARCHAR(255),
+   street_name VARCHAR(255) NOT NULL,
+   postal_code VARCHAR(10) NOT NULL,
+   city_name VARCHAR(100) NOT NULL,
+   latitude FLOAT(53) NOT NULL,
+   longitude FLOAT(53) NOT NULL,
+   PRIMARY KEY(Id_location)
+);
+
+CREATE TABLE type_notif(
+   Id_type_notif INT GENERATED BY DEFAULT AS IDENTITY,
+   label VARCHAR(255) NOT NULL,
+   PRIMARY KEY(Id_type_notif),
+   UNIQUE(label)
+);
+
+CREATE TABLE user_account(
+   Id_account INT GENERATED BY DEFAULT AS IDENTITY,
+   email VARCHAR(255) NOT NULL,
+   password VARCHAR(255) NOT NULL,
+   token VARCHAR(255),
+   reset_password_token VARCHAR(255),
+   reset_password_expires_at DATE,
+   last_login_at TIMESTAMP(6),
+   Id_status INT NOT NULL,
+   Id_role INT NOT NULL,
+   PRIMARY KEY(Id_account),
+   UNIQUE(email),
+   UNIQUE(token),
+   UNIQUE(reset_password_token),
+   FOREIGN KEY(Id_role) REFERENCES role_user(Id_role),
+   FOREIGN KEY(Id_status) REFERENCES status(Id_status)
+);
+
+CREATE TABLE user_profil(
+   Id_profil INT GENERATED BY DEFAULT AS IDENTITY,
+   firstname VARCHAR(255) NOT NULL,
+   lastname VARCHAR(255) NOT NULL,
+   phone VARCHAR(255) NOT NULL,
+   Id_account INT NOT NULL,
+   PRIMARY KEY(Id_profil),
+   UNIQUE(Id_account),
+   FOREIGN KEY(Id_account) REFERENCES user_account(Id_account)
+);
+
+CREATE TABLE vehicule(
+   Id_vehicule INT GENERATED BY DEFAULT AS IDENTITY,
+   seats SMALLINT NOT NULL,
+   carregistration VARCHAR(255),
+   additional_info VARCHAR(255),
+   Id_model INT NOT NULL,
+   Id_profil INT NOT NULL,
+   PRIMARY KEY(Id_vehicule),
+   UNIQUE(carregistration),
+   UNIQUE(Id_profil),
+   FOREIGN KEY(Id_model) REFERENCES model(Id_model),
+   FOREIGN KEY(Id_profil) REFERENCES user_profil(Id_profil)
+);
+
+CREATE TABLE route(
+   Id_route INT GENERATED BY DEFAULT AS IDENTITY,
+   distance INT NOT NULL,
+   place SMALLINT NOT NULL,
+   date_ DATE NOT NULL,
+   hour_ TIME(0) NOT NULL,
+   Id_profil INT NOT NULL,
+   Id_icon INT NOT NULL,
+   PRIMARY KEY(Id_route),
+   FOREIGN KEY(Id_profil) REFERENCES user_profil(Id_profil),
+   FOREIGN KEY(Id_icon) REFERENCES icon(Id_icon)
+);
+
+CREATE TABLE historical(
+   Id_historical INT GENERATED BY DEFAULT AS IDENTITY,
+   comment TEXT,
+   created_at TIMESTAMP(6) NOT NULL,
+   Id_route INT NOT NULL,
+   PRIMARY KEY(Id_historical),
+   FOREIGN KEY(Id_route) REFERENCES route(Id_route)
+);
+
+CREATE TABLE notification(
+   Id_notification INT GENERATED BY DEFAULT AS IDENTITY,
+   contain TEXT NOT NULL,
+   Id_type_notif INT,
+   PRIMARY KEY(Id_notification),
+   FOREIGN KEY(Id_type_notif) REFERENCES type_notif(Id_type_notif)
+);
+
+CREATE TABLE user_route(
+   Id_profil INT NOT NULL,
+   Id_route INT NOT NULL,
+   role_in_route VARCHAR(255) NOT NULL,
+   status VARCHAR(255) NOT NULL,
+   created_at TIMESTAMP(6),
+   PRIMARY KEY(Id_profil, Id_route),
+   FOREIGN KEY(Id_profil) REFERENCES user_profil(Id_profil),
+   FOREIGN KEY(Id_route) REFERENCES route(Id_route)
+);
+
+CREATE TABLE user_notification(
+   Id_user_notification INT GENERATED BY DEFAULT AS IDENTITY,
+   Id_account INT NOT NULL,
+   Id_notification INT NOT NULL,
+   created_at TIMESTAMP(6),
+   is_read BOOLEAN,
+   PRIMARY KEY(Id_user_notification),
+   FOREIGN KEY(Id_account) REFERENCES user_account(Id_account),
+   FOREIGN KEY(Id_notification) REFERENCES notification(Id_notification)
+);
+
+CREATE TABLE route_location(
+   Id_route INT NOT NULL,
+   Id_location INT NOT NULL,
+   type VARCHAR(255) NOT NULL,
+   PRIMARY KEY(Id_location, Id_route),
+   FOREIGN KEY(Id_route) REFERENCES route(Id_route),
+   FOREIGN KEY(Id_location) REFERENCES location(Id_location)
+);
@@ -0,0 +1,28 @@
+-- ============================================================
+-- Index de back_up_bdd/bdd.sql et des entités (@Table(indexes = ...))
+-- ============================================================
+-- IF NOT EXISTS : les index déclarés sur les entités existent déjà sur les bases créées par ddl-auto=update.
+-- Non repris de bdd.sql car doublons des index UNIQUE : user_account(email), user_account(token),
+-- user_profil(Id_account), vehicule(carregistration), vehicule(Id_profil) ; ni user_route(Id_profil),
+-- première colonne de la clé primaire.
+
+CREATE INDEX IF NOT EXISTS idx_account_status ON user_account(Id_status);
+CREATE INDEX IF NOT EXISTS idx_profil_name ON user_profil(lastname, firstname);
+
+CREATE INDEX IF NOT EXISTS idx_route_datetime ON route(date_, hour_);
+CREATE INDEX IF NOT EXISTS idx_route_profil ON route(Id_profil);
+CREATE INDEX IF NOT EXISTS idx_route_start_arrival_city ON route(start_city_key, arrival_city_key, date_, hour_, Id_route);
+CREATE INDEX IF NOT EXISTS idx_route_arrival_city ON route(arrival_city_key, date_, hour_, Id_route);
+CREATE INDEX IF NOT EXISTS idx_route_start_grid_cell ON route(start_grid_cell);
+CREATE INDEX IF NOT EXISTS idx_route_arrival_grid_cell ON route(arrival_grid_cell);
+
+CREATE INDEX IF NOT EXISTS idx_location_city ON location(city_name);
+CREATE INDEX IF NOT EXISTS idx_location_coords ON location(latitude, longitude);
+
+CREATE INDEX IF NOT EXISTS idx_user_route_status ON user_route(status);
+CREATE INDEX IF NOT EXISTS idx_user_notification_read ON user_notification(is_read);
+CREATE INDEX IF NOT EXISTS idx_user_notification_account ON user_notification(Id_account);
+CREATE INDEX IF NOT EXISTS idx_notification_type ON notification(Id_type_notif);
+
+-- Index partiel : le poller ne parcourt que les événements en attente
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_pending ON notification_outbox(Id_outbox) WHERE processed_at IS NULL;
@@ -0,0 +1,33 @@
+-- ============================================================
+-- Rattrapage des départs et arrivées dénormalisés sur les trajets existants
+-- ============================================================
+-- Sans effet sur une base vide ; les écritures suivantes passent par l'application (RouteEndpoint.of).
+-- Clés calculées à la volée depuis location, qui ne les stocke pas :
+--   - cellule de grille : même formule que GeoGrid.cellOf (10 cellules par degré, 3600 colonnes) ;
+--   - clé de ville : approximation SQL de CityKey.of (minuscules, sans accents du français).
+
+UPDATE route r
+SET start_city_name = l.city_name,
+    start_city_key = TRIM(REGEXP_REPLACE(
+            TRANSLATE(REPLACE(REPLACE(LOWER(l.city_name), 'œ', 'oe'), 'æ', 'ae'),
+                      'àâäáãåçéèêëíìîïñóòôöõúùûüýÿ', 'aaaaaaceeeeiiiinooooouuuuyy'),
+            '[^a-z0-9]+', ' ', 'g')),
+    start_postal_code = l.postal_code,
+    start_latitude = l.latitude,
+    start_longitude = l.longitude,
+    start_grid_cell = FLOOR((l.latitude + 90) * 10) * 3600 + LEAST(FLOOR((l.longitude + 180) * 10), 3599)
+FROM route_location rl JOIN location l ON l.Id_location = rl.Id_location
+WHERE rl.Id_route = r.Id_route AND rl.type = 'starting' AND r.start_city_key IS NULL;
+
+UPDATE route r
+SET arrival_city_name = l.city_name,
+    arrival_city_key = TRIM(REGEXP_REPLACE(
+            TRANSLATE(REPLACE(REPLACE(LOWER(l.city_name), 'œ', 'oe'), 'æ', 'ae'),
+                      'àâäáãåçéèêëíìîïñóòôöõúùûüýÿ', 'aaaaaaceeeeiiiinooooouuuuyy'),
+            '[^a-z0-9]+', ' ', 'g')),
+    arrival_postal_code = l.postal_code,
+    arrival_latitude = l.latitude,
+    arrival_longitude = l.longitude,
+    arrival_grid_cell = FLOOR((l.latitude + 90) * 10) * 3600 + LEAST(FLOOR((l.longitude + 180) * 10), 3599)
+FROM route_location rl JOIN location l ON l.Id_location = rl.Id_location
+WHERE rl.Id_route = r.Id_route AND rl.type = 'arrival' AND r.arrival_city_key IS NULL;
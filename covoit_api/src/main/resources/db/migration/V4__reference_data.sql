@@ -0,0 +1,81 @@
+-- ============================================================
+-- Données de référence (anciennement data.sql, rejoué à chaque démarrage)
+-- ============================================================
+-- ON CONFLICT / NOT EXISTS : les bases existantes contiennent déjà ces lignes.
+
+INSERT INTO status (id_status, label) VALUES
+    (1, 'ACTIVE'),
+    (2, 'INACTIVE'),
+    (3, 'BANNED'),
+    (4, 'PENDING')
+ON CONFLICT DO NOTHING;
+
+INSERT INTO role_user (id_role, label) VALUES
+    (1, 'ADMIN'),
+    (2, 'USER'),
+    (3, 'DRIVER')
+ON CONFLICT DO NOTHING;
+
+-- Options de confort/préférences
+INSERT INTO icon (id_icon, label) VALUES
+    (1, 'Non-fumeur'),
+    (2, 'Animaux acceptés'),
+    (3, 'Musique'),
+    (4, 'Discussion'),
+    (5, 'Silence'),
+    (6, 'Bagages volumineux')
+ON CONFLICT DO NOTHING;
+
+INSERT INTO type_notif (id_type_notif, label) VALUES
+    (1, 'TRIP_CONFIRMED'),
+    (2, 'TRIP_CANCELLED'),
+    (3, 'DRIVER_ARRIVED'),
+    (4, 'PAYMENT_RECEIVED'),
+    (5, 'NEW_MESSAGE'),
+    (6, 'SECURITY_ALERT')
+ON CONFLICT DO NOTHING;
+
+-- Modèles de notification
+INSERT INTO notification (id_notification, contain, id_type_notif) VALUES
+    (1, 'Votre trajet a été confirmé avec succès.', 1),
+    (2, 'Attention, le conducteur a annulé le trajet.', 2),
+    (3, 'Bienvenue ! Veuillez confirmer votre email.', 6)
+ON CONFLICT DO NOTHING;
+
+INSERT INTO brand (id_brand, label) VALUES
+    (1, 'Peugeot'),
+    (2, 'Renault'),
+    (3, 'Citroën'),
+    (4, 'Volkswagen'),
+    (5, 'Tesla'),
+    (6, 'Toyota'),
+    (7, 'BMW'),
+    (8, 'Audi')
+ON CONFLICT DO NOTHING;
+
+-- Pas de contrainte UNIQUE sur model : un ON CONFLICT ne suffit pas à éviter les doublons
+INSERT INTO model (label, id_brand)
+SELECT v.label, v.id_brand
+FROM (VALUES
+    ('208', 1), ('308', 1), ('3008', 1), ('508', 1),
+    ('Clio', 2), ('Megane', 2), ('Captur', 2), ('Arkana', 2),
+    ('C3', 3), ('C4', 3),
+    ('Golf', 4), ('Polo', 4), ('Tiguan', 4),
+    ('Model 3', 5), ('Model Y', 5)
+) AS v(label, id_brand)
+WHERE NOT EXISTS (SELECT 1 FROM model m WHERE m.label = v.label AND m.id_brand = v.id_brand);
+
+-- Administrateur par défaut, mot de passe "Admin@1234" encodé en BCrypt
+INSERT INTO user_account (id_account, email, password, id_status, id_role)
+VALUES (3, 'admin@covoit.fr', '$2a$10$yxoVAcvtXyKQavRDUIzHAeGFP/13nS/pTqX92HrprBjw5AXj6I7dS', 1, 1)
+ON CONFLICT DO NOTHING;
+
+-- Les identifiants ci-dessus sont insérés explicitement : les séquences reprennent après la valeur maximale
+SELECT setval(pg_get_serial_sequence('status', 'id_status'), (SELECT MAX(id_status) FROM status));
+SELECT setval(pg_get_serial_sequence('role_user', 'id_role'), (SELECT MAX(id_role) FROM role_user));
+SELECT setval(pg_get_serial_sequence('icon', 'id_icon'), (SELECT MAX(id_icon) FROM icon));
+SELECT setval(pg_get_serial_sequence('type_notif', 'id_type_notif'), (SELECT MAX(id_type_notif) FROM type_notif));
+SELECT setval(pg_get_serial_sequence('notification', 'id_notification'), (SELECT MAX(id_notification) FROM notification));
+SELECT setval(pg_get_serial_sequence('brand', 'id_brand'), (SELECT MAX(id_brand) FROM brand));
+SELECT setval(pg_get_serial_sequence('model', 'id_model'), (SELECT MAX(id_model) FROM model));
+SELECT setval(pg_get_serial_sequence('user_account', 'id_account'), (SELECT MAX(id_account) FROM user_account));
@@ -0,0 +1,14 @@
+-- ============================================================
+-- Index des recherches par trajet sur user_route et route_location
+-- ============================================================
+-- Les clés primaires commencent par id_profil / id_location : sans ces index, chaque réservation,
+-- mise à jour de places et réponse de trajet parcourait toute la table.
+
+-- countByRouteIdAndStatusNot et findByRouteId
+CREATE INDEX IF NOT EXISTS idx_user_route_route_status ON user_route(Id_route, status);
+
+-- findByIdRouteId, findWithRouteDetailsByRouteIdIn et jointures départ/arrivée (type = 'starting' / 'arrival')
+CREATE INDEX IF NOT EXISTS idx_route_location_route_type ON route_location(Id_route, type);
+
+-- Quelques valeurs de statut seulement : jamais choisi par le planificateur, coût pur à l'écriture
+DROP INDEX IF EXISTS idx_user_route_status;
@@ -0,0 +1,25 @@
+-- ============================================================
+-- Version des jetons d'un compte
+-- ============================================================
+-- Chaque JWT porte la version du compte au moment de sa signature : un jeton dont la version
+-- n'est plus la version courante est refusé. La version est incrémentée par la base elle-même,
+-- que la modification vienne de l'API ou d'un script d'administration (changement de rôle, bannissement).
+
+ALTER TABLE user_account ADD COLUMN IF NOT EXISTS token_version INT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION bump_user_token_version() RETURNS trigger AS $$
+BEGIN
+    NEW.token_version := OLD.token_version + 1;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Mot de passe, statut ou rôle modifiés : tous les jetons déjà émis sont révoqués
+DROP TRIGGER IF EXISTS trg_user_account_token_version ON user_account;
+CREATE TRIGGER trg_user_account_token_version
+    BEFORE UPDATE OF password, Id_status, Id_role ON user_account
+    FOR EACH ROW
+    WHEN (OLD.password IS DISTINCT FROM NEW.password
+          OR OLD.Id_status IS DISTINCT FROM NEW.Id_status
+          OR OLD.Id_role IS DISTINCT FROM NEW.Id_role)
+    EXECUTE FUNCTION bump_user_token_version();
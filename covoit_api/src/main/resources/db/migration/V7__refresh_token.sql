@@ -0,0 +1,28 @@
+-- ============================================================
+-- Jetons de rafraîchissement
+-- ============================================================
+-- Le JWT d'accès ne vit que quelques minutes ; le client en obtient un nouveau en présentant un jeton
+-- de rafraîchissement, à usage unique et remplacé à chaque utilisation (rotation).
+-- Seule l'empreinte SHA-256 du jeton est stockée. Tous les jetons issus d'une même connexion partagent
+-- une famille : présenter un jeton déjà utilisé révoque toute la famille (vol présumé).
+
+CREATE TABLE IF NOT EXISTS refresh_token(
+   Id_refresh_token BIGINT GENERATED BY DEFAULT AS IDENTITY,
+   Id_account INT NOT NULL,
+   token_hash VARCHAR(64) NOT NULL,
+   family_id UUID NOT NULL,
+   token_version INT NOT NULL,
+   created_at TIMESTAMP(6) NOT NULL,
+   expires_at TIMESTAMP(6) NOT NULL,
+   used_at TIMESTAMP(6),
+   revoked_at TIMESTAMP(6),
+   PRIMARY KEY(Id_refresh_token),
+   UNIQUE(token_hash),
+   FOREIGN KEY(Id_account) REFERENCES user_account(Id_account) ON DELETE CASCADE
+);
+
+-- Révocation d'une famille entière
+CREATE INDEX IF NOT EXISTS idx_refresh_token_family ON refresh_token(family_id);
+
+-- Purge des jetons expirés
+CREATE INDEX IF NOT EXISTS idx_refresh_token_expires_at ON refresh_token(expires_at);
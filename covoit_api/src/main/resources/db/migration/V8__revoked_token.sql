@@ -0,0 +1,24 @@
+-- ============================================================
+-- Liste de révocation des tokens d'accès
+-- ============================================================
+-- Un token d'accès révoqué avant son expiration (déconnexion) est inscrit ici par son identifiant (jti).
+-- Chaque instance de l'API en garde une copie en mémoire (filtre de Bloom + ensemble exact) et relit
+-- périodiquement les dernières révocations. Une ligne n'a plus d'utilité une fois le token expiré.
+-- La révocation de tous les tokens d'un compte passe par user_account.token_version (V6).
+
+CREATE TABLE IF NOT EXISTS revoked_token(
+   Id_revoked_token BIGINT GENERATED BY DEFAULT AS IDENTITY,
+   jti UUID NOT NULL,
+   Id_account INT NOT NULL,
+   expires_at TIMESTAMP(6) NOT NULL,
+   revoked_at TIMESTAMP(6) NOT NULL,
+   PRIMARY KEY(Id_revoked_token),
+   UNIQUE(jti),
+   FOREIGN KEY(Id_account) REFERENCES user_account(Id_account) ON DELETE CASCADE
+);
+
+-- Relecture incrémentale des révocations récentes
+CREATE INDEX IF NOT EXISTS idx_revoked_token_revoked_at ON revoked_token(revoked_at);
+
+-- Rechargement complet et purge des tokens expirés
+CREATE INDEX IF NOT EXISTS idx_revoked_token_expires_at ON revoked_token(expires_at);
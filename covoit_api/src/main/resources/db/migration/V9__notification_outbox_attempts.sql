@@ -0,0 +1,15 @@
+-- ============================================================
+-- Échecs de distribution de notification_outbox
+-- ============================================================
+-- Chaque événement est distribué dans sa propre transaction : un échec (ex : compte supprimé avant la
+-- distribution, la table n'ayant pas de clé étrangère vers user_account) n'annule plus le reste du lot.
+-- L'événement en échec est retenté aux passages suivants, puis écarté (failed_at) après N tentatives.
+
+ALTER TABLE notification_outbox ADD COLUMN IF NOT EXISTS attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE notification_outbox ADD COLUMN IF NOT EXISTS last_error TEXT;
+ALTER TABLE notification_outbox ADD COLUMN IF NOT EXISTS failed_at TIMESTAMP(6);
+
+-- Index partiel : le poller ne parcourt que les événements ni traités ni écartés
+DROP INDEX IF EXISTS idx_notification_outbox_pending;
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_pending ON notification_outbox(Id_outbox)
+    WHERE processed_at IS NULL AND failed_at IS NULL;
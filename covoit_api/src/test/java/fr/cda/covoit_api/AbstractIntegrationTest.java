@@ -1,12 +1,33 @@
 package fr.cda.covoit_api;
 
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Base des tests d'intégration : le schéma est construit par les migrations Flyway, comme en production,
+ * puis validé par Hibernate ({@code ddl-auto=validate}). Il est vidé puis migré au démarrage de chaque contexte.
+ * Un test qui a besoin du schéma généré depuis les entités doit le demander explicitement avec {@link EntitySchema}.
+ */
 @Testcontainers
+@Import(AbstractIntegrationTest.CleanMigrateConfig.class)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=true",
+        "spring.flyway.clean-disabled=false",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
 public abstract class AbstractIntegrationTest {
 
     @Container
@@ -17,7 +38,29 @@ public abstract class AbstractIntegrationTest {
         registry.add("spring.datasource.url", postgres::getJdbcUrl);
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
-        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
-        registry.add("spring.sql.init.mode", () -> "never");
     }
-}
\ No newline at end of file
+
+    /**
+     * Opt-out : schéma recréé depuis les entités ({@code ddl-auto=create-drop}) sans passer par Flyway.
+     */
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @TestPropertySource(properties = {
+            "spring.jpa.hibernate.ddl-auto=create-drop",
+            "spring.flyway.enabled=false"
+    })
+    public @interface EntitySchema {
+    }
+
+    @TestConfiguration
+    static class CleanMigrateConfig {
+        // Repart d'un schéma vide à chaque contexte (base de test partagée entre les classes)
+        @Bean
+        FlywayMigrationStrategy cleanMigrate() {
+            return flyway -> {
+                flyway.clean();
+                flyway.migrate();
+            };
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package fr.cda.covoit_api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import fr.cda.covoit_api.AbstractIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class DataSourcePoolIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // ============================================================
+    // TEST 1 : Réglages du pool appliqués à HikariCP et au driver PostgreSQL
+    // Réf: application.properties → spring.datasource.hikari.*
+    // ============================================================
+    @Test
+    void pool_ShouldApplyConfiguredSettings() {
+        // WHEN
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+
+        // THEN
+        assertThat(hikari.getPoolName()).isEqualTo("covoit");
+        assertThat(hikari.getMinimumIdle()).isEqualTo(hikari.getMaximumPoolSize());
+        assertThat(hikari.getLeakDetectionThreshold()).isPositive();
+        assertThat(hikari.getDataSourceProperties()).containsEntry("prepareThreshold", "2");
+    }
+
+    // ============================================================
+    // TEST 2 : Métriques du pool publiées dans Micrometer
+    // Réf: application.properties → management.metrics.distribution.percentiles-histogram.hikaricp.*
+    // ============================================================
+    @Test
+    void pool_ShouldPublishConnectionMetrics() {
+        // THEN
+        for (String gauge : new String[]{"active", "idle", "pending", "max"}) {
+            assertThat(meterRegistry.find("hikaricp.connections." + gauge).tag("pool", "covoit").gauge())
+                    .as(gauge).isNotNull();
+        }
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "covoit").timer()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.timeout").tag("pool", "covoit").counter()).isNotNull();
+    }
+
+    // ============================================================
+    // TEST 3 : Métriques du pool consultables par un administrateur
+    // Réf: SecurityConfig.java → .requestMatchers("/actuator/**").hasRole(ADMIN)
+    // ============================================================
+    @Test
+    @WithMockUser(username = "admin@test.com", roles = {"ADMIN"})
+    void actuatorMetrics_ShouldExposePendingConnections() throws Exception {
+        mockMvc.perform(get("/actuator/metrics/hikaricp.connections.pending").param("tag", "pool:covoit"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("hikaricp.connections.pending"));
+    }
+}
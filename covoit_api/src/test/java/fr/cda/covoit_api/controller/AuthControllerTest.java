@@ -2,11 +2,13 @@ package fr.cda.covoit_api.controller;
 
 import fr.cda.covoit_api.AbstractIntegrationTest;
 import fr.cda.covoit_api.dto.response.AuthResponse;
+import fr.cda.covoit_api.exception.BusinessException;
 import fr.cda.covoit_api.service.interfaces.IAuthService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -70,4 +72,40 @@ class AuthControllerTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$.token").value("jwt-token-456"))
                 .andExpect(jsonPath("$.email").value("user@test.com"));
     }
-}
\ No newline at end of file
+
+    // ============================================================
+    // POST /refresh - Route publique (le token d'accès a pu expirer)
+    // Réf: AuthController.java → refresh()
+    // ============================================================
+    @Test
+    void refresh_ShouldReturn200() throws Exception {
+        AuthResponse response = AuthResponse.builder()
+                .token("jwt-token-789")
+                .expiresIn(900)
+                .refreshToken("refresh-new")
+                .email("user@test.com")
+                .role("USER")
+                .build();
+
+        when(authService.refresh("refresh-old")).thenReturn(response);
+
+        mockMvc.perform(post("/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"refresh-old\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("jwt-token-789"))
+                .andExpect(jsonPath("$.expiresIn").value(900))
+                .andExpect(jsonPath("$.refreshToken").value("refresh-new"));
+    }
+
+    @Test
+    void refresh_ShouldReturn401_WhenTokenRejected() throws Exception {
+        when(authService.refresh("refresh-reused"))
+                .thenThrow(new BusinessException("Jeton de rafraîchissement invalide", HttpStatus.UNAUTHORIZED));
+
+        mockMvc.perform(post("/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"refresh-reused\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -4,7 +4,7 @@ import fr.cda.covoit_api.AbstractIntegrationTest;
 import fr.cda.covoit_api.domain.entity.Brand;
 import fr.cda.covoit_api.dto.response.BrandResponse;
 import fr.cda.covoit_api.mapper.EntityMapper;
-import fr.cda.covoit_api.repository.BrandRepository;
+import fr.cda.covoit_api.service.interfaces.ICatalogService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,9 +16,9 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -32,7 +32,7 @@ class BrandControllerTest extends AbstractIntegrationTest {
     private MockMvc mockMvc;
 
     @MockitoBean
-    private BrandRepository brandRepository;
+    private ICatalogService catalogService;
 
     @MockitoBean
     private EntityMapper entityMapper;
@@ -56,15 +56,42 @@ class BrandControllerTest extends AbstractIntegrationTest {
     @Test
     @WithMockUser
     void getAll_ShouldReturn200() throws Exception {
-        when(brandRepository.findAll()).thenReturn(List.of(brand));
-        when(entityMapper.toBrandResponse(brand)).thenReturn(brandResponse);
+        when(catalogService.getBrands()).thenReturn(new ICatalogService.Listing<>(List.of(brandResponse), "v1"));
 
         mockMvc.perform(get("/api/brands"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1\""))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].label").value("Renault"));
     }
 
+    // ============================================================
+    // GET /api/brands - Revalidation par ETag
+    // Réf: BrandController.java → getAll() → ResponseEntity.eTag()
+    // ============================================================
+    @Test
+    @WithMockUser
+    void getAll_WithMatchingEtag_ShouldReturn304WithoutBody() throws Exception {
+        when(catalogService.getBrands()).thenReturn(new ICatalogService.Listing<>(List.of(brandResponse), "v1"));
+
+        mockMvc.perform(get("/api/brands").header("If-None-Match", "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"v1\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser
+    void getAll_WithStaleEtag_ShouldReturn200() throws Exception {
+        when(catalogService.getBrands()).thenReturn(new ICatalogService.Listing<>(List.of(brandResponse), "v2"));
+
+        mockMvc.perform(get("/api/brands").header("If-None-Match", "\"v1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v2\""))
+                .andExpect(jsonPath("$[0].label").value("Renault"));
+    }
+
     @Test
     void getAll_WithoutAuth_ShouldReturn403() throws Exception {
         mockMvc.perform(get("/api/brands"))
@@ -78,8 +105,7 @@ class BrandControllerTest extends AbstractIntegrationTest {
     @Test
     @WithMockUser(roles = {"ADMIN"})
     void create_WithAdmin_ShouldReturn201() throws Exception {
-        when(brandRepository.findByLabel("Peugeot")).thenReturn(Optional.empty());
-        when(brandRepository.save(any(Brand.class))).thenReturn(brand);
+        when(catalogService.createBrand(any())).thenReturn(brand);
         when(entityMapper.toBrandResponse(brand)).thenReturn(brandResponse);
 
         mockMvc.perform(post("/api/brands")
@@ -104,8 +130,7 @@ class BrandControllerTest extends AbstractIntegrationTest {
     @Test
     @WithMockUser(roles = {"ADMIN"})
     void update_WithAdmin_ShouldReturn200() throws Exception {
-        when(brandRepository.findById(1)).thenReturn(Optional.of(brand));
-        when(brandRepository.save(any(Brand.class))).thenReturn(brand);
+        when(catalogService.updateBrand(eq(1), any())).thenReturn(brand);
         when(entityMapper.toBrandResponse(brand)).thenReturn(brandResponse);
 
         mockMvc.perform(put("/api/brands/1")
@@ -130,12 +155,10 @@ class BrandControllerTest extends AbstractIntegrationTest {
     @Test
     @WithMockUser(roles = {"ADMIN"})
     void delete_WithAdmin_ShouldReturn204() throws Exception {
-        when(brandRepository.existsById(1)).thenReturn(true);
-
         mockMvc.perform(delete("/api/brands/1"))
                 .andExpect(status().isNoContent());
 
-        verify(brandRepository).deleteById(1);
+        verify(catalogService).deleteBrand(1);
     }
 
     @Test
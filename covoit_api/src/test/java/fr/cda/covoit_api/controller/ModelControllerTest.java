@@ -5,8 +5,7 @@ import fr.cda.covoit_api.domain.entity.Brand;
 import fr.cda.covoit_api.domain.entity.Model;
 import fr.cda.covoit_api.dto.response.ModelResponse;
 import fr.cda.covoit_api.mapper.EntityMapper;
-import fr.cda.covoit_api.repository.BrandRepository;
-import fr.cda.covoit_api.repository.ModelRepository;
+import fr.cda.covoit_api.service.interfaces.ICatalogService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,9 +16,9 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
@@ -34,10 +33,7 @@ class ModelControllerTest extends AbstractIntegrationTest {
     private MockMvc mockMvc;
 
     @MockitoBean
-    private ModelRepository modelRepository;
-
-    @MockitoBean
-    private BrandRepository brandRepository;
+    private ICatalogService catalogService;
 
     @MockitoBean
     private EntityMapper entityMapper;
@@ -65,12 +61,13 @@ class ModelControllerTest extends AbstractIntegrationTest {
     // ============================================================
     @Test
     void getAll_ShouldReturn200() throws Exception {
-        when(modelRepository.findAll()).thenReturn(List.of(model));
-        when(entityMapper.toModelResponse(model)).thenReturn(modelResponse);
+        when(catalogService.getModels()).thenReturn(new ICatalogService.Listing<>(List.of(modelResponse), "v1"));
 
         mockMvc.perform(get("/api/models")
                         .with(user("user@test.com").roles("USER")))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1\""))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].label").value("Clio"));
     }
@@ -86,23 +83,33 @@ class ModelControllerTest extends AbstractIntegrationTest {
     // ============================================================
     @Test
     void getByBrand_ShouldReturn200() throws Exception {
-        when(modelRepository.findByBrandId(1)).thenReturn(List.of(model));
-        when(entityMapper.toModelResponse(model)).thenReturn(modelResponse);
+        when(catalogService.getModelsByBrand(1)).thenReturn(new ICatalogService.Listing<>(List.of(modelResponse), "b1"));
 
         mockMvc.perform(get("/api/models/brand/1")
                         .with(user("user@test.com").roles("USER")))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"b1\""))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].brandLabel").value("Renault"));
     }
 
+    @Test
+    void getByBrand_WithMatchingEtag_ShouldReturn304() throws Exception {
+        when(catalogService.getModelsByBrand(1)).thenReturn(new ICatalogService.Listing<>(List.of(modelResponse), "b1"));
+
+        mockMvc.perform(get("/api/models/brand/1")
+                        .with(user("user@test.com").roles("USER"))
+                        .header("If-None-Match", "\"b1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     // ============================================================
     // POST /api/models → hasRole(ADMIN)
     // ============================================================
     @Test
     void create_WithAdmin_ShouldReturn201() throws Exception {
-        when(brandRepository.findById(1)).thenReturn(Optional.of(brand));
-        when(modelRepository.save(any(Model.class))).thenReturn(model);
+        when(catalogService.createModel(any())).thenReturn(model);
         when(entityMapper.toModelResponse(model)).thenReturn(modelResponse);
 
         mockMvc.perform(post("/api/models")
@@ -126,9 +133,7 @@ class ModelControllerTest extends AbstractIntegrationTest {
     // ============================================================
     @Test
     void update_WithAdmin_ShouldReturn200() throws Exception {
-        when(modelRepository.findById(1)).thenReturn(Optional.of(model));
-        when(brandRepository.findById(1)).thenReturn(Optional.of(brand));
-        when(modelRepository.save(any(Model.class))).thenReturn(model);
+        when(catalogService.updateModel(eq(1), any())).thenReturn(model);
         when(entityMapper.toModelResponse(model)).thenReturn(modelResponse);
 
         mockMvc.perform(put("/api/models/1")
@@ -152,13 +157,11 @@ class ModelControllerTest extends AbstractIntegrationTest {
     // ============================================================
     @Test
     void delete_WithAdmin_ShouldReturn204() throws Exception {
-        when(modelRepository.existsById(1)).thenReturn(true);
-
         mockMvc.perform(delete("/api/models/1")
                         .with(user("admin@test.com").roles("ADMIN")))
                 .andExpect(status().isNoContent());
 
-        verify(modelRepository).deleteById(1);
+        verify(catalogService).deleteModel(1);
     }
 
     @Test
@@ -4,8 +4,10 @@ import fr.cda.covoit_api.AbstractIntegrationTest;
 import fr.cda.covoit_api.domain.entity.Profil;
 import fr.cda.covoit_api.domain.entity.User;
 import fr.cda.covoit_api.dto.response.ProfilResponse;
+import fr.cda.covoit_api.dto.response.CursorPageResponse;
 import fr.cda.covoit_api.dto.response.RouteResponse;
 import fr.cda.covoit_api.mapper.EntityMapper;
+import fr.cda.covoit_api.security.AuthenticatedUser;
 import fr.cda.covoit_api.service.interfaces.IProfilService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,6 +42,8 @@ class ProfilControllerTest extends AbstractIntegrationTest {
 
     private Profil profil;
     private ProfilResponse profilResponse;
+    private final AuthenticatedUser member = new AuthenticatedUser(10, 1, "user@test.com", "hash", "USER", "ACTIVE", 0);
+    private final AuthenticatedUser admin = new AuthenticatedUser(20, 2, "admin@test.com", "hash", "ADMIN", "ACTIVE", 0);
 
     @BeforeEach
     void setUp() {
@@ -63,11 +67,11 @@ class ProfilControllerTest extends AbstractIntegrationTest {
     // ============================================================
     @Test
     void create_ShouldReturn201() throws Exception {
-        when(profilService.createProfil(any(), eq("user@test.com"))).thenReturn(profil);
+        when(profilService.createProfil(any(), eq(1))).thenReturn(profil);
         when(entityMapper.toProfilResponse(profil)).thenReturn(profilResponse);
 
         mockMvc.perform(post("/api/persons")
-                        .with(user("user@test.com").roles("USER"))
+                        .with(user(member))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"firstname\":\"Jean\",\"lastname\":\"Dupont\",\"phone\":\"0612345678\"}"))
                 .andExpect(status().isCreated());
@@ -86,11 +90,11 @@ class ProfilControllerTest extends AbstractIntegrationTest {
     // ============================================================
     @Test
     void update_ShouldReturn200() throws Exception {
-        when(profilService.updateProfil(eq(1), any(), eq("user@test.com"))).thenReturn(profil);
+        when(profilService.updateProfil(eq(1), any(), eq(1))).thenReturn(profil);
         when(entityMapper.toProfilResponse(profil)).thenReturn(profilResponse);
 
         mockMvc.perform(patch("/api/persons/1")
-                        .with(user("user@test.com").roles("USER"))
+                        .with(user(member))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"firstname\":\"Pierre\",\"lastname\":\"Martin\",\"phone\":\"0698765432\"}"))
                 .andExpect(status().isOk());
@@ -102,16 +106,16 @@ class ProfilControllerTest extends AbstractIntegrationTest {
     @Test
     void delete_WithAdmin_ShouldReturn204() throws Exception {
         mockMvc.perform(delete("/api/persons/1")
-                        .with(user("admin@test.com").roles("ADMIN")))
+                        .with(user(admin)))
                 .andExpect(status().isNoContent());
 
-        verify(profilService).deleteProfil(1, "admin@test.com");
+        verify(profilService).deleteProfil(1, 2);
     }
 
     @Test
     void delete_WithUser_ShouldReturn403() throws Exception {
         mockMvc.perform(delete("/api/persons/1")
-                        .with(user("user@test.com").roles("USER")))
+                        .with(user(member)))
                 .andExpect(status().isForbidden());
     }
 
@@ -120,12 +124,14 @@ class ProfilControllerTest extends AbstractIntegrationTest {
     // ============================================================
     @Test
     void getTripsAsDriver_ShouldReturn200() throws Exception {
-        when(profilService.getDriverTrips(1)).thenReturn(List.of(new RouteResponse()));
+        when(profilService.getDriverTrips(1, null, 20))
+                .thenReturn(new CursorPageResponse<>(List.of(new RouteResponse()), null));
 
         mockMvc.perform(get("/api/persons/1/trips-driver")
-                        .with(user("user@test.com").roles("USER")))
+                        .with(user(member)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.next").doesNotExist());
     }
 
     // ============================================================
@@ -133,12 +139,23 @@ class ProfilControllerTest extends AbstractIntegrationTest {
     // ============================================================
     @Test
     void getTripsAsPassenger_ShouldReturn200() throws Exception {
-        when(profilService.getPassengerTrips(1)).thenReturn(List.of(new RouteResponse()));
+        when(profilService.getPassengerTrips(1, null, 5))
+                .thenReturn(new CursorPageResponse<>(List.of(new RouteResponse()), "next-cursor"));
 
         mockMvc.perform(get("/api/persons/1/trips-passenger")
-                        .with(user("user@test.com").roles("USER")))
+                        .param("size", "5")
+                        .with(user(member)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.next").value("next-cursor"));
+    }
+
+    @Test
+    void getTripsAsPassenger_ShouldReturn400_WhenPageSizeTooLarge() throws Exception {
+        mockMvc.perform(get("/api/persons/1/trips-passenger")
+                        .param("size", "1000")
+                        .with(user(member)))
+                .andExpect(status().isBadRequest());
     }
 
     // ============================================================
@@ -150,7 +167,7 @@ class ProfilControllerTest extends AbstractIntegrationTest {
         when(entityMapper.toProfilResponse(profil)).thenReturn(profilResponse);
 
         mockMvc.perform(get("/api/persons")
-                        .with(user("admin@test.com").roles("ADMIN")))
+                        .with(user(admin)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray());
     }
@@ -158,7 +175,7 @@ class ProfilControllerTest extends AbstractIntegrationTest {
     @Test
     void getAll_WithUser_ShouldReturn403() throws Exception {
         mockMvc.perform(get("/api/persons")
-                        .with(user("user@test.com").roles("USER")))
+                        .with(user(member)))
                 .andExpect(status().isForbidden());
     }
 
@@ -171,7 +188,7 @@ class ProfilControllerTest extends AbstractIntegrationTest {
         when(entityMapper.toProfilResponse(profil)).thenReturn(profilResponse);
 
         mockMvc.perform(get("/api/persons/1")
-                        .with(user("user@test.com").roles("USER")))
+                        .with(user(member)))
                 .andExpect(status().isOk());
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package fr.cda.covoit_api.controller;
 import fr.cda.covoit_api.AbstractIntegrationTest;
 import fr.cda.covoit_api.dto.response.ProfilResponse;
 import fr.cda.covoit_api.dto.response.ReservationResponse;
+import fr.cda.covoit_api.security.AuthenticatedUser;
 import fr.cda.covoit_api.service.interfaces.IReservationService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,7 +16,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.List;
 
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -29,23 +32,38 @@ class ReservationControllerTest extends AbstractIntegrationTest {
     @MockitoBean
     private IReservationService reservationService;
 
+    private final AuthenticatedUser passenger = new AuthenticatedUser(20, 2, "passenger@test.com", "hash", "USER", "ACTIVE", 0);
+
     // ============================================================
     // POST /api/trips/{id}/person - Réserver une place
     // Réf: ReservationController.java → reserve()
     // ============================================================
     @Test
-    @WithMockUser(username = "passenger@test.com")
     void reserve_ShouldReturn200() throws Exception {
         // GIVEN
         ReservationResponse response = new ReservationResponse();
-        when(reservationService.reservePlace(1, "passenger@test.com"))
+        when(reservationService.reservePlace(1, 2))
                 .thenReturn(response);
 
         // WHEN & THEN
-        mockMvc.perform(post("/api/trips/1/person"))
+        mockMvc.perform(post("/api/trips/1/person")
+                        .with(user(passenger)))
                 .andExpect(status().isOk());
 
-        verify(reservationService).reservePlace(1, "passenger@test.com");
+        verify(reservationService).reservePlace(1, 2);
+    }
+
+    @Test
+    void reserve_ShouldReturn404_WhenAccountHasNoProfil() throws Exception {
+        // GIVEN : compte authentifié qui n'a pas encore créé son profil
+        AuthenticatedUser noProfil = new AuthenticatedUser(21, null, "new@test.com", "hash", "USER", "ACTIVE", 0);
+
+        // WHEN & THEN
+        mockMvc.perform(post("/api/trips/1/person")
+                        .with(user(noProfil)))
+                .andExpect(status().isNotFound());
+
+        verifyNoInteractions(reservationService);
     }
 
     @Test
@@ -59,27 +77,27 @@ class ReservationControllerTest extends AbstractIntegrationTest {
     // Réf: ReservationController.java → getMyReservations()
     // ============================================================
     @Test
-    @WithMockUser(username = "passenger@test.com")
     void getMyReservations_ShouldReturn200() throws Exception {
         // GIVEN
-        when(reservationService.getPassengerReservations("passenger@test.com"))
+        when(reservationService.getPassengerReservations(2))
                 .thenReturn(List.of(new ReservationResponse()));
 
         // WHEN & THEN
-        mockMvc.perform(get("/api/trips/my-reservations"))
+        mockMvc.perform(get("/api/trips/my-reservations")
+                        .with(user(passenger)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray());
     }
 
     @Test
-    @WithMockUser(username = "passenger@test.com")
     void getMyReservations_ShouldReturnEmptyList_WhenNoReservations() throws Exception {
         // GIVEN
-        when(reservationService.getPassengerReservations("passenger@test.com"))
+        when(reservationService.getPassengerReservations(2))
                 .thenReturn(List.of());
 
         // WHEN & THEN
-        mockMvc.perform(get("/api/trips/my-reservations"))
+        mockMvc.perform(get("/api/trips/my-reservations")
+                        .with(user(passenger)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isEmpty());
     }
@@ -89,13 +107,13 @@ class ReservationControllerTest extends AbstractIntegrationTest {
     // Réf: ReservationController.java → cancel()
     // ============================================================
     @Test
-    @WithMockUser(username = "passenger@test.com")
     void cancel_ShouldReturn204() throws Exception {
         // WHEN & THEN
-        mockMvc.perform(delete("/api/trips/1/person"))
+        mockMvc.perform(delete("/api/trips/1/person")
+                        .with(user(passenger)))
                 .andExpect(status().isNoContent());
 
-        verify(reservationService).cancelReservation(1, "passenger@test.com");
+        verify(reservationService).cancelReservation(1, 2);
     }
 
     @Test
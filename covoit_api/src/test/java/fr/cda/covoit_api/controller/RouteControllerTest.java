@@ -4,10 +4,14 @@ import fr.cda.covoit_api.AbstractIntegrationTest;
 import fr.cda.covoit_api.domain.entity.Icon;
 import fr.cda.covoit_api.domain.entity.Location;
 import fr.cda.covoit_api.domain.entity.Route;
+import fr.cda.covoit_api.domain.geo.GeoCircle;
+import fr.cda.covoit_api.dto.request.RouteCursor;
+import fr.cda.covoit_api.dto.response.CursorPageResponse;
 import fr.cda.covoit_api.dto.response.RouteResponse;
 import fr.cda.covoit_api.exception.BusinessException;
 import fr.cda.covoit_api.mapper.EntityMapper;
-import fr.cda.covoit_api.repository.IconRepository;
+import fr.cda.covoit_api.security.AuthenticatedUser;
+import fr.cda.covoit_api.service.interfaces.ICatalogService;
 import fr.cda.covoit_api.service.interfaces.IRouteService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +32,7 @@ import java.util.Optional;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -45,12 +50,13 @@ class RouteControllerTest extends AbstractIntegrationTest {
     private EntityMapper entityMapper;
 
     @MockitoBean
-    private IconRepository iconRepository;
+    private ICatalogService catalogService;
 
     private Route route;
     private RouteResponse routeResponse;
     private Location paris;
     private Location lyon;
+    private final AuthenticatedUser driver = new AuthenticatedUser(10, 1, "driver@test.com", "hash", "USER", "ACTIVE", 0);
 
     @BeforeEach
     void setUp() {
@@ -80,15 +86,47 @@ class RouteControllerTest extends AbstractIntegrationTest {
     @WithMockUser
     void search_ShouldReturn200_WithResults() throws Exception {
         // GIVEN
-        when(routeService.searchRoutesWithDetails("Paris", "Lyon", null))
-                .thenReturn(List.of(routeResponse));
+        when(routeService.searchRoutesWithDetails("Paris", "Lyon", null, null, 20))
+                .thenReturn(new CursorPageResponse<>(List.of(routeResponse), "next-cursor"));
 
         // WHEN & THEN
         mockMvc.perform(get("/api/trips")
                         .param("startingcity", "Paris")
                         .param("arrivalcity", "Lyon"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.next").value("next-cursor"));
+    }
+
+    @Test
+    @WithMockUser
+    void search_ShouldPassDecodedCursorAndSize() throws Exception {
+        // GIVEN
+        RouteCursor cursor = new RouteCursor(LocalDate.of(2026, 1, 10), LocalTime.of(8, 0), 42);
+        when(routeService.searchRoutesWithDetails(null, null, null, cursor, 5))
+                .thenReturn(new CursorPageResponse<>(List.of(), null));
+
+        // WHEN & THEN
+        mockMvc.perform(get("/api/trips")
+                        .param("cursor", cursor.encode())
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.next").doesNotExist());
+        verify(routeService).searchRoutesWithDetails(null, null, null, cursor, 5);
+    }
+
+    @Test
+    @WithMockUser
+    void search_ShouldReturn400_WhenPageSizeTooLarge() throws Exception {
+        mockMvc.perform(get("/api/trips").param("size", "1000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void search_ShouldReturn400_WhenCursorIsInvalid() throws Exception {
+        mockMvc.perform(get("/api/trips").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -97,42 +135,78 @@ class RouteControllerTest extends AbstractIntegrationTest {
                 .andExpect(status().isForbidden());
     }
 
+    // ============================================================
+    // GET /api/trips/nearby - Recherche par proximité
+    // Réf: RouteController.java → searchNearby()
+    // ============================================================
+    @Test
+    @WithMockUser
+    void searchNearby_ShouldReturn200_WithResults() throws Exception {
+        // GIVEN
+        GeoCircle departure = new GeoCircle(48.8566, 2.3522, 15);
+        GeoCircle arrival = new GeoCircle(45.7578, 4.8320, 10);
+        when(routeService.searchRoutesNearby(departure, arrival, null, null, 20))
+                .thenReturn(new CursorPageResponse<>(List.of(routeResponse), null));
+
+        // WHEN & THEN
+        mockMvc.perform(get("/api/trips/nearby")
+                        .param("startinglat", "48.8566")
+                        .param("startinglng", "2.3522")
+                        .param("startingradius", "15")
+                        .param("arrivallat", "45.7578")
+                        .param("arrivallng", "4.8320"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isArray());
+    }
+
+    @Test
+    @WithMockUser
+    void searchNearby_ShouldReturn400_WhenRadiusTooLarge() throws Exception {
+        mockMvc.perform(get("/api/trips/nearby")
+                        .param("startinglat", "48.8566")
+                        .param("startinglng", "2.3522")
+                        .param("startingradius", "1000")
+                        .param("arrivallat", "45.7578")
+                        .param("arrivallng", "4.8320"))
+                .andExpect(status().isBadRequest());
+    }
+
     // ============================================================
     // POST /api/trips - Création de trajet
     // Réf: RouteController.java → create()
     // ============================================================
     @Test
-    @WithMockUser(username = "driver@test.com")
     void create_ShouldReturn201() throws Exception {
         // GIVEN
         Icon icon = new Icon();
         icon.setId(1);
 
-        when(iconRepository.findById(1)).thenReturn(Optional.of(icon));
+        when(catalogService.findIcon(1)).thenReturn(Optional.of(icon));
         when(entityMapper.toLocation(any())).thenReturn(paris, lyon);
         when(entityMapper.toRoute(any())).thenReturn(route);
-        when(routeService.createRoute(any(Route.class), any(Location.class), any(Location.class), eq("driver@test.com")))
+        when(routeService.createRoute(any(Route.class), any(Location.class), any(Location.class), eq(1)))
                 .thenReturn(route);
         when(entityMapper.toRouteResponse(any(Route.class), any(Location.class), any(Location.class)))
                 .thenReturn(routeResponse);
 
         // WHEN & THEN
         mockMvc.perform(post("/api/trips")
+                        .with(user(driver))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(buildRouteRequestJson()))
                 .andExpect(status().isCreated());
     }
 
     @Test
-    @WithMockUser(username = "driver@test.com")
     void create_ShouldReturn404_WhenIconNotFound() throws Exception {
         // GIVEN
         when(entityMapper.toLocation(any())).thenReturn(paris);
         when(entityMapper.toRoute(any())).thenReturn(route);
-        when(iconRepository.findById(1)).thenReturn(Optional.empty());
+        when(catalogService.findIcon(1)).thenReturn(Optional.empty());
 
         // WHEN & THEN
         mockMvc.perform(post("/api/trips")
+                        .with(user(driver))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(buildRouteRequestJson()))
                 .andExpect(result -> {
@@ -167,10 +241,9 @@ class RouteControllerTest extends AbstractIntegrationTest {
     // Réf: RouteController.java → update()
     // ============================================================
     @Test
-    @WithMockUser(username = "driver@test.com")
     void update_ShouldReturn200() throws Exception {
         // GIVEN
-        when(routeService.updateRoute(eq(1), any(), eq("driver@test.com")))
+        when(routeService.updateRoute(eq(1), any(), eq(1)))
                 .thenReturn(route);
         when(routeService.getLocationsForRoute(1))
                 .thenReturn(Map.of("starting", paris, "arrival", lyon));
@@ -179,6 +252,7 @@ class RouteControllerTest extends AbstractIntegrationTest {
 
         // WHEN & THEN
         mockMvc.perform(patch("/api/trips/1")
+                        .with(user(driver))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(buildRouteRequestJson()))
                 .andExpect(status().isOk());
@@ -189,10 +263,9 @@ class RouteControllerTest extends AbstractIntegrationTest {
     // Réf: RouteController.java → updateSeats()
     // ============================================================
     @Test
-    @WithMockUser(username = "driver@test.com")
     void updateSeats_ShouldReturn200() throws Exception {
         // GIVEN
-        when(routeService.updateRouteSeats(1, (short) 4, "driver@test.com"))
+        when(routeService.updateRouteSeats(1, (short) 4, 1))
                 .thenReturn(route);
         when(routeService.getLocationsForRoute(1))
                 .thenReturn(Map.of("starting", paris, "arrival", lyon));
@@ -201,16 +274,17 @@ class RouteControllerTest extends AbstractIntegrationTest {
 
         // WHEN & THEN
         mockMvc.perform(patch("/api/trips/1/seats")
+                        .with(user(driver))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"availableSeats\": 4}"))
                 .andExpect(status().isOk());
     }
 
     @Test
-    @WithMockUser(username = "driver@test.com")
     void updateSeats_ShouldThrow_WhenSeatsNull() throws Exception {
         // WHEN & THEN : body sans "availableSeats"
         mockMvc.perform(patch("/api/trips/1/seats")
+                        .with(user(driver))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{}"))
                 .andExpect(result -> {
@@ -225,13 +299,13 @@ class RouteControllerTest extends AbstractIntegrationTest {
     // Réf: RouteController.java → delete()
     // ============================================================
     @Test
-    @WithMockUser(username = "driver@test.com")
     void delete_ShouldReturn204() throws Exception {
         // WHEN & THEN
-        mockMvc.perform(delete("/api/trips/1"))
+        mockMvc.perform(delete("/api/trips/1")
+                        .with(user(driver)))
                 .andExpect(status().isNoContent());
 
-        verify(routeService).deleteRoute(1, "driver@test.com");
+        verify(routeService).deleteRoute(1, 1);
     }
 
     // ============================================================
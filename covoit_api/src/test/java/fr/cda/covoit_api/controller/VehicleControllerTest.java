@@ -2,12 +2,11 @@ package fr.cda.covoit_api.controller;
 
 import fr.cda.covoit_api.AbstractIntegrationTest;
 import fr.cda.covoit_api.domain.entity.Model;
-import fr.cda.covoit_api.domain.entity.Profil;
 import fr.cda.covoit_api.domain.entity.Vehicle;
 import fr.cda.covoit_api.dto.response.VehicleResponse;
 import fr.cda.covoit_api.mapper.EntityMapper;
-import fr.cda.covoit_api.repository.ModelRepository;
-import fr.cda.covoit_api.repository.ProfilRepository;
+import fr.cda.covoit_api.security.AuthenticatedUser;
+import fr.cda.covoit_api.service.interfaces.ICatalogService;
 import fr.cda.covoit_api.service.interfaces.IProfilService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,24 +38,19 @@ class VehicleControllerTest extends AbstractIntegrationTest {
     private IProfilService profilService;
 
     @MockitoBean
-    private ProfilRepository profilRepository;
-
-    @MockitoBean
-    private ModelRepository modelRepository;
+    private ICatalogService catalogService;
 
     @MockitoBean
     private EntityMapper entityMapper;
 
     private Vehicle vehicle;
     private VehicleResponse vehicleResponse;
-    private Profil profil;
     private Model model;
+    private final AuthenticatedUser member = new AuthenticatedUser(10, 1, "user@test.com", "hash", "USER", "ACTIVE", 0);
+    private final AuthenticatedUser admin = new AuthenticatedUser(20, 2, "admin@test.com", "hash", "ADMIN", "ACTIVE", 0);
 
     @BeforeEach
     void setUp() {
-        profil = new Profil();
-        profil.setId(1);
-
         model = new Model();
         model.setId(1);
         model.setLabel("Clio");
@@ -75,14 +69,13 @@ class VehicleControllerTest extends AbstractIntegrationTest {
     // ============================================================
     @Test
     void create_ShouldReturn201() throws Exception {
-        when(profilRepository.findByUserEmail("user@test.com")).thenReturn(Optional.of(profil));
-        when(modelRepository.findById(1)).thenReturn(Optional.of(model));
+        when(catalogService.findModel(1)).thenReturn(Optional.of(model));
         when(entityMapper.toVehicle(any(), eq(model))).thenReturn(vehicle);
         when(profilService.addVehicle(vehicle, 1)).thenReturn(vehicle);
         when(entityMapper.toVehicleResponse(vehicle)).thenReturn(vehicleResponse);
 
         mockMvc.perform(post("/api/cars")
-                        .with(user("user@test.com").roles("USER"))
+                        .with(user(member))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"seats\":5,\"carregistration\":\"AB-123-CD\",\"modelId\":1}"))
                 .andExpect(status().isCreated());
@@ -101,11 +94,11 @@ class VehicleControllerTest extends AbstractIntegrationTest {
     // ============================================================
     @Test
     void getMyVehicle_ShouldReturn200() throws Exception {
-        when(profilService.getVehicleByEmail("user@test.com")).thenReturn(vehicle);
+        when(profilService.getVehicleByOwner(1)).thenReturn(vehicle);
         when(entityMapper.toVehicleResponse(vehicle)).thenReturn(vehicleResponse);
 
         mockMvc.perform(get("/api/cars/my-car")
-                        .with(user("user@test.com").roles("USER")))
+                        .with(user(member)))
                 .andExpect(status().isOk());
     }
 
@@ -114,13 +107,13 @@ class VehicleControllerTest extends AbstractIntegrationTest {
     // ============================================================
     @Test
     void update_ShouldReturn200() throws Exception {
-        when(modelRepository.findById(1)).thenReturn(Optional.of(model));
+        when(catalogService.findModel(1)).thenReturn(Optional.of(model));
         when(entityMapper.toVehicle(any(), eq(model))).thenReturn(vehicle);
-        when(profilService.updateVehicle(eq(1), any(), eq("user@test.com"))).thenReturn(vehicle);
+        when(profilService.updateVehicle(eq(1), any(), eq(1))).thenReturn(vehicle);
         when(entityMapper.toVehicleResponse(vehicle)).thenReturn(vehicleResponse);
 
         mockMvc.perform(put("/api/cars/1")
-                        .with(user("user@test.com").roles("USER"))
+                        .with(user(member))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"seats\":5,\"carregistration\":\"AB-123-CD\",\"modelId\":1}"))
                 .andExpect(status().isOk());
@@ -132,10 +125,10 @@ class VehicleControllerTest extends AbstractIntegrationTest {
     @Test
     void delete_ShouldReturn204() throws Exception {
         mockMvc.perform(delete("/api/cars/1")
-                        .with(user("user@test.com").roles("USER")))
+                        .with(user(member)))
                 .andExpect(status().isNoContent());
 
-        verify(profilService).deleteVehicle(1, "user@test.com");
+        verify(profilService).deleteVehicle(1, 1);
     }
 
     // ============================================================
@@ -147,7 +140,7 @@ class VehicleControllerTest extends AbstractIntegrationTest {
         when(entityMapper.toVehicleResponse(vehicle)).thenReturn(vehicleResponse);
 
         mockMvc.perform(get("/api/cars")
-                        .with(user("admin@test.com").roles("ADMIN")))
+                        .with(user(admin)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray());
     }
@@ -155,7 +148,7 @@ class VehicleControllerTest extends AbstractIntegrationTest {
     @Test
     void getAllCars_WithUser_ShouldReturn403() throws Exception {
         mockMvc.perform(get("/api/cars")
-                        .with(user("user@test.com").roles("USER")))
+                        .with(user(member)))
                 .andExpect(status().isForbidden());
     }
 
@@ -168,7 +161,7 @@ class VehicleControllerTest extends AbstractIntegrationTest {
         when(entityMapper.toVehicleResponse(vehicle)).thenReturn(vehicleResponse);
 
         mockMvc.perform(get("/api/cars/1")
-                        .with(user("user@test.com").roles("USER")))
+                        .with(user(member)))
                 .andExpect(status().isOk());
     }
 }
\ No newline at end of file
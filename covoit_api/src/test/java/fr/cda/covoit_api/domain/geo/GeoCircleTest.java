@@ -0,0 +1,128 @@
+package fr.cda.covoit_api.domain.geo;
+
+import fr.cda.covoit_api.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeoCircleTest {
+
+    // Paris et Versailles : environ 17 km
+    private static final double PARIS_LAT = 48.8566;
+    private static final double PARIS_LNG = 2.3522;
+    private static final double VERSAILLES_LAT = 48.8049;
+    private static final double VERSAILLES_LNG = 2.1204;
+
+    // ============================================================
+    // contains
+    // Réf: GeoCircle.java → contains()
+    // ============================================================
+    @Test
+    void contains_ShouldAcceptPointInsideRadius() {
+        GeoCircle circle = new GeoCircle(PARIS_LAT, PARIS_LNG, 20);
+
+        assertThat(circle.contains(VERSAILLES_LAT, VERSAILLES_LNG)).isTrue();
+    }
+
+    @Test
+    void contains_ShouldRejectPointOutsideRadius() {
+        GeoCircle circle = new GeoCircle(PARIS_LAT, PARIS_LNG, 15);
+
+        assertThat(circle.contains(VERSAILLES_LAT, VERSAILLES_LNG)).isFalse();
+    }
+
+    // ============================================================
+    // cells
+    // Réf: GeoCircle.java → cells()
+    // ============================================================
+    @Test
+    void cells_ShouldCoverCenterAndPointsInsideRadius() {
+        GeoCircle circle = new GeoCircle(PARIS_LAT, PARIS_LNG, 20);
+
+        assertThat(circle.cells()).hasValueSatisfying(cells -> assertThat(cells)
+                .contains(GeoGrid.cellOf(PARIS_LAT, PARIS_LNG))
+                .contains(GeoGrid.cellOf(VERSAILLES_LAT, VERSAILLES_LNG)));
+    }
+
+    @Test
+    void cells_ShouldStayBounded_ForMaximumRadius() {
+        GeoCircle circle = new GeoCircle(PARIS_LAT, PARIS_LNG, GeoCircle.MAX_RADIUS_KM);
+
+        // 100 km ≈ 1,8° de latitude et 2,7° de longitude à Paris : environ 19 x 29 cellules
+        assertThat(circle.cells()).hasValueSatisfying(cells -> assertThat(cells).hasSizeLessThanOrEqualTo(GeoCircle.MAX_CELLS));
+    }
+
+    // ============================================================
+    // Pôles : trop de cellules pour une liste → bande de latitude
+    // Réf: GeoCircle.java → cells(), firstCell(), lastCell()
+    // ============================================================
+    @Test
+    void cells_ShouldBeEmpty_NearPole() {
+        GeoCircle circle = new GeoCircle(89.9, 2, GeoCircle.MAX_RADIUS_KM);
+
+        assertThat(circle.cells()).isEmpty();
+    }
+
+    @Test
+    void latitudeBand_ShouldCoverPointsAroundPole() {
+        GeoCircle circle = new GeoCircle(89.9, 2, GeoCircle.MAX_RADIUS_KM);
+        long oppositeSide = GeoGrid.cellOf(89.5, -178);
+
+        assertThat(circle.contains(89.5, -178)).isTrue();
+        assertThat(oppositeSide).isBetween(circle.firstCell(), circle.lastCell());
+        assertThat(GeoGrid.cellOf(88, 2)).isLessThan(circle.firstCell());
+    }
+
+    // ============================================================
+    // Antiméridien : cellules et distance des deux côtés
+    // Réf: GeoCircle.java → cells(), centerLongitudes()
+    // ============================================================
+    @Test
+    void cells_ShouldWrapAcrossAntimeridian() {
+        GeoCircle circle = new GeoCircle(-17.7, 179.99, 20);
+
+        assertThat(circle.cells()).hasValueSatisfying(cells -> assertThat(cells)
+                .contains(GeoGrid.cellOf(-17.7, 179.95))
+                .contains(GeoGrid.cellOf(-17.7, -179.95))
+                .contains(GeoGrid.cellOf(-17.7, 180)));
+    }
+
+    @Test
+    void contains_ShouldAcceptPointAcrossAntimeridian() {
+        GeoCircle east = new GeoCircle(-17.7, 179.99, 20);
+        GeoCircle west = new GeoCircle(-17.7, -179.99, 20);
+
+        assertThat(east.contains(-17.7, -179.9)).isTrue();
+        assertThat(west.contains(-17.7, 179.9)).isTrue();
+        assertThat(east.contains(-17.7, -178)).isFalse();
+        assertThat(new GeoCircle(PARIS_LAT, PARIS_LNG, 20).centerLongitudes()).containsExactly(PARIS_LNG);
+    }
+
+    // ============================================================
+    // Validation
+    // Réf: GeoCircle.java → constructeur
+    // ============================================================
+    @Test
+    void constructor_ShouldRejectRadiusAboveMaximum() {
+        assertThatThrownBy(() -> new GeoCircle(PARIS_LAT, PARIS_LNG, 500))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("rayon");
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidCoordinates() {
+        assertThatThrownBy(() -> new GeoCircle(120, PARIS_LNG, 10))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Coordonnées");
+    }
+
+    // ============================================================
+    // GeoGrid
+    // Réf: GeoGrid.java → cellOf()
+    // ============================================================
+    @Test
+    void cellOf_ShouldKeepEasternEdgeInsideGrid() {
+        assertThat(GeoGrid.cellOf(0, 180)).isEqualTo(GeoGrid.cellOf(0, 179.95));
+    }
+}
@@ -0,0 +1,52 @@
+package fr.cda.covoit_api.domain.search;
+
+import fr.cda.covoit_api.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CityKeyTest {
+
+    // ============================================================
+    // of
+    // Réf: CityKey.java → of()
+    // ============================================================
+    @Test
+    void of_ShouldIgnoreCaseAccentsAndSeparators() {
+        assertThat(CityKey.of("Saint-Étienne")).isEqualTo("saint etienne");
+        assertThat(CityKey.of("  SAINT   ETIENNE ")).isEqualTo("saint etienne");
+        assertThat(CityKey.of("saint etienne")).isEqualTo("saint etienne");
+    }
+
+    @Test
+    void of_ShouldExpandLigatures() {
+        assertThat(CityKey.of("Bœurs-en-Othe")).isEqualTo("boeurs en othe");
+    }
+
+    @Test
+    void of_ShouldReturnNullForBlankName() {
+        assertThat(CityKey.of(null)).isNull();
+        assertThat(CityKey.of("  - ")).isNull();
+    }
+
+    // ============================================================
+    // ofCriterion
+    // Réf: CityKey.java → ofCriterion()
+    // ============================================================
+    @Test
+    void ofCriterion_ShouldReturnNull_WhenNoCityIsGiven() {
+        assertThat(CityKey.ofCriterion(null)).isNull();
+        assertThat(CityKey.ofCriterion("  ")).isNull();
+        assertThat(CityKey.ofCriterion("Saint-Étienne")).isEqualTo("saint etienne");
+    }
+
+    @Test
+    void ofCriterion_ShouldReject_WhenNameHasNoLetterOrDigit() {
+        assertThatThrownBy(() -> CityKey.ofCriterion("---"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Nom de ville invalide");
+        assertThatThrownBy(() -> CityKey.ofCriterion("!!"))
+                .isInstanceOf(BusinessException.class);
+    }
+}
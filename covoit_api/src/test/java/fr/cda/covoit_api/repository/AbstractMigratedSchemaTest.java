@@ -0,0 +1,35 @@
+package fr.cda.covoit_api.repository;
+
+import fr.cda.covoit_api.AbstractIntegrationTest;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Contexte branché sur le schéma dédié {@value #SCHEMA}, isolé des données des autres tests d'intégration.
+ * Le schéma est vidé puis migré au démarrage du contexte, partagé par les classes filles.
+ * Le SQL émis par Hibernate peut y être relevé avec {@link CapturedStatements}.
+ */
+@SpringBootTest
+@Import(AbstractMigratedSchemaTest.CapturedStatementsConfig.class)
+@TestPropertySource(properties = {
+        "spring.flyway.default-schema=" + AbstractMigratedSchemaTest.SCHEMA,
+        "spring.datasource.hikari.schema=" + AbstractMigratedSchemaTest.SCHEMA,
+        "spring.jpa.properties.hibernate.default_schema=" + AbstractMigratedSchemaTest.SCHEMA
+})
+abstract class AbstractMigratedSchemaTest extends AbstractIntegrationTest {
+
+    static final String SCHEMA = "migration_test";
+
+    @TestConfiguration
+    static class CapturedStatementsConfig {
+        @Bean
+        HibernatePropertiesCustomizer capturedStatements() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new CapturedStatements());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package fr.cda.covoit_api.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Relève le SQL réellement émis par Hibernate, pour analyser son plan d'exécution
+ * plutôt qu'une copie écrite à la main. Seules les requêtes du thread courant,
+ * pendant {@link #during(Runnable)}, sont relevées.
+ */
+final class CapturedStatements implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    /**
+     * Exécute une action et renvoie les requêtes SQL émises pendant son exécution, dans l'ordre.
+     */
+    static List<String> during(Runnable action) {
+        List<String> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            action.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = CAPTURED.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
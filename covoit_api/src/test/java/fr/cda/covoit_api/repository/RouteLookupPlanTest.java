@@ -0,0 +1,137 @@
+package fr.cda.covoit_api.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plans d'exécution des recherches par trajet, sur le schéma migré et un volume de données réaliste
+ * (500 conducteurs, 5 000 trajets, 15 000 réservations, VACUUM ANALYZE).
+ * <p>
+ * Le plan analysé est celui du SQL réellement émis par Hibernate pour les méthodes de repository citées,
+ * relevé par {@link CapturedStatements}.
+ * </p>
+ */
+class RouteLookupPlanTest extends AbstractMigratedSchemaTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRouteRepository userRouteRepository;
+
+    @Autowired
+    private RouteLocationRepository routeLocationRepository;
+
+    private Integer routeId;
+
+    @BeforeEach
+    void setUp() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM route", Integer.class) == 0) {
+            seed();
+        }
+        routeId = jdbcTemplate.queryForObject("SELECT MIN(id_route) + 2500 FROM route", Integer.class);
+    }
+
+    private void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO user_account (email, password, id_status, id_role)
+                SELECT 'plan' || g || '@test.com', 'x', 1, 2 FROM generate_series(1, 500) g""");
+        jdbcTemplate.update("""
+                INSERT INTO user_profil (firstname, lastname, phone, id_account)
+                SELECT 'Plan', 'Test', '0600000000', id_account FROM user_account WHERE email LIKE 'plan%'""");
+        jdbcTemplate.update("""
+                INSERT INTO route (distance, place, date_, hour_, id_profil, id_icon)
+                SELECT 100, 3, CURRENT_DATE + g, TIME '08:00', p.id_profil, 1
+                FROM user_profil p CROSS JOIN generate_series(1, 10) g""");
+        jdbcTemplate.update("""
+                WITH p AS (SELECT id_profil, ROW_NUMBER() OVER (ORDER BY id_profil) - 1 AS n FROM user_profil)
+                INSERT INTO user_route (id_profil, id_route, role_in_route, status, created_at)
+                SELECT p.id_profil, r.id_route, 'passenger',
+                       CASE WHEN (r.id_route + k) % 4 = 0 THEN 'cancelled' ELSE 'confirmed' END, NOW()
+                FROM route r CROSS JOIN generate_series(1, 3) k
+                JOIN p ON p.n = (r.id_route * 7 + k) % 500""");
+        jdbcTemplate.update("""
+                INSERT INTO location (street_name, postal_code, city_name, latitude, longitude)
+                SELECT g || ' rue du Plan', '00000', 'Plan', 45.0, 4.0 FROM generate_series(1, 10000) g""");
+        jdbcTemplate.update("""
+                WITH r AS (SELECT id_route, ROW_NUMBER() OVER (ORDER BY id_route) AS n FROM route),
+                     l AS (SELECT id_location, ROW_NUMBER() OVER (ORDER BY id_location) AS n FROM location)
+                INSERT INTO route_location (id_route, id_location, type)
+                SELECT r.id_route, l.id_location, CASE WHEN l.n % 2 = 1 THEN 'starting' ELSE 'arrival' END
+                FROM r JOIN l ON (l.n + 1) / 2 = r.n""");
+        jdbcTemplate.execute("VACUUM ANALYZE");
+    }
+
+    /**
+     * Plan d'exécution de la requête principale émise par Hibernate pendant l'appel au repository,
+     * avec les valeurs de paramètres dans l'ordre où elles apparaissent dans le SQL.
+     */
+    private String explainEmitted(Runnable repositoryCall, Object... args) {
+        List<String> statements = CapturedStatements.during(repositoryCall);
+        assertThat(statements).isNotEmpty();
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + statements.getFirst(), String.class, args);
+        return String.join("\n", plan);
+    }
+
+    // ============================================================
+    // TEST 1 : Places occupées → index (id_route, status), pas de parcours complet de la table
+    // Réf: UserRouteRepository.java → countByRouteIdAndStatusNot()
+    // ============================================================
+    @Test
+    void countActiveReservations_ShouldUseRouteStatusIndex() {
+        // WHEN
+        String plan = explainEmitted(() -> userRouteRepository.countByRouteIdAndStatusNot(routeId, "cancelled"),
+                routeId, "cancelled");
+
+        // THEN
+        assertThat(plan).contains("idx_user_route_route_status").doesNotContain("Seq Scan");
+    }
+
+    // ============================================================
+    // TEST 2 : Passagers d'un trajet → index sur id_route
+    // Réf: UserRouteRepository.java → findByRouteId()
+    // ============================================================
+    @Test
+    void findPassengersByRoute_ShouldUseRouteStatusIndex() {
+        // WHEN
+        String plan = explainEmitted(() -> userRouteRepository.findByRouteId(routeId), routeId);
+
+        // THEN
+        assertThat(plan).contains("idx_user_route_route_status").doesNotContain("Seq Scan");
+    }
+
+    // ============================================================
+    // TEST 3 : Adresses de départ et d'arrivée d'un trajet → index sur id_route
+    // Réf: RouteLocationRepository.java → findByIdRouteId()
+    // ============================================================
+    @Test
+    void findLocationsByRoute_ShouldUseRouteTypeIndex() {
+        // WHEN
+        String plan = explainEmitted(() -> routeLocationRepository.findByIdRouteId(routeId), routeId);
+
+        // THEN
+        assertThat(plan).contains("idx_route_location_route_type").doesNotContain("Seq Scan");
+    }
+
+    // ============================================================
+    // TEST 4 : Réservations d'un passager, jointure départ/arrivée par type → index composite (id_route, type)
+    // Réf: UserRouteRepository.java → findReservationsByPassengerId()
+    // ============================================================
+    @Test
+    void findReservationsByPassenger_ShouldJoinLocationsThroughRouteTypeIndex() {
+        // GIVEN
+        Integer passengerId = jdbcTemplate.queryForObject("SELECT MIN(id_profil) FROM user_route", Integer.class);
+
+        // WHEN
+        String plan = explainEmitted(() -> userRouteRepository.findReservationsByPassengerId(passengerId), passengerId);
+
+        // THEN
+        assertThat(plan).contains("idx_route_location_route_type").doesNotContain("Seq Scan on route_location");
+    }
+}
@@ -2,6 +2,12 @@ package fr.cda.covoit_api.repository;
 
 import fr.cda.covoit_api.AbstractIntegrationTest;
 import fr.cda.covoit_api.domain.entity.*;
+import fr.cda.covoit_api.domain.geo.GeoCircle;
+import fr.cda.covoit_api.domain.geo.GeoGrid;
+import fr.cda.covoit_api.domain.search.RouteSearchCriteria;
+import fr.cda.covoit_api.dto.request.RouteCursor;
+import fr.cda.covoit_api.exception.BusinessException;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +25,7 @@ import java.time.LocalTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -28,15 +35,22 @@ class RouteRepositoryTest extends AbstractIntegrationTest {
     @Autowired
     private RouteRepository routeRepository;
 
+    @Autowired
+    private RouteLocationRepository routeLocationRepository;
+
     @Autowired
     private TestEntityManager entityManager;
 
     private Route testRoute;
+    private Icon icon;
+    private Profil driver;
+    private Location paris;
+    private Location lyon;
 
     @BeforeEach
     void setUp() {
         // --- Icon (requis par Route, NOT NULL) ---
-        Icon icon = new Icon();
+        icon = new Icon();
         icon.setLabel("default-icon");
         entityManager.persist(icon);
 
@@ -58,7 +72,7 @@ class RouteRepositoryTest extends AbstractIntegrationTest {
         entityManager.persist(account);
 
         // --- Profil conducteur (requis par Route.driver) ---
-        Profil driver = new Profil();
+        driver = new Profil();
         driver.setFirstname("Jean");
         driver.setLastname("Dupont");
         driver.setPhone("0612345678");
@@ -66,7 +80,7 @@ class RouteRepositoryTest extends AbstractIntegrationTest {
         entityManager.persist(driver);
 
         // --- Location départ : Paris ---
-        Location paris = new Location();
+        paris = new Location();
         paris.setStreetName("Rue de Rivoli");
         paris.setPostalCode("75001");
         paris.setCityName("Paris");
@@ -75,7 +89,7 @@ class RouteRepositoryTest extends AbstractIntegrationTest {
         entityManager.persist(paris);
 
         // --- Location arrivée : Lyon ---
-        Location lyon = new Location();
+        lyon = new Location();
         lyon.setStreetName("Place Bellecour");
         lyon.setPostalCode("69002");
         lyon.setCityName("Lyon");
@@ -91,6 +105,8 @@ class RouteRepositoryTest extends AbstractIntegrationTest {
         testRoute.setDistance(465);
         testRoute.setIcon(icon);
         testRoute.setDriver(driver);
+        testRoute.setDeparture(RouteEndpoint.of(paris));
+        testRoute.setArrival(RouteEndpoint.of(lyon));
         entityManager.persist(testRoute);
 
         // --- RouteLocation départ ---
@@ -113,43 +129,303 @@ class RouteRepositoryTest extends AbstractIntegrationTest {
     }
 
     @Test
-    void findBySearchCriteria_ShouldReturnMatchingRoutes() {
-        // WHEN : Recherche Paris → Lyon à la date du jour
-        List<Route> results = routeRepository.findBySearchCriteria("Paris", "Lyon", LocalDate.now());
+    void findKeysByCriteria_ShouldReturnMatchingIds() {
+        // WHEN
+        List<Integer> ids = ids(routeRepository.findKeysByCriteria(
+                RouteSearchCriteria.byCity("Paris", "Lyon", LocalDate.now()), null, 10));
 
         // THEN
-        assertThat(results)
-                .isNotEmpty()
-                .hasSize(1)
-                .first()
-                .extracting(Route::getId)
-                .isEqualTo(testRoute.getId());
+        assertThat(ids).containsExactly(testRoute.getId());
     }
 
     @Test
-    void findBySearchCriteria_WithWrongCity_ShouldReturnEmpty() {
+    void findKeysByCriteria_WithWrongCity_ShouldReturnEmpty() {
         // WHEN : Recherche avec une ville qui n'existe pas
-        List<Route> results = routeRepository.findBySearchCriteria("Marseille", "Lyon", LocalDate.now());
+        List<Integer> ids = ids(routeRepository.findKeysByCriteria(
+                RouteSearchCriteria.byCity("Marseille", "Lyon", LocalDate.now()), null, 10));
 
         // THEN
-        assertThat(results).isEmpty();
+        assertThat(ids).isEmpty();
     }
 
     @Test
-    void findBySearchCriteria_WithNullDate_ShouldIgnoreDateFilter() {
+    void findKeysByCriteria_WithNullDate_ShouldIgnoreDateFilter() {
         // WHEN : Recherche sans filtre de date
-        List<Route> results = routeRepository.findBySearchCriteria("Paris", "Lyon", null);
+        List<Integer> ids = ids(routeRepository.findKeysByCriteria(
+                RouteSearchCriteria.byCity("Paris", "Lyon", null), null, 10));
 
         // THEN
-        assertThat(results).isNotEmpty();
+        assertThat(ids).containsExactly(testRoute.getId());
     }
 
     @Test
-    void findBySearchCriteria_CaseInsensitive_ShouldWork() {
+    void findKeysByCriteria_CaseInsensitive_ShouldWork() {
         // WHEN : Recherche en minuscules
-        List<Route> results = routeRepository.findBySearchCriteria("paris", "lyon", LocalDate.now());
+        List<Integer> ids = ids(routeRepository.findKeysByCriteria(
+                RouteSearchCriteria.byCity("paris", "lyon", LocalDate.now()), null, 10));
+
+        // THEN : les villes sont comparées par clé normalisée, donc ça doit matcher
+        assertThat(ids).containsExactly(testRoute.getId());
+    }
+
+    @Test
+    void findKeysByCriteria_ShouldIgnoreCaseAndAccents() {
+        // GIVEN : un trajet dont la ville d'arrivée est accentuée
+        Location saintEtienne = new Location();
+        saintEtienne.setStreetName("Place Jean Jaurès");
+        saintEtienne.setPostalCode("42000");
+        saintEtienne.setCityName("Saint-Étienne");
+        saintEtienne.setLatitude(45.4397);
+        saintEtienne.setLongitude(4.3872);
+        entityManager.persist(saintEtienne);
+
+        Route toSaintEtienne = new Route();
+        toSaintEtienne.setPlace((short) 3);
+        toSaintEtienne.setDate(LocalDate.now());
+        toSaintEtienne.setHour(LocalTime.of(9, 0));
+        toSaintEtienne.setDistance(520);
+        toSaintEtienne.setIcon(icon);
+        toSaintEtienne.setDriver(driver);
+        toSaintEtienne.setDeparture(RouteEndpoint.of(paris));
+        toSaintEtienne.setArrival(RouteEndpoint.of(saintEtienne));
+        entityManager.persist(toSaintEtienne);
+        entityManager.flush();
+
+        // WHEN
+        List<Integer> ids = ids(routeRepository.findKeysByCriteria(
+                RouteSearchCriteria.byCity(null, "SAINT ETIENNE", null), null, 10));
+
+        // THEN
+        assertThat(toSaintEtienne.getArrival().getCityKey()).isEqualTo("saint etienne");
+        assertThat(ids).containsExactly(toSaintEtienne.getId());
+    }
+
+    @Test
+    void findKeysByCriteria_WithCityWithoutLetters_ShouldRejectInsteadOfIgnoringFilter() {
+        assertThatThrownBy(() -> routeRepository.findKeysByCriteria(RouteSearchCriteria.byCity("---", null, null), null, 10))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> routeRepository.findKeysByCriteria(RouteSearchCriteria.byCity(null, "!!", null), null, 10))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void findKeysByCriteria_WithoutCriteria_ShouldReturnAllRoutes() {
+        // WHEN
+        List<Integer> ids = ids(routeRepository.findKeysByCriteria(
+                RouteSearchCriteria.byCity(null, null, null), null, 10));
+
+        // THEN
+        assertThat(ids).containsExactly(testRoute.getId());
+    }
+
+    @Test
+    void findKeysByCriteria_ShouldPageByDateHourAndIdAfterCursor() {
+        // GIVEN : deux autres trajets Paris → Lyon, l'un plus tôt le même jour, l'autre le lendemain
+        Route early = persistParisLyonRoute(LocalDate.now(), LocalTime.of(6, 30));
+        Route tomorrow = persistParisLyonRoute(LocalDate.now().plusDays(1), LocalTime.of(7, 0));
+
+        // WHEN : première page de 2, puis page suivante après le dernier élément
+        RouteSearchCriteria criteria = RouteSearchCriteria.byCity("Paris", "Lyon", null);
+        List<Integer> firstPage = ids(routeRepository.findKeysByCriteria(criteria, null, 2));
+        List<Integer> secondPage = ids(routeRepository.findKeysByCriteria(
+                criteria, new RouteCursor(testRoute.getDate(), testRoute.getHour(), testRoute.getId()), 2));
+
+        // THEN
+        assertThat(firstPage).containsExactly(early.getId(), testRoute.getId());
+        assertThat(secondPage).containsExactly(tomorrow.getId());
+    }
+
+    @Test
+    void findKeysByCriteria_ShouldReturnCursorOfEachRoute() {
+        // WHEN
+        List<RouteCursor> keys = routeRepository.findKeysByCriteria(
+                RouteSearchCriteria.byCity("Paris", "Lyon", null), null, 10);
+
+        // THEN : chaque clé peut servir de curseur pour la page suivante
+        assertThat(keys).containsExactly(new RouteCursor(testRoute.getDate(), testRoute.getHour(), testRoute.getId()));
+    }
+
+    @Test
+    void findWithRouteDetailsByRouteIdIn_ShouldFetchWholeGraph() {
+        // GIVEN : contexte de persistance vidé pour forcer le chargement depuis la base
+        entityManager.clear();
+
+        // WHEN
+        List<RouteLocation> links = routeLocationRepository.findWithRouteDetailsByRouteIdIn(List.of(testRoute.getId()));
+
+        // THEN : les associations sont initialisées sans requête supplémentaire
+        assertThat(links).hasSize(2)
+                .extracting(RouteLocation::getType)
+                .containsExactlyInAnyOrder("starting", "arrival");
+        RouteLocation link = links.get(0);
+        assertThat(Hibernate.isInitialized(link.getLocation())).isTrue();
+        assertThat(Hibernate.isInitialized(link.getRoute().getIcon())).isTrue();
+        assertThat(Hibernate.isInitialized(link.getRoute().getDriver())).isTrue();
+        assertThat(Hibernate.isInitialized(link.getRoute().getDriver().getUser())).isTrue();
+        assertThat(link.getRoute().getDriver().getUser().getEmail()).isEqualTo("driver@test.com");
+    }
+
+    @Test
+    void findKeysByCriteria_WithProximity_ShouldMatchPointsWithinRadius() {
+        // GIVEN : départ à ~17 km de Paris (Versailles), arrivée à ~10 km de Lyon
+        GeoCircle nearParis = new GeoCircle(48.8049, 2.1204, 20);
+        GeoCircle nearLyon = new GeoCircle(45.8300, 4.8900, 15);
+
+        // WHEN
+        List<Integer> ids = ids(routeRepository.findKeysByCriteria(
+                RouteSearchCriteria.byProximity(nearParis, nearLyon, null), null, 10));
+
+        // THEN
+        assertThat(ids).containsExactly(testRoute.getId());
+    }
+
+    @Test
+    void findKeysByCriteria_WithProximity_ShouldIgnorePointsOutsideRadius() {
+        // GIVEN : Versailles est à ~17 km de Paris, hors d'un rayon de 10 km
+        GeoCircle nearVersailles = new GeoCircle(48.8049, 2.1204, 10);
+        GeoCircle nearLyon = new GeoCircle(45.7578, 4.8320, 5);
+
+        // WHEN
+        List<Integer> ids = ids(routeRepository.findKeysByCriteria(
+                RouteSearchCriteria.byProximity(nearVersailles, nearLyon, null), null, 10));
 
-        // THEN : La query utilise LOWER(), donc ça doit matcher
-        assertThat(results).isNotEmpty();
+        // THEN
+        assertThat(ids).isEmpty();
+    }
+
+    @Test
+    void findKeysByCriteria_WithProximityNearPole_ShouldSearchLatitudeBand() {
+        // GIVEN : départ de l'autre côté du pôle, ~65 km ; la liste des cellules dépasserait la limite de paramètres JDBC
+        Route polar = persistRoute(location("Alert", 89.5, -178), lyon);
+
+        // WHEN
+        List<Integer> ids = ids(routeRepository.findKeysByCriteria(
+                RouteSearchCriteria.byProximity(new GeoCircle(89.9, 2, 100), null, null), null, 10));
+
+        // THEN
+        assertThat(ids).containsExactly(polar.getId());
+    }
+
+    @Test
+    void findKeysByCriteria_WithProximityAcrossAntimeridian_ShouldMatchBothSides() {
+        // GIVEN : départs à ~10 km de part et d'autre de l'antiméridien
+        Route east = persistRoute(location("Taveuni Est", -16.8, 179.95), lyon);
+        Route west = persistRoute(location("Taveuni Ouest", -16.8, -179.95), lyon);
+
+        // WHEN
+        List<Integer> fromEast = ids(routeRepository.findKeysByCriteria(
+                RouteSearchCriteria.byProximity(new GeoCircle(-16.8, 179.99, 20), null, null), null, 10));
+        List<Integer> fromWest = ids(routeRepository.findKeysByCriteria(
+                RouteSearchCriteria.byProximity(new GeoCircle(-16.8, -179.99, 20), null, null), null, 10));
+
+        // THEN
+        assertThat(fromEast).containsExactlyInAnyOrder(east.getId(), west.getId());
+        assertThat(fromWest).containsExactlyInAnyOrder(east.getId(), west.getId());
+    }
+
+    @Test
+    void findKeysByDriver_ShouldPageDriverRoutesByDateHourAndId() {
+        // GIVEN
+        Route early = persistParisLyonRoute(LocalDate.now(), LocalTime.of(6, 30));
+        Route tomorrow = persistParisLyonRoute(LocalDate.now().plusDays(1), LocalTime.of(7, 0));
+
+        // WHEN
+        List<Integer> firstPage = ids(routeRepository.findKeysByDriver(driver.getId(), null, 2));
+        List<Integer> secondPage = ids(routeRepository.findKeysByDriver(
+                driver.getId(), new RouteCursor(testRoute.getDate(), testRoute.getHour(), testRoute.getId()), 2));
+
+        // THEN
+        assertThat(firstPage).containsExactly(early.getId(), testRoute.getId());
+        assertThat(secondPage).containsExactly(tomorrow.getId());
+        assertThat(routeRepository.findKeysByDriver(driver.getId() + 1000, null, 10)).isEmpty();
+    }
+
+    @Test
+    void findKeysByPassenger_ShouldReturnReservedRoutesOnly() {
+        // GIVEN : un passager ayant réservé deux des trois trajets (dont une réservation annulée)
+        Route tomorrow = persistParisLyonRoute(LocalDate.now().plusDays(1), LocalTime.of(7, 0));
+        persistParisLyonRoute(LocalDate.now().plusDays(2), LocalTime.of(7, 0));
+
+        User account = new User();
+        account.setEmail("passenger@test.com");
+        account.setPassword("hashed_password");
+        account.setStatus(driver.getUser().getStatus());
+        account.setRole(driver.getUser().getRole());
+        entityManager.persist(account);
+        Profil passenger = new Profil();
+        passenger.setFirstname("Marie");
+        passenger.setLastname("Martin");
+        passenger.setPhone("0698765432");
+        passenger.setUser(account);
+        entityManager.persist(passenger);
+
+        for (Route reserved : List.of(tomorrow, testRoute)) {
+            UserRoute reservation = new UserRoute();
+            reservation.setId(new UserRouteId(passenger.getId(), reserved.getId()));
+            reservation.setPassenger(passenger);
+            reservation.setRoute(reserved);
+            reservation.setStatus(reserved == testRoute ? "cancelled" : "confirmed");
+            entityManager.persist(reservation);
+        }
+        entityManager.flush();
+
+        // WHEN
+        List<Integer> ids = ids(routeRepository.findKeysByPassenger(passenger.getId(), null, 10));
+
+        // THEN : historique complet, trié par date
+        assertThat(ids).containsExactly(testRoute.getId(), tomorrow.getId());
+    }
+
+    @Test
+    void persist_ShouldStoreDepartureGridCell() {
+        assertThat(testRoute.getDeparture().getGridCell()).isEqualTo(GeoGrid.cellOf(paris.getLatitude(), paris.getLongitude()));
+    }
+
+    private static List<Integer> ids(List<RouteCursor> keys) {
+        return keys.stream().map(RouteCursor::id).toList();
+    }
+
+    private Location location(String city, double latitude, double longitude) {
+        Location location = new Location();
+        location.setStreetName("Rue principale");
+        location.setPostalCode("00000");
+        location.setCityName(city);
+        location.setLatitude(latitude);
+        location.setLongitude(longitude);
+        entityManager.persist(location);
+        return location;
+    }
+
+    private Route persistRoute(Location start, Location arrival) {
+        Route route = new Route();
+        route.setPlace((short) 3);
+        route.setDate(LocalDate.now());
+        route.setHour(LocalTime.of(9, 0));
+        route.setDistance(100);
+        route.setIcon(icon);
+        route.setDriver(driver);
+        route.setDeparture(RouteEndpoint.of(start));
+        route.setArrival(RouteEndpoint.of(arrival));
+        entityManager.persist(route);
+        entityManager.flush();
+        return route;
+    }
+
+    private Route persistParisLyonRoute(LocalDate date, LocalTime hour) {
+        Route route = new Route();
+        route.setPlace((short) 3);
+        route.setDate(date);
+        route.setHour(hour);
+        route.setDistance(465);
+        route.setIcon(icon);
+        route.setDriver(driver);
+        route.setDeparture(RouteEndpoint.of(paris));
+        route.setArrival(RouteEndpoint.of(lyon));
+        entityManager.persist(route);
+
+        entityManager.persist(new RouteLocation(new RouteLocationId(route.getId(), paris.getId()), route, paris, "starting"));
+        entityManager.persist(new RouteLocation(new RouteLocationId(route.getId(), lyon.getId()), route, lyon, "arrival"));
+        entityManager.flush();
+        return route;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,132 @@
+package fr.cda.covoit_api.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Migrations Flyway appliquées sur un schéma dédié, puis validées par Hibernate ({@code ddl-auto=validate})
+ * au démarrage du contexte : un écart entre les scripts et les entités fait échouer ce test.
+ */
+class SchemaMigrationTest extends AbstractMigratedSchemaTest {
+
+    private static final String BASELINE_SCHEMA = "migration_baseline";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // ============================================================
+    // TEST 1 : Base vide → toutes les migrations appliquées, schéma conforme aux entités
+    // Réf: db/migration/V*.sql
+    // ============================================================
+    @Test
+    void migrate_OnEmptySchema_ShouldApplyAllVersions() {
+        // THEN
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).extracting(MigrationInfo::getVersion).contains(MigrationVersion.fromVersion("1"));
+        assertThat(flyway.info().applied()).extracting(MigrationInfo::getState).containsOnly(MigrationState.SUCCESS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + SCHEMA + ".model", Integer.class)).isEqualTo(15);
+    }
+
+    // ============================================================
+    // TEST 2 : Nouveau démarrage → aucune migration rejouée
+    // Réf: application.properties → spring.flyway.*
+    // ============================================================
+    @Test
+    void migrate_WhenUpToDate_ShouldDoNothing() {
+        // WHEN
+        MigrateResult result = flyway.migrate();
+
+        // THEN
+        assertThat(result.migrationsExecuted).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + SCHEMA + ".status", Integer.class)).isEqualTo(4);
+    }
+
+    // ============================================================
+    // TEST 3 : Base créée par ddl-auto=update avant Flyway (sans historique) → marquée en V1,
+    //          migrations suivantes appliquées, même schéma qu'une base neuve, rattrapages faits
+    // Réf: application.properties → spring.flyway.baseline-on-migrate
+    // ============================================================
+    @Test
+    void migrate_OnExistingSchemaWithoutHistory_ShouldBaselineThenApplyLaterVersions() throws SQLException {
+        // GIVEN : schéma d'avant Flyway, sans table d'historique, avec un trajet Orléans → Tours
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + BASELINE_SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + BASELINE_SCHEMA);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setSchema(BASELINE_SCHEMA);
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/legacy/ddl_auto_update_schema.sql"));
+        }
+        insertLegacyRoute();
+
+        // WHEN
+        Flyway existing = Flyway.configure().dataSource(dataSource).schemas(BASELINE_SCHEMA)
+                .baselineOnMigrate(true).baselineVersion("1").load();
+        MigrateResult result = existing.migrate();
+
+        // THEN
+        assertThat(result.initialSchemaVersion).isEqualTo("1");
+        assertThat(result.migrationsExecuted).isPositive();
+        assertThat(existing.info().current().getVersion()).isEqualTo(flyway.info().current().getVersion());
+        assertThat(columns(BASELINE_SCHEMA)).containsExactlyInAnyOrderElementsOf(columns(SCHEMA));
+        assertThat(indexes(BASELINE_SCHEMA)).containsExactlyInAnyOrderElementsOf(indexes(SCHEMA));
+        assertThat(jdbcTemplate.queryForMap("SELECT start_city_key, start_grid_cell, arrival_city_key FROM "
+                + BASELINE_SCHEMA + ".route"))
+                .containsEntry("start_city_key", "orleans")
+                .containsEntry("start_grid_cell", 1_379L * 3600 + 1_819L)
+                .containsEntry("arrival_city_key", "tours");
+    }
+
+    private void insertLegacyRoute() {
+        String s = BASELINE_SCHEMA + ".";
+        jdbcTemplate.update("INSERT INTO " + s + "status (id_status, label) VALUES (1, 'ACTIVE')");
+        jdbcTemplate.update("INSERT INTO " + s + "role_user (id_role, label) VALUES (2, 'USER')");
+        jdbcTemplate.update("INSERT INTO " + s + "icon (id_icon, label) VALUES (1, 'Non-fumeur')");
+        jdbcTemplate.update("INSERT INTO " + s + "user_account (id_account, email, password, id_status, id_role)"
+                + " VALUES (10, 'legacy@test.com', 'x', 1, 2)");
+        jdbcTemplate.update("INSERT INTO " + s + "user_profil (id_profil, firstname, lastname, phone, id_account)"
+                + " VALUES (10, 'Ancien', 'Conducteur', '0600000000', 10)");
+        jdbcTemplate.update("INSERT INTO " + s + "route (id_route, distance, place, date_, hour_, id_profil, id_icon)"
+                + " VALUES (10, 115, 3, CURRENT_DATE, TIME '08:00', 10, 1)");
+        jdbcTemplate.update("INSERT INTO " + s + "location (id_location, street_name, postal_code, city_name, latitude, longitude)"
+                + " VALUES (10, '1 rue Jeanne d''Arc', '45000', 'Orléans', 47.9029, 1.9093),"
+                + " (11, '1 rue Nationale', '37000', 'Tours', 47.3941, 0.6848)");
+        jdbcTemplate.update("INSERT INTO " + s + "route_location (id_route, id_location, type)"
+                + " VALUES (10, 10, 'starting'), (10, 11, 'arrival')");
+    }
+
+    // Colonnes (table, nom, type, longueur, nullabilité) : ce que ddl-auto=validate compare aux entités
+    private List<String> columns(String schema) {
+        return jdbcTemplate.queryForList("""
+                SELECT table_name || '.' || column_name || ' ' || data_type
+                       || COALESCE('(' || character_maximum_length || ')', '') || ' ' || is_nullable
+                FROM information_schema.columns
+                WHERE table_schema = ? AND table_name <> 'flyway_schema_history'""", String.class, schema);
+    }
+
+    // Index créés par les migrations (les noms des contraintes générées par Hibernate diffèrent, leurs index aussi)
+    private List<String> indexes(String schema) {
+        return jdbcTemplate.queryForList(
+                "SELECT tablename || '.' || indexname FROM pg_indexes WHERE schemaname = ? AND indexname LIKE 'idx%'",
+                String.class, schema);
+    }
+}
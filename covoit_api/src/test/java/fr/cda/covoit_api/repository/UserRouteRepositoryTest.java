@@ -0,0 +1,154 @@
+package fr.cda.covoit_api.repository;
+
+import fr.cda.covoit_api.AbstractIntegrationTest;
+import fr.cda.covoit_api.domain.entity.*;
+import fr.cda.covoit_api.dto.response.ReservationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserRouteRepositoryTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private UserRouteRepository userRouteRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Status status;
+    private Role role;
+    private Icon icon;
+    private Profil driver;
+    private Profil passenger;
+
+    @BeforeEach
+    void setUp() {
+        icon = new Icon();
+        icon.setLabel("default-icon");
+        entityManager.persist(icon);
+
+        status = new Status();
+        status.setLabel("active");
+        entityManager.persist(status);
+
+        role = new Role();
+        role.setLabel("ROLE_USER");
+        entityManager.persist(role);
+
+        driver = profil("driver@test.com", "Jean", "Dupont");
+        passenger = profil("passenger@test.com", "Marie", "Martin");
+    }
+
+    // ============================================================
+    // TEST 1 : Projection → villes, date et conducteur en une ligne par réservation active
+    // Réf: UserRouteRepository.java → findReservationsByPassengerId()
+    // ============================================================
+    @Test
+    void findReservationsByPassengerId_ShouldProjectActiveReservations() {
+        // GIVEN : deux réservations actives, une annulée
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        Route toLyon = route(tomorrow, LocalTime.of(8, 0), "Paris", "Lyon");
+        Route toNantes = route(tomorrow.plusDays(1), LocalTime.of(9, 30), "Lyon", "Nantes");
+        Route cancelled = route(tomorrow, LocalTime.of(7, 0), "Lille", "Paris");
+        reserve(toNantes, "confirmed");
+        reserve(toLyon, "pending");
+        reserve(cancelled, "cancelled");
+        entityManager.flush();
+        entityManager.clear();
+
+        // WHEN
+        List<ReservationResponse> result = userRouteRepository.findReservationsByPassengerId(passenger.getId());
+
+        // THEN : triées par date du trajet, sans la réservation annulée
+        assertThat(result).extracting(ReservationResponse::getRouteId)
+                .containsExactly(toLyon.getId(), toNantes.getId());
+        ReservationResponse first = result.get(0);
+        assertThat(first.getStatus()).isEqualTo("pending");
+        assertThat(first.getDepartureCity()).isEqualTo("Paris");
+        assertThat(first.getArrivalCity()).isEqualTo("Lyon");
+        assertThat(first.getTripDate()).isEqualTo(tomorrow + " 08:00");
+        assertThat(first.getDriverName()).isEqualTo("Jean Dupont");
+        assertThat(first.getCreatedAt()).isNotNull();
+    }
+
+    // ============================================================
+    // TEST 2 : Autre passager → aucune ligne
+    // Réf: UserRouteRepository.java → findReservationsByPassengerId()
+    // ============================================================
+    @Test
+    void findReservationsByPassengerId_ShouldIgnoreOtherPassengers() {
+        // GIVEN
+        reserve(route(LocalDate.now().plusDays(1), LocalTime.of(8, 0), "Paris", "Lyon"), "confirmed");
+        entityManager.flush();
+
+        // WHEN & THEN
+        assertThat(userRouteRepository.findReservationsByPassengerId(driver.getId())).isEmpty();
+    }
+
+    private Profil profil(String email, String firstname, String lastname) {
+        User account = new User();
+        account.setEmail(email);
+        account.setPassword("hashed_password");
+        account.setStatus(status);
+        account.setRole(role);
+        entityManager.persist(account);
+
+        Profil profil = new Profil();
+        profil.setFirstname(firstname);
+        profil.setLastname(lastname);
+        profil.setPhone("0612345678");
+        profil.setUser(account);
+        return entityManager.persist(profil);
+    }
+
+    private Route route(LocalDate date, LocalTime hour, String from, String to) {
+        Route route = new Route();
+        route.setPlace((short) 3);
+        route.setDate(date);
+        route.setHour(hour);
+        route.setDistance(465);
+        route.setIcon(icon);
+        route.setDriver(driver);
+        entityManager.persist(route);
+        link(route, from, "starting");
+        link(route, to, "arrival");
+        return route;
+    }
+
+    private void link(Route route, String city, String type) {
+        Location location = new Location();
+        location.setStreetName("Place de la Gare");
+        location.setPostalCode("00000");
+        location.setCityName(city);
+        location.setLatitude(45.0);
+        location.setLongitude(4.0);
+        entityManager.persist(location);
+
+        RouteLocation link = new RouteLocation();
+        link.setId(new RouteLocationId(route.getId(), location.getId()));
+        link.setRoute(route);
+        link.setLocation(location);
+        link.setType(type);
+        entityManager.persist(link);
+    }
+
+    private void reserve(Route route, String status) {
+        UserRoute reservation = new UserRoute();
+        reservation.setId(new UserRouteId(passenger.getId(), route.getId()));
+        reservation.setPassenger(passenger);
+        reservation.setRoute(route);
+        reservation.setStatus(status);
+        entityManager.persist(reservation);
+    }
+}
@@ -0,0 +1,79 @@
+package fr.cda.covoit_api.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Déclencheur {@code trg_user_account_token_version} (migration V6) : seules les modifications qui doivent
+ * révoquer les jetons déjà émis incrémentent la version, y compris quand elles sont faites en SQL.
+ */
+class UserTokenVersionTest extends AbstractMigratedSchemaTest {
+
+    private static final String EMAIL = "token-version@test.com";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Integer accountId;
+
+    @BeforeEach
+    void setUp() {
+        accountId = jdbcTemplate.queryForObject("INSERT INTO " + SCHEMA + ".user_account (email, password, Id_status, Id_role)"
+                + " VALUES (?, 'hash', 1, 2) RETURNING Id_account", Integer.class, EMAIL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM " + SCHEMA + ".user_account WHERE Id_account = ?", accountId);
+    }
+
+    private void update(String assignment) {
+        jdbcTemplate.update("UPDATE " + SCHEMA + ".user_account SET " + assignment + " WHERE Id_account = ?", accountId);
+    }
+
+    private int tokenVersion() {
+        return userRepository.findAccountStateById(accountId).orElseThrow().tokenVersion();
+    }
+
+    // ============================================================
+    // TEST 1 : Mot de passe, statut ou rôle modifiés → version incrémentée
+    // Réf: V6__user_token_version.sql → bump_user_token_version()
+    // ============================================================
+    @Test
+    void update_ShouldBumpVersion_WhenPasswordStatusOrRoleChanges() {
+        // GIVEN
+        assertThat(tokenVersion()).isZero();
+
+        // WHEN & THEN
+        update("password = 'new-hash'");
+        assertThat(tokenVersion()).isEqualTo(1);
+
+        update("Id_status = 3");
+        assertThat(tokenVersion()).isEqualTo(2);
+
+        update("Id_role = 1");
+        assertThat(tokenVersion()).isEqualTo(3);
+    }
+
+    // ============================================================
+    // TEST 2 : Autres colonnes, ou valeur inchangée → version conservée
+    // Réf: V6__user_token_version.sql → WHEN (... IS DISTINCT FROM ...)
+    // ============================================================
+    @Test
+    void update_ShouldKeepVersion_WhenNoSecurityRelevantChange() {
+        // WHEN
+        update("last_login_at = now()");
+        update("password = 'hash', Id_status = 1, Id_role = 2");
+
+        // THEN
+        assertThat(tokenVersion()).isZero();
+    }
+}
@@ -0,0 +1,197 @@
+package fr.cda.covoit_api.security;
+
+import fr.cda.covoit_api.AbstractIntegrationTest;
+import fr.cda.covoit_api.domain.entity.*;
+import fr.cda.covoit_api.repository.RoleRepository;
+import fr.cda.covoit_api.repository.StatusRepository;
+import fr.cda.covoit_api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Requêtes SQL émises pour authentifier un utilisateur qui a un profil et un véhicule.
+ * <p>
+ * {@code User.profil} et {@code Profil.vehicle} sont des OneToOne inverses : sans l'enrichissement du bytecode,
+ * chaque lecture d'un compte déclenchait aussi la lecture du profil puis du véhicule.
+ * </p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthenticationQueryCountTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StatusRepository statusRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private String email;
+    private Integer accountId;
+    private Integer profilId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String run = Long.toString(System.nanoTime());
+        email = "driver-" + run + "@test.com";
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            Status active = statusRepository.findByLabel("ACTIVE")
+                    .orElseGet(() -> statusRepository.save(new Status(null, "ACTIVE")));
+            Role user = roleRepository.findByLabel("USER")
+                    .orElseGet(() -> roleRepository.save(new Role(null, "USER")));
+
+            User account = new User();
+            account.setEmail(email);
+            account.setPassword("hash");
+            account.setStatus(active);
+            account.setRole(user);
+            entityManager.persist(account);
+
+            Profil profil = new Profil();
+            profil.setFirstname("Jean");
+            profil.setLastname("Conducteur");
+            profil.setPhone("0600000000");
+            profil.setUser(account);
+            entityManager.persist(profil);
+
+            Brand brand = new Brand();
+            brand.setLabel("brand-" + run);
+            entityManager.persist(brand);
+            Model model = new Model();
+            model.setLabel("model-" + run);
+            model.setBrand(brand);
+            entityManager.persist(model);
+
+            Vehicle vehicle = new Vehicle();
+            vehicle.setSeats((short) 4);
+            vehicle.setCarregistration("AA-" + run.substring(run.length() - 6));
+            vehicle.setModel(model);
+            vehicle.setOwner(profil);
+            entityManager.persist(vehicle);
+
+            accountId = account.getId();
+            profilId = profil.getId();
+        });
+
+        // Premier chargement hors mesure, comme en régime établi
+        userDetailsService.loadUserByUsername(email);
+    }
+
+    // ============================================================
+    // TEST 1 : Principal (compte, rôle, statut, id du profil) → une seule requête
+    // Réf: UserRepository.java → findPrincipalByEmail()
+    // ============================================================
+    @Test
+    void loadUserByUsername_ShouldOnlyQueryUserAccount() {
+        // GIVEN
+        long before = statistics.getPrepareStatementCount();
+
+        // WHEN
+        AuthenticatedUser principal = userDetailsService.loadUserByUsername(email);
+
+        // THEN : identifiants du compte et du profil résolus dans la même requête
+        assertThat(statistics.getPrepareStatementCount() - before).isEqualTo(1);
+        assertThat(principal.getAccountId()).isEqualTo(accountId);
+        assertThat(principal.getProfilId()).isEqualTo(profilId);
+        assertThat(principal.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+    }
+
+    // ============================================================
+    // TEST 2 : Profil et véhicule chargés au premier accès seulement
+    // Réf: Profil.java → @OneToOne(mappedBy = "owner", fetch = LAZY)
+    // ============================================================
+    @Test
+    void findByEmail_ShouldLoadProfilAndVehicleOnAccess() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            // GIVEN
+            User user = userRepository.findByEmail(email).orElseThrow();
+            long before = statistics.getPrepareStatementCount();
+
+            // WHEN
+            Profil profil = user.getProfil();
+            String registration = profil.getVehicle().getCarregistration();
+
+            // THEN
+            assertThat(registration).startsWith("AA-");
+            assertThat(statistics.getPrepareStatementCount() - before).isEqualTo(2);
+        });
+    }
+
+    // ============================================================
+    // TEST 3 : Requête authentifiée (état du compte absent du cache) → une seule requête SQL
+    // Réf: JwtAuthenticationFilter.java → principalCache.get(..., findAccountStateById)
+    // ============================================================
+    @Test
+    void authenticatedRequest_ShouldIssueSingleStatement() throws Exception {
+        // GIVEN : catalogue déjà en mémoire, utilisateur absent du cache
+        String token = tokenProvider.generateToken(userDetailsService.loadUserByUsername(email));
+        mockMvc.perform(get("/api/brands").header("Authorization", "Bearer " + token)).andExpect(status().isOk());
+        principalCache.evict(accountId);
+        long before = statistics.getPrepareStatementCount();
+
+        // WHEN
+        mockMvc.perform(get("/api/brands").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // THEN
+        assertThat(statistics.getPrepareStatementCount() - before).isEqualTo(1);
+    }
+
+    // ============================================================
+    // TEST 4 : Requête authentifiée (état du compte en cache) → aucune requête SQL
+    // Réf: JwtTokenProvider.java → toPrincipal()
+    // ============================================================
+    @Test
+    void authenticatedRequest_ShouldIssueNoStatement_WhenAccountStateIsCached() throws Exception {
+        // GIVEN
+        String token = tokenProvider.generateToken(userDetailsService.loadUserByUsername(email));
+        mockMvc.perform(get("/api/brands").header("Authorization", "Bearer " + token)).andExpect(status().isOk());
+        long before = statistics.getPrepareStatementCount();
+
+        // WHEN
+        mockMvc.perform(get("/api/brands").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // THEN
+        assertThat(statistics.getPrepareStatementCount() - before).isZero();
+    }
+}
@@ -0,0 +1,51 @@
+package fr.cda.covoit_api.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    // ============================================================
+    // TEST 1 : Identifiant ajouté → toujours reconnu (aucun faux négatif)
+    // Réf: BloomFilter.java → mightContain()
+    // ============================================================
+    @Test
+    void mightContain_ShouldReturnTrueForEveryAddedId() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            filter.put(id);
+        }
+
+        assertThat(ids).allMatch(filter::mightContain);
+    }
+
+    // ============================================================
+    // TEST 2 : Filtre rempli à sa capacité → taux de faux positifs proche de la cible
+    // Réf: BloomFilter.java → BloomFilter(int, double)
+    // ============================================================
+    @Test
+    void mightContain_ShouldKeepFalsePositiveRateNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        // Cible 1 % : marge large pour un test déterministe en pratique
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+}
@@ -0,0 +1,189 @@
+package fr.cda.covoit_api.security;
+
+import fr.cda.covoit_api.repository.RevokedTokenRepository;
+import fr.cda.covoit_api.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private JwtTokenProvider tokenProvider;
+    private UserRepository userRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private TokenRevocationList revocationList;
+    private JwtAuthenticationFilter filter;
+
+    private final AuthenticatedUser user = new AuthenticatedUser(1, 1, "user@test.com", "hashed", "USER", "ACTIVE", 0);
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider("test-secret-key-minimum-32-chars-long!", 900);
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findAccountStateById(1)).thenReturn(Optional.of(new AccountState(0, 1)));
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(meterRegistry, Runnable::run, 60, 100);
+        revocationList = new TokenRevocationList(mock(RevokedTokenRepository.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry, 100, 0.01, 60);
+        revocationList.rebuild();
+        filter = new JwtAuthenticationFilter(tokenProvider, userRepository, principalCache, revocationList);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    // ============================================================
+    // TEST 1 : Requêtes successives → principal issu des claims, une seule lecture en base
+    // Réf: JwtAuthenticationFilter.java → checkTokenVersion()
+    // ============================================================
+    @Test
+    void doFilter_ShouldLoadAccountStateOnceForSuccessiveRequests() throws Exception {
+        String token = tokenProvider.generateToken(user);
+
+        authenticate(token);
+        authenticate(token);
+        Authentication authentication = authenticate(token);
+
+        assertThat(authentication.getName()).isEqualTo("user@test.com");
+        assertThat(authentication.getPrincipal()).isInstanceOfSatisfying(AuthenticatedUser.class, principal -> {
+            assertThat(principal.getAccountId()).isEqualTo(1);
+            assertThat(principal.getProfilId()).isEqualTo(1);
+        });
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        verify(userRepository, times(1)).findAccountStateById(1);
+        verifyNoMoreInteractions(userRepository);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+    }
+
+    // ============================================================
+    // TEST 2 : Éviction → rechargement depuis la base
+    // Réf: PrincipalCache.java → evict()
+    // ============================================================
+    @Test
+    void doFilter_ShouldReloadAccountStateAfterEviction() throws Exception {
+        String token = tokenProvider.generateToken(user);
+
+        authenticate(token);
+        principalCache.evict(1);
+        authenticate(token);
+
+        verify(userRepository, times(2)).findAccountStateById(1);
+    }
+
+    // ============================================================
+    // TEST 3 : Version dépassée (mot de passe, rôle ou statut changé) → token refusé
+    // Réf: JwtAuthenticationFilter.java → checkTokenVersion()
+    // ============================================================
+    @Test
+    void doFilter_ShouldRejectToken_WhenVersionIsStale() throws Exception {
+        String token = tokenProvider.generateToken(user);
+        when(userRepository.findAccountStateById(1)).thenReturn(Optional.of(new AccountState(1, 1)));
+
+        assertThat(authenticate(token)).isNull();
+    }
+
+    @Test
+    void doFilter_ShouldRejectToken_WhenAccountNoLongerExists() throws Exception {
+        String token = tokenProvider.generateToken(user);
+        when(userRepository.findAccountStateById(1)).thenReturn(Optional.empty());
+
+        assertThat(authenticate(token)).isNull();
+    }
+
+    // ============================================================
+    // TEST 4 : Profil créé après la connexion → identifiant repris de l'état du compte
+    // Réf: AuthenticatedUser.java → withProfilId()
+    // ============================================================
+    @Test
+    void doFilter_ShouldFillProfilId_WhenTokenWasIssuedBeforeProfil() throws Exception {
+        String token = tokenProvider.generateToken(new AuthenticatedUser(1, null, "user@test.com", "hashed", "USER", "ACTIVE", 0));
+
+        Authentication authentication = authenticate(token);
+
+        assertThat(authentication.getPrincipal()).isInstanceOfSatisfying(AuthenticatedUser.class,
+                principal -> assertThat(principal.getProfilId()).isEqualTo(1));
+    }
+
+    // ============================================================
+    // TEST 5 : Token invalide → aucune authentification, aucune lecture
+    // Réf: JwtTokenProvider.java → parseAndValidate()
+    // ============================================================
+    @Test
+    void doFilter_ShouldIgnoreInvalidToken() throws Exception {
+        assertThat(authenticate("invalid.token.value")).isNull();
+
+        verifyNoInteractions(userRepository);
+    }
+
+    // ============================================================
+    // TEST 6 : Token révoqué (déconnexion) → refusé avant toute lecture
+    // Réf: TokenRevocationList.java → isRevoked()
+    // ============================================================
+    @Test
+    void doFilter_ShouldRejectToken_WhenRevoked() throws Exception {
+        String token = tokenProvider.generateToken(user);
+        Claims claims = tokenProvider.parseAndValidate(token).orElseThrow();
+        revocationList.revoke(claims.getId(), 1, LocalDateTime.now().plusMinutes(15));
+
+        assertThat(authenticate(token)).isNull();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void doFilter_ShouldAcceptOtherTokens_WhenOneIsRevoked() throws Exception {
+        String revoked = tokenProvider.generateToken(user);
+        revocationList.revoke(tokenProvider.parseAndValidate(revoked).orElseThrow().getId(), 1,
+                LocalDateTime.now().plusMinutes(15));
+
+        assertThat(authenticate(tokenProvider.generateToken(user))).isNotNull();
+    }
+
+    @Test
+    void doFilter_ShouldRejectToken_WhenItHasNoId() throws Exception {
+        // Token émis avant l'ajout du jti : irrévocable, donc refusé (le client se rafraîchit)
+        String token = Jwts.builder()
+                .setSubject("user@test.com")
+                .claim("uid", 1)
+                .claim("pid", 1)
+                .claim("role", "USER")
+                .claim("ver", 0)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor("test-secret-key-minimum-32-chars-long!".getBytes(StandardCharsets.UTF_8)),
+                        SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(authenticate(token)).isNull();
+    }
+}
@@ -1,10 +1,16 @@
 package fr.cda.covoit_api.security;
 
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.WeakKeyException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JwtTokenProviderTest {
 
@@ -12,10 +18,12 @@ class JwtTokenProviderTest {
 
     @BeforeEach
     void setUp() {
-        tokenProvider = new JwtTokenProvider();
-        // Injecter une clé secrète de test (min 32 caractères pour HS256)
-        ReflectionTestUtils.setField(tokenProvider, "JWT_SECRET",
-                "test-secret-key-minimum-32-chars-long!");
+        // Clé secrète de test (min 32 caractères pour HS256)
+        tokenProvider = new JwtTokenProvider("test-secret-key-minimum-32-chars-long!", 900);
+    }
+
+    private static AuthenticatedUser user(String email) {
+        return new AuthenticatedUser(7, 3, email, "hashed", "ADMIN", "ACTIVE", 2);
     }
 
     // ============================================================
@@ -24,64 +32,125 @@ class JwtTokenProviderTest {
     // ============================================================
     @Test
     void generateToken_ShouldReturnNonNullToken() {
-        String token = tokenProvider.generateToken("user@test.com");
+        String token = tokenProvider.generateToken(user("user@test.com"));
 
         assertThat(token).isNotNull().isNotEmpty();
     }
 
     @Test
     void generateToken_ShouldReturnDifferentTokensForDifferentEmails() {
-        String token1 = tokenProvider.generateToken("user1@test.com");
-        String token2 = tokenProvider.generateToken("user2@test.com");
+        String token1 = tokenProvider.generateToken(user("user1@test.com"));
+        String token2 = tokenProvider.generateToken(user("user2@test.com"));
 
         assertThat(token1).isNotEqualTo(token2);
     }
 
-    // ============================================================
-    // getEmailFromToken
-    // Réf: JwtTokenProvider.java → getEmailFromToken()
-    // ============================================================
     @Test
-    void getEmailFromToken_ShouldReturnCorrectEmail() {
-        String token = tokenProvider.generateToken("user@test.com");
+    void generateToken_ShouldExpireAfterConfiguredDuration() {
+        String token = tokenProvider.generateToken(user("user@test.com"));
+
+        assertThat(tokenProvider.parseAndValidate(token)).hasValueSatisfying(claims ->
+                assertThat(claims.getExpiration().getTime() - claims.getIssuedAt().getTime()).isEqualTo(900_000L));
+        assertThat(tokenProvider.getExpirationSeconds()).isEqualTo(900);
+    }
 
-        String email = tokenProvider.getEmailFromToken(token);
+    @Test
+    void generateToken_ShouldAssignDistinctIdToEachToken() {
+        String token1 = tokenProvider.generateToken(user("user@test.com"));
+        String token2 = tokenProvider.generateToken(user("user@test.com"));
 
-        assertThat(email).isEqualTo("user@test.com");
+        String id1 = tokenProvider.parseAndValidate(token1).orElseThrow().getId();
+        String id2 = tokenProvider.parseAndValidate(token2).orElseThrow().getId();
+        assertThat(id1).isNotBlank().isNotEqualTo(id2);
     }
 
     // ============================================================
-    // validateToken
-    // Réf: JwtTokenProvider.java → validateToken()
+    // parseAndValidate
+    // Réf: JwtTokenProvider.java → parseAndValidate()
     // ============================================================
     @Test
-    void validateToken_ShouldReturnTrue_WhenTokenIsValid() {
-        String token = tokenProvider.generateToken("user@test.com");
+    void parseAndValidate_ShouldReturnClaims_WhenTokenIsValid() {
+        String token = tokenProvider.generateToken(user("user@test.com"));
 
-        assertThat(tokenProvider.validateToken(token)).isTrue();
+        assertThat(tokenProvider.parseAndValidate(token))
+                .hasValueSatisfying(claims -> assertThat(claims.getSubject()).isEqualTo("user@test.com"));
     }
 
     @Test
-    void validateToken_ShouldReturnFalse_WhenTokenIsInvalid() {
-        assertThat(tokenProvider.validateToken("invalid.token.here")).isFalse();
+    void parseAndValidate_ShouldReturnEmpty_WhenTokenIsInvalid() {
+        assertThat(tokenProvider.parseAndValidate("invalid.token.here")).isEmpty();
     }
 
     @Test
-    void validateToken_ShouldReturnFalse_WhenTokenIsNull() {
-        assertThat(tokenProvider.validateToken(null)).isFalse();
+    void parseAndValidate_ShouldReturnEmpty_WhenTokenIsNull() {
+        assertThat(tokenProvider.parseAndValidate(null)).isEmpty();
     }
 
     @Test
-    void validateToken_ShouldReturnFalse_WhenTokenIsEmpty() {
-        assertThat(tokenProvider.validateToken("")).isFalse();
+    void parseAndValidate_ShouldReturnEmpty_WhenTokenIsEmpty() {
+        assertThat(tokenProvider.parseAndValidate("")).isEmpty();
     }
 
     @Test
-    void validateToken_ShouldReturnFalse_WhenTokenIsTampered() {
-        String token = tokenProvider.generateToken("user@test.com");
+    void parseAndValidate_ShouldReturnEmpty_WhenTokenIsTampered() {
+        String token = tokenProvider.generateToken(user("user@test.com"));
         // Altérer le token
         String tampered = token.substring(0, token.length() - 5) + "XXXXX";
 
-        assertThat(tokenProvider.validateToken(tampered)).isFalse();
+        assertThat(tokenProvider.parseAndValidate(tampered)).isEmpty();
+    }
+
+    @Test
+    void parseAndValidate_ShouldReturnEmpty_WhenTokenIsExpired() {
+        // Durée de validité négative : token expiré dès son émission
+        JwtTokenProvider expiredProvider = new JwtTokenProvider("test-secret-key-minimum-32-chars-long!", -60);
+        String token = expiredProvider.generateToken(user("user@test.com"));
+
+        assertThat(tokenProvider.parseAndValidate(token)).isEmpty();
+    }
+
+    // ============================================================
+    // toPrincipal
+    // Réf: JwtTokenProvider.java → toPrincipal()
+    // ============================================================
+    @Test
+    void toPrincipal_ShouldRestoreIdsRoleAndVersionFromClaims() {
+        String token = tokenProvider.generateToken(user("user@test.com"));
+
+        AuthenticatedUser principal = tokenProvider.parseAndValidate(token)
+                .flatMap(tokenProvider::toPrincipal)
+                .orElseThrow();
+
+        assertThat(principal.getUsername()).isEqualTo("user@test.com");
+        assertThat(principal.getAccountId()).isEqualTo(7);
+        assertThat(principal.getProfilId()).isEqualTo(3);
+        assertThat(principal.getTokenVersion()).isEqualTo(2);
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    void toPrincipal_ShouldLeaveProfilIdNull_WhenAccountHasNoProfil() {
+        String token = tokenProvider.generateToken(new AuthenticatedUser(7, null, "new@test.com", "hashed", "USER", "ACTIVE", 0));
+
+        assertThat(tokenProvider.parseAndValidate(token).flatMap(tokenProvider::toPrincipal))
+                .hasValueSatisfying(principal -> assertThat(principal.getProfilId()).isNull());
+    }
+
+    @Test
+    void toPrincipal_ShouldReturnEmpty_WhenTokenHasOnlySubject() {
+        // Token émis avant l'ajout des claims : reconnexion nécessaire
+        String legacy = Jwts.builder()
+                .setSubject("user@test.com")
+                .signWith(Keys.hmacShaKeyFor("test-secret-key-minimum-32-chars-long!".getBytes(StandardCharsets.UTF_8)),
+                        SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(tokenProvider.parseAndValidate(legacy).flatMap(tokenProvider::toPrincipal)).isEmpty();
+    }
+
+    @Test
+    void constructor_ShouldFailFast_WhenSecretIsTooShort() {
+        assertThatThrownBy(() -> new JwtTokenProvider("short", 900))
+                .isInstanceOf(WeakKeyException.class);
     }
-}
\ No newline at end of file
+}
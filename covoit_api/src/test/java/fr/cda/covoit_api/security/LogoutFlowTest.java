@@ -0,0 +1,180 @@
+package fr.cda.covoit_api.security;
+
+import com.jayway.jsonpath.JsonPath;
+import fr.cda.covoit_api.AbstractIntegrationTest;
+import fr.cda.covoit_api.domain.entity.Role;
+import fr.cda.covoit_api.domain.entity.Status;
+import fr.cda.covoit_api.domain.entity.User;
+import fr.cda.covoit_api.repository.RevokedTokenRepository;
+import fr.cda.covoit_api.repository.RoleRepository;
+import fr.cda.covoit_api.repository.StatusRepository;
+import fr.cda.covoit_api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Connexion puis déconnexion contre la base réelle : le token d'accès de la session est refusé aussitôt,
+ * son jeton de rafraîchissement ne s'échange plus, les autres sessions du compte restent ouvertes.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class LogoutFlowTest extends AbstractIntegrationTest {
+
+    private static final String PASSWORD = "Password@1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StatusRepository statusRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        email = "logout-" + System.nanoTime() + "@test.com";
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            User account = new User();
+            account.setEmail(email);
+            account.setPassword(passwordEncoder.encode(PASSWORD));
+            account.setStatus(statusRepository.findByLabel("ACTIVE")
+                    .orElseGet(() -> statusRepository.save(new Status(null, "ACTIVE"))));
+            account.setRole(roleRepository.findByLabel("USER")
+                    .orElseGet(() -> roleRepository.save(new Role(null, "USER"))));
+            userRepository.save(account);
+        });
+    }
+
+    /**
+     * @return la réponse de connexion (token d'accès et jeton de rafraîchissement)
+     */
+    private String login() throws Exception {
+        return mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private ResultActions callApi(String accessToken) throws Exception {
+        return mockMvc.perform(get("/api/brands").header("Authorization", "Bearer " + accessToken));
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + refreshToken + "\"}"));
+    }
+
+    // ============================================================
+    // TEST 1 : Déconnexion → token d'accès et jeton de rafraîchissement refusés, autre session intacte
+    // Réf: AuthServiceImpl.java → logout()
+    // ============================================================
+    @Test
+    void logout_ShouldRevokeSessionTokens() throws Exception {
+        // GIVEN
+        String session = login();
+        String other = login();
+        String accessToken = JsonPath.read(session, "$.token");
+        String refreshToken = JsonPath.read(session, "$.refreshToken");
+        callApi(accessToken).andExpect(status().isOk());
+
+        // WHEN
+        mockMvc.perform(post("/logout")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isOk());
+
+        // THEN
+        callApi(accessToken).andExpect(status().isForbidden());
+        refresh(refreshToken).andExpect(status().isUnauthorized());
+        callApi(JsonPath.read(other, "$.token")).andExpect(status().isOk());
+        refresh(JsonPath.read(other, "$.refreshToken")).andExpect(status().isOk());
+    }
+
+    // ============================================================
+    // TEST 2 : Déconnexion sans jeton de rafraîchissement → seul le token d'accès est révoqué
+    // Réf: AuthController.java → logout()
+    // ============================================================
+    @Test
+    void logout_ShouldRevokeAccessToken_WhenNoRefreshTokenIsGiven() throws Exception {
+        // GIVEN
+        String session = login();
+        String accessToken = JsonPath.read(session, "$.token");
+
+        // WHEN
+        mockMvc.perform(post("/logout").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        // THEN
+        callApi(accessToken).andExpect(status().isForbidden());
+    }
+
+    // ============================================================
+    // TEST 3 : Déconnexions concurrentes avec le même token → une seule révocation, aucune erreur
+    // Réf: TokenRevocationList.java → revoke()
+    // ============================================================
+    @Test
+    void revoke_ShouldBeIdempotent_WhenSameTokenIsRevokedConcurrently() {
+        // GIVEN
+        Integer accountId = userRepository.findByEmail(email).orElseThrow().getId();
+        String jti = UUID.randomUUID().toString();
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(15);
+
+        // WHEN
+        CompletableFuture.allOf(IntStream.range(0, 4)
+                        .mapToObj(i -> CompletableFuture.runAsync(() -> revocationList.revoke(jti, accountId, expiresAt)))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+
+        // THEN
+        assertThat(revokedTokenRepository.findByExpiresAtAfter(LocalDateTime.now()))
+                .filteredOn(token -> token.getJti().toString().equals(jti))
+                .hasSize(1);
+        assertThat(revocationList.isRevoked(jti)).isTrue();
+    }
+
+    @Test
+    void logout_ShouldReturn403_WhenNotAuthenticated() throws Exception {
+        mockMvc.perform(post("/logout")).andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,136 @@
+package fr.cda.covoit_api.security;
+
+import com.jayway.jsonpath.JsonPath;
+import fr.cda.covoit_api.AbstractIntegrationTest;
+import fr.cda.covoit_api.domain.entity.Role;
+import fr.cda.covoit_api.domain.entity.Status;
+import fr.cda.covoit_api.domain.entity.User;
+import fr.cda.covoit_api.repository.RoleRepository;
+import fr.cda.covoit_api.repository.StatusRepository;
+import fr.cda.covoit_api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Connexion, puis échanges successifs du jeton de rafraîchissement, contre la base réelle
+ * (verrou de ligne, révocation de famille validée malgré la réponse 401).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class RefreshTokenFlowTest extends AbstractIntegrationTest {
+
+    private static final String PASSWORD = "Password@1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StatusRepository statusRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        email = "refresh-" + System.nanoTime() + "@test.com";
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            User account = new User();
+            account.setEmail(email);
+            account.setPassword(passwordEncoder.encode(PASSWORD));
+            account.setStatus(statusRepository.findByLabel("ACTIVE")
+                    .orElseGet(() -> statusRepository.save(new Status(null, "ACTIVE"))));
+            account.setRole(roleRepository.findByLabel("USER")
+                    .orElseGet(() -> roleRepository.save(new Role(null, "USER"))));
+            userRepository.save(account);
+        });
+    }
+
+    private String login() throws Exception {
+        String body = mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.refreshToken");
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + refreshToken + "\"}"));
+    }
+
+    // ============================================================
+    // TEST 1 : Échange → nouveau token d'accès utilisable, nouveau jeton de rafraîchissement
+    // Réf: AuthController.java → refresh()
+    // ============================================================
+    @Test
+    void refresh_ShouldRotateTokens() throws Exception {
+        // GIVEN
+        String first = login();
+
+        // WHEN
+        String body = refresh(first)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value(email))
+                .andExpect(jsonPath("$.expiresIn").value(900))
+                .andReturn().getResponse().getContentAsString();
+
+        // THEN
+        String second = JsonPath.read(body, "$.refreshToken");
+        String accessToken = JsonPath.read(body, "$.token");
+        assertThat(second).isNotEqualTo(first);
+        mockMvc.perform(get("/api/brands").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+        refresh(second).andExpect(status().isOk());
+    }
+
+    // ============================================================
+    // TEST 2 : Jeton rejoué → 401 et toute la famille révoquée
+    // Réf: RefreshTokenServiceImpl.java → rotate() @Transactional(noRollbackFor)
+    // ============================================================
+    @Test
+    void refresh_ShouldRevokeFamily_WhenTokenIsReused() throws Exception {
+        // GIVEN
+        String first = login();
+        String second = JsonPath.read(refresh(first).andReturn().getResponse().getContentAsString(), "$.refreshToken");
+
+        // WHEN
+        refresh(first).andExpect(status().isUnauthorized());
+
+        // THEN : le jeton légitime de la même famille est révoqué, une autre session ne l'est pas
+        refresh(second).andExpect(status().isUnauthorized());
+        refresh(login()).andExpect(status().isOk());
+    }
+
+    @Test
+    void refresh_ShouldReturn401_WhenTokenIsUnknown() throws Exception {
+        refresh("unknown-token").andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,117 @@
+package fr.cda.covoit_api.security;
+
+import fr.cda.covoit_api.domain.entity.RevokedToken;
+import fr.cda.covoit_api.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationListTest {
+
+    private RevokedTokenRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RevokedTokenRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        revocationList = new TokenRevocationList(repository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry, 100, 0.01, 60);
+        revocationList.rebuild();
+    }
+
+    private static RevokedToken revoked(UUID jti, LocalDateTime expiresAt) {
+        return new RevokedToken(null, jti, 1, expiresAt, LocalDateTime.now());
+    }
+
+    // ============================================================
+    // TEST 1 : Révocation locale → enregistrée en base et visible immédiatement
+    // Réf: TokenRevocationList.java → revoke()
+    // ============================================================
+    @Test
+    void revoke_ShouldPersistAndRejectTokenImmediately() {
+        UUID jti = UUID.randomUUID();
+
+        revocationList.revoke(jti.toString(), 1, LocalDateTime.now().plusMinutes(15));
+
+        assertThat(revocationList.isRevoked(jti.toString())).isTrue();
+        assertThat(revocationList.isRevoked(UUID.randomUUID().toString())).isFalse();
+        verify(repository).insertIfAbsent(eq(jti), eq(1), any(), any());
+        assertThat(meterRegistry.get("covoit.security.revoked-tokens").gauge().value()).isEqualTo(1);
+    }
+
+    // ============================================================
+    // TEST 2 : Révocation faite par une autre instance → visible après relecture
+    // Réf: TokenRevocationList.java → refresh()
+    // ============================================================
+    @Test
+    void refresh_ShouldPickUpRevocationsFromOtherInstances() {
+        UUID jti = UUID.randomUUID();
+        when(repository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(any(), any()))
+                .thenReturn(List.of(revoked(jti, LocalDateTime.now().plusMinutes(15))));
+
+        assertThat(revocationList.isRevoked(jti.toString())).isFalse();
+        revocationList.refresh();
+
+        assertThat(revocationList.isRevoked(jti.toString())).isTrue();
+    }
+
+    // ============================================================
+    // TEST 3 : Reconstruction → révocations expirées purgées et retirées de la copie locale
+    // Réf: TokenRevocationList.java → rebuild()
+    // ============================================================
+    @Test
+    void rebuild_ShouldDropExpiredRevocations() {
+        UUID expired = UUID.randomUUID();
+        UUID active = UUID.randomUUID();
+        revocationList.revoke(expired.toString(), 1, LocalDateTime.now().minusSeconds(1));
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of(revoked(active, LocalDateTime.now().plusMinutes(15))));
+
+        revocationList.rebuild();
+
+        assertThat(revocationList.isRevoked(expired.toString())).isFalse();
+        assertThat(revocationList.isRevoked(active.toString())).isTrue();
+        verify(repository, times(2)).deleteExpired(any());
+    }
+
+    // ============================================================
+    // TEST 4 : Liste au-delà de sa capacité → filtre reconstruit, aucun token révoqué perdu
+    // Réf: TokenRevocationList.java → refresh()
+    // ============================================================
+    @Test
+    void refresh_ShouldRebuild_WhenCapacityIsExceeded() {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(15);
+        List<RevokedToken> tokens = Stream.generate(() -> revoked(UUID.randomUUID(), expiresAt))
+                .limit(150)
+                .toList();
+        when(repository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(any(), any())).thenReturn(tokens);
+        when(repository.findByExpiresAtAfter(any())).thenReturn(tokens);
+
+        revocationList.refresh();
+
+        verify(repository, times(2)).findByExpiresAtAfter(any());
+        assertThat(tokens).allMatch(token -> revocationList.isRevoked(token.getJti().toString()));
+    }
+
+    // ============================================================
+    // TEST 5 : Identifiant absent ou mal formé → token refusé
+    // Réf: TokenRevocationList.java → isRevoked()
+    // ============================================================
+    @Test
+    void isRevoked_ShouldReturnTrue_WhenIdIsMissingOrMalformed() {
+        assertThat(revocationList.isRevoked(null)).isTrue();
+        assertThat(revocationList.isRevoked("not-a-uuid")).isTrue();
+    }
+}
@@ -5,22 +5,33 @@ import fr.cda.covoit_api.domain.entity.Status;
 import fr.cda.covoit_api.domain.entity.User;
 import fr.cda.covoit_api.dto.request.RegisterRequest;
 import fr.cda.covoit_api.dto.response.AuthResponse;
-import fr.cda.covoit_api.repository.RoleRepository;
-import fr.cda.covoit_api.repository.StatusRepository;
+import fr.cda.covoit_api.exception.BusinessException;
 import fr.cda.covoit_api.repository.UserRepository;
+import fr.cda.covoit_api.security.AuthenticatedUser;
 import fr.cda.covoit_api.security.JwtTokenProvider;
+import fr.cda.covoit_api.security.PrincipalCache;
+import fr.cda.covoit_api.security.TokenRevocationList;
 import fr.cda.covoit_api.service.impl.AuthServiceImpl;
+import fr.cda.covoit_api.service.interfaces.ICatalogService;
+import fr.cda.covoit_api.service.interfaces.IRefreshTokenService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,15 +45,19 @@ class AuthServiceImplTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private RoleRepository roleRepository;
-    @Mock
-    private StatusRepository statusRepository;
+    private ICatalogService catalogService;
     @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
     private JwtTokenProvider tokenProvider;
     @Mock
     private AuthenticationManager authenticationManager;
+    @Mock
+    private PrincipalCache principalCache;
+    @Mock
+    private IRefreshTokenService refreshTokenService;
+    @Mock
+    private TokenRevocationList revocationList;
 
     @InjectMocks
     private AuthServiceImpl authService;
@@ -73,10 +88,11 @@ class AuthServiceImplTest {
         request.setPassword("password123");
 
         when(userRepository.existsByEmail("new@test.com")).thenReturn(false);
-        when(roleRepository.findByLabel("USER")).thenReturn(Optional.of(roleUser));
-        when(statusRepository.findByLabel("ACTIVE")).thenReturn(Optional.of(activeStatus));
+        when(catalogService.findRole("USER")).thenReturn(Optional.of(roleUser));
+        when(catalogService.findStatus("ACTIVE")).thenReturn(Optional.of(activeStatus));
         when(passwordEncoder.encode("password123")).thenReturn("hashed_password");
-        when(tokenProvider.generateToken("new@test.com")).thenReturn("jwt-token-123");
+        when(tokenProvider.generateToken(any(AuthenticatedUser.class))).thenReturn("jwt-token-123");
+        when(refreshTokenService.issue(any(AuthenticatedUser.class))).thenReturn("refresh-123");
         when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArgument(0));
 
         // WHEN
@@ -85,6 +101,7 @@ class AuthServiceImplTest {
         // THEN
         assertThat(response).isNotNull();
         assertThat(response.getToken()).isEqualTo("jwt-token-123");
+        assertThat(response.getRefreshToken()).isEqualTo("refresh-123");
         assertThat(response.getEmail()).isEqualTo("new@test.com");
         assertThat(response.getRole()).isEqualTo("USER");
         verify(userRepository).save(any(User.class));
@@ -124,7 +141,7 @@ class AuthServiceImplTest {
 
         when(userRepository.existsByEmail("new@test.com")).thenReturn(false);
         when(passwordEncoder.encode("password123")).thenReturn("hashed_password");
-        when(roleRepository.findByLabel("USER")).thenReturn(Optional.empty());
+        when(catalogService.findRole("USER")).thenReturn(Optional.empty());
 
         // WHEN & THEN
         assertThatThrownBy(() -> authService.register(request))
@@ -145,8 +162,8 @@ class AuthServiceImplTest {
 
         when(userRepository.existsByEmail("new@test.com")).thenReturn(false);
         when(passwordEncoder.encode("password123")).thenReturn("hashed_password");
-        when(roleRepository.findByLabel("USER")).thenReturn(Optional.of(roleUser));
-        when(statusRepository.findByLabel("ACTIVE")).thenReturn(Optional.empty());
+        when(catalogService.findRole("USER")).thenReturn(Optional.of(roleUser));
+        when(catalogService.findStatus("ACTIVE")).thenReturn(Optional.empty());
 
         // WHEN & THEN
         assertThatThrownBy(() -> authService.register(request))
@@ -161,15 +178,13 @@ class AuthServiceImplTest {
     @Test
     void login_ShouldReturnAuthResponse_WhenCredentialsValid() {
         // GIVEN
-        User user = new User();
-        user.setEmail("user@test.com");
-        user.setPassword("hashed_password");
-        user.setRole(roleUser);
+        AuthenticatedUser user = new AuthenticatedUser(10, 1, "user@test.com", "hashed_password", "USER", "ACTIVE", 0);
 
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(new UsernamePasswordAuthenticationToken("user@test.com", null));
-        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
-        when(tokenProvider.generateToken("user@test.com")).thenReturn("jwt-token-456");
+                .thenReturn(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        when(tokenProvider.generateToken(user)).thenReturn("jwt-token-456");
+        when(tokenProvider.getExpirationSeconds()).thenReturn(900L);
+        when(refreshTokenService.issue(user)).thenReturn("refresh-456");
 
         // WHEN
         AuthResponse response = authService.login("user@test.com", "password123");
@@ -177,9 +192,12 @@ class AuthServiceImplTest {
         // THEN
         assertThat(response).isNotNull();
         assertThat(response.getToken()).isEqualTo("jwt-token-456");
+        assertThat(response.getExpiresIn()).isEqualTo(900);
+        assertThat(response.getRefreshToken()).isEqualTo("refresh-456");
         assertThat(response.getEmail()).isEqualTo("user@test.com");
         assertThat(response.getRole()).isEqualTo("USER");
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
+        verifyNoInteractions(userRepository);
     }
 
     // ============================================================
@@ -198,19 +216,93 @@ class AuthServiceImplTest {
     }
 
     // ============================================================
-    // login - Utilisateur non trouvé après authentification
-    // Réf: AuthServiceImpl.java → login() ligne "Utilisateur non trouvé"
+    // refresh - Échange d'un jeton de rafraîchissement
+    // Réf: AuthServiceImpl.java → refresh()
     // ============================================================
     @Test
-    void login_ShouldThrowException_WhenUserNotFoundAfterAuth() {
+    void refresh_ShouldReturnNewTokens_ForRotatedUser() {
         // GIVEN
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(new UsernamePasswordAuthenticationToken("ghost@test.com", null));
-        when(userRepository.findByEmail("ghost@test.com")).thenReturn(Optional.empty());
+        AuthenticatedUser user = new AuthenticatedUser(10, 1, "user@test.com", "hashed_password", "ADMIN", "ACTIVE", 3);
+        when(refreshTokenService.rotate("refresh-old")).thenReturn(new IRefreshTokenService.Rotation(user, "refresh-new"));
+        when(tokenProvider.generateToken(user)).thenReturn("jwt-token-789");
+
+        // WHEN
+        AuthResponse response = authService.refresh("refresh-old");
+
+        // THEN
+        assertThat(response.getToken()).isEqualTo("jwt-token-789");
+        assertThat(response.getRefreshToken()).isEqualTo("refresh-new");
+        assertThat(response.getRole()).isEqualTo("ADMIN");
+        verifyNoInteractions(authenticationManager, userRepository);
+    }
+
+    @Test
+    void refresh_ShouldPropagateRejection() {
+        // GIVEN
+        when(refreshTokenService.rotate("refresh-reused"))
+                .thenThrow(new BusinessException("Jeton de rafraîchissement invalide", HttpStatus.UNAUTHORIZED));
 
         // WHEN & THEN
-        assertThatThrownBy(() -> authService.login("ghost@test.com", "password123"))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("Utilisateur non trouvé");
+        assertThatThrownBy(() -> authService.refresh("refresh-reused"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("invalide");
+        verify(tokenProvider, never()).generateToken(any());
+    }
+
+    // ============================================================
+    // logout - Révocation du token d'accès et du jeton de rafraîchissement de la session
+    // Réf: AuthServiceImpl.java → logout()
+    // ============================================================
+    @Test
+    void logout_ShouldRevokeAccessAndRefreshTokens() {
+        // GIVEN
+        AuthenticatedUser user = new AuthenticatedUser(10, 1, "user@test.com", null, "USER", null, 0);
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(15).withNano(0);
+        Claims claims = Jwts.claims().setId("3f1c1d2e-8a4b-4c7d-9e0f-123456789abc");
+        claims.setExpiration(Date.from(expiresAt.atZone(ZoneId.systemDefault()).toInstant()));
+        when(tokenProvider.parseAndValidate("jwt-token")).thenReturn(Optional.of(claims));
+        when(tokenProvider.toPrincipal(claims)).thenReturn(Optional.of(user));
+
+        // WHEN
+        authService.logout("jwt-token", "refresh-token");
+
+        // THEN
+        verify(revocationList).revoke("3f1c1d2e-8a4b-4c7d-9e0f-123456789abc", 10, expiresAt);
+        verify(refreshTokenService).revoke("refresh-token", 10);
+    }
+
+    @Test
+    void logout_ShouldThrow_WhenAccessTokenIsInvalid() {
+        // GIVEN
+        when(tokenProvider.parseAndValidate("invalid")).thenReturn(Optional.empty());
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> authService.logout("invalid", null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("invalide");
+        verifyNoInteractions(revocationList, refreshTokenService);
+    }
+
+    // ============================================================
+    // resetPassword - Nouveau mot de passe → utilisateur retiré du cache
+    // Réf: AuthServiceImpl.java → resetPassword()
+    // ============================================================
+    @Test
+    void resetPassword_ShouldEvictCachedPrincipal() {
+        // GIVEN
+        User user = new User();
+        user.setId(10);
+        user.setEmail("user@test.com");
+        user.setResetPasswordToken("reset-token");
+        user.setResetPasswordExpiresAt(LocalDate.now().plusDays(1));
+        when(userRepository.findByResetPasswordToken("reset-token")).thenReturn(Optional.of(user));
+        when(passwordEncoder.encode("NewPassword@1")).thenReturn("encoded");
+
+        // WHEN
+        authService.resetPassword("reset-token", "NewPassword@1");
+
+        // THEN
+        assertThat(user.getPassword()).isEqualTo("encoded");
+        verify(principalCache).evict(10);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,218 @@
+package fr.cda.covoit_api.service;
+
+import fr.cda.covoit_api.domain.entity.*;
+import fr.cda.covoit_api.dto.request.BrandRequest;
+import fr.cda.covoit_api.dto.request.ModelRequest;
+import fr.cda.covoit_api.dto.response.BrandResponse;
+import fr.cda.covoit_api.dto.response.ModelResponse;
+import fr.cda.covoit_api.exception.BusinessException;
+import fr.cda.covoit_api.mapper.EntityMapper;
+import fr.cda.covoit_api.repository.*;
+import fr.cda.covoit_api.service.impl.CatalogServiceImpl;
+import fr.cda.covoit_api.service.interfaces.ICatalogService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogServiceImplTest {
+
+    @Mock
+    private BrandRepository brandRepository;
+    @Mock
+    private ModelRepository modelRepository;
+    @Mock
+    private IconRepository iconRepository;
+    @Mock
+    private RoleRepository roleRepository;
+    @Mock
+    private StatusRepository statusRepository;
+
+    private CatalogServiceImpl catalogService;
+
+    private Brand renault;
+    private Model clio;
+
+    @BeforeEach
+    void setUp() {
+        catalogService = new CatalogServiceImpl(brandRepository, modelRepository, iconRepository,
+                roleRepository, statusRepository, new EntityMapper(), new SimpleMeterRegistry(), Runnable::run, 300);
+
+        renault = new Brand(1, "Renault", null);
+        clio = new Model(10, "Clio", renault);
+    }
+
+    private void givenCatalog(List<Brand> brands, List<Model> models) {
+        when(brandRepository.findAll(any(Sort.class))).thenReturn(brands);
+        when(modelRepository.findAllWithBrand()).thenReturn(models);
+        when(iconRepository.findAll()).thenReturn(List.of(new Icon(2, "Non-fumeur")));
+        when(roleRepository.findAll()).thenReturn(List.of(new Role(1, "USER")));
+        when(statusRepository.findAll()).thenReturn(List.of(new Status(1, "ACTIVE")));
+    }
+
+    // ============================================================
+    // Lectures - servies depuis l'instantané en mémoire
+    // Réf: CatalogServiceImpl.java → snapshot() / load()
+    // ============================================================
+    @Test
+    void reads_ShouldLoadCatalogOnce() {
+        // GIVEN
+        givenCatalog(List.of(renault), List.of(clio));
+
+        // WHEN
+        catalogService.getBrands();
+        catalogService.getModels();
+        catalogService.findIcon(2);
+        catalogService.findRole("USER");
+        catalogService.findStatus("ACTIVE");
+
+        // THEN
+        verify(brandRepository, times(1)).findAll(any(Sort.class));
+        verify(modelRepository, times(1)).findAllWithBrand();
+        verify(iconRepository, times(1)).findAll();
+        verifyNoMoreInteractions(brandRepository, modelRepository, iconRepository);
+    }
+
+    @Test
+    void getModelsByBrand_ShouldGroupModelsAndReturnEmptyListForUnknownBrand() {
+        // GIVEN
+        Brand peugeot = new Brand(2, "Peugeot", null);
+        givenCatalog(List.of(renault, peugeot), List.of(clio, new Model(11, "308", peugeot)));
+
+        // WHEN
+        ICatalogService.Listing<ModelResponse> renaultModels = catalogService.getModelsByBrand(1);
+        ICatalogService.Listing<ModelResponse> unknown = catalogService.getModelsByBrand(99);
+
+        // THEN
+        assertThat(renaultModels.items()).extracting(ModelResponse::getLabel).containsExactly("Clio");
+        assertThat(renaultModels.items().get(0).getBrandLabel()).isEqualTo("Renault");
+        assertThat(unknown.items()).isEmpty();
+        assertThat(unknown.etag()).isNotEqualTo(renaultModels.etag());
+    }
+
+    @Test
+    void findReferences_ShouldReturnDetachedCopies() {
+        // GIVEN
+        givenCatalog(List.of(renault), List.of(clio));
+
+        // WHEN
+        Optional<Model> model = catalogService.findModel(10);
+
+        // THEN
+        assertThat(model).isPresent();
+        assertThat(model.get()).isNotSameAs(clio);
+        assertThat(model.get().getBrand().getLabel()).isEqualTo("Renault");
+        assertThat(catalogService.findIcon(2)).map(Icon::getLabel).contains("Non-fumeur");
+        assertThat(catalogService.findIcon(3)).isEmpty();
+        assertThat(catalogService.findRole("ADMIN")).isEmpty();
+    }
+
+    // ============================================================
+    // ETag - empreinte du contenu
+    // Réf: CatalogServiceImpl.java → listing()
+    // ============================================================
+    @Test
+    void etag_ShouldOnlyChangeWithContent() {
+        // GIVEN
+        givenCatalog(List.of(renault), List.of(clio));
+        String before = catalogService.getBrands().etag();
+
+        // WHEN : rechargement sans changement, puis marque renommée
+        when(brandRepository.findById(1)).thenReturn(Optional.of(renault));
+        when(brandRepository.save(renault)).thenReturn(renault);
+        BrandRequest same = new BrandRequest();
+        same.setLabel("Renault");
+        catalogService.updateBrand(1, same);
+        String reloaded = catalogService.getBrands().etag();
+
+        when(brandRepository.findAll(any(Sort.class))).thenReturn(List.of(new Brand(1, "Renault Group", null)));
+        catalogService.updateBrand(1, same);
+        String renamed = catalogService.getBrands().etag();
+
+        // THEN
+        assertThat(reloaded).isEqualTo(before);
+        assertThat(renamed).isNotEqualTo(before);
+    }
+
+    // ============================================================
+    // Écritures - invalidation de l'instantané
+    // Réf: CatalogServiceImpl.java → invalidate()
+    // ============================================================
+    @Test
+    void createBrand_ShouldInvalidateCatalog() {
+        // GIVEN
+        givenCatalog(List.of(renault), List.of(clio));
+        catalogService.getBrands();
+        BrandRequest request = new BrandRequest();
+        request.setLabel("Peugeot");
+        when(brandRepository.findByLabel("Peugeot")).thenReturn(Optional.empty());
+        when(brandRepository.save(any(Brand.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(brandRepository.findAll(any(Sort.class))).thenReturn(List.of(renault, new Brand(2, "Peugeot", null)));
+
+        // WHEN
+        catalogService.createBrand(request);
+        List<BrandResponse> brands = catalogService.getBrands().items();
+
+        // THEN
+        assertThat(brands).extracting(BrandResponse::getLabel).containsExactly("Renault", "Peugeot");
+        verify(brandRepository, times(2)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void createBrand_ShouldThrowConflict_WhenLabelExists() {
+        // GIVEN
+        BrandRequest request = new BrandRequest();
+        request.setLabel("Renault");
+        when(brandRepository.findByLabel("Renault")).thenReturn(Optional.of(renault));
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> catalogService.createBrand(request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("existe déjà");
+        verify(brandRepository, never()).save(any());
+    }
+
+    @Test
+    void updateModel_ShouldThrowNotFound_WhenBrandMissing() {
+        // GIVEN
+        ModelRequest request = new ModelRequest();
+        request.setLabel("Clio");
+        request.setBrandId(99);
+        when(modelRepository.findById(10)).thenReturn(Optional.of(clio));
+        when(brandRepository.findById(99)).thenReturn(Optional.empty());
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> catalogService.updateModel(10, request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Marque non trouvée");
+        verify(modelRepository, never()).save(any());
+    }
+
+    @Test
+    void deleteModel_ShouldInvalidateCatalog() {
+        // GIVEN
+        givenCatalog(List.of(renault), List.of(clio));
+        catalogService.getModels();
+        when(modelRepository.existsById(10)).thenReturn(true);
+
+        // WHEN
+        catalogService.deleteModel(10);
+        catalogService.getModels();
+
+        // THEN
+        verify(modelRepository).deleteById(10);
+        verify(modelRepository, times(2)).findAllWithBrand();
+    }
+}
@@ -0,0 +1,132 @@
+package fr.cda.covoit_api.service;
+
+import fr.cda.covoit_api.service.email.BrevoEmailClient;
+import fr.cda.covoit_api.service.email.EmailDispatcher;
+import fr.cda.covoit_api.service.email.EmailMessage;
+import fr.cda.covoit_api.service.impl.EmailServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailServiceImplTest {
+
+    @Mock
+    private BrevoEmailClient brevoClient;
+    @Mock
+    private EmailDispatcher dispatcher;
+
+    @InjectMocks
+    private EmailServiceImpl emailService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // ============================================================
+    // TEST 1 : Hors transaction → mise en file immédiate
+    // Réf: EmailServiceImpl.java → sendSimpleMessage()
+    // ============================================================
+    @Test
+    void sendSimpleMessage_WithoutTransaction_ShouldEnqueueImmediately() {
+        when(brevoClient.isConfigured()).thenReturn(true);
+
+        emailService.sendSimpleMessage("user@test.com", "Sujet", "Contenu");
+
+        verify(dispatcher).enqueue(new EmailMessage("user@test.com", "Sujet", "Contenu"));
+    }
+
+    // ============================================================
+    // TEST 2 : Dans une transaction → mise en file après le commit uniquement
+    // Réf: EmailServiceImpl.java → afterCommit()
+    // ============================================================
+    @Test
+    void sendSimpleMessage_InTransaction_ShouldEnqueueAfterCommit() {
+        // GIVEN
+        when(brevoClient.isConfigured()).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // WHEN
+        emailService.sendSimpleMessage("user@test.com", "Sujet", "Contenu");
+
+        // THEN
+        verify(dispatcher, never()).enqueue(any());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(dispatcher).enqueue(new EmailMessage("user@test.com", "Sujet", "Contenu"));
+    }
+
+    // ============================================================
+    // TEST 3 : Rollback → aucun email
+    // Réf: EmailServiceImpl.java → afterCommit()
+    // ============================================================
+    @Test
+    void sendSimpleMessage_OnRollback_ShouldNotEnqueue() {
+        // GIVEN
+        when(brevoClient.isConfigured()).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // WHEN
+        emailService.sendSimpleMessage("user@test.com", "Sujet", "Contenu");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // THEN
+        verify(dispatcher, never()).enqueue(any());
+    }
+
+    // ============================================================
+    // TEST 4 : Clé Brevo absente → rien n'est mis en file
+    // Réf: EmailServiceImpl.java → sendSimpleMessage()
+    // ============================================================
+    @Test
+    void sendSimpleMessage_WithoutApiKey_ShouldSkip() {
+        when(brevoClient.isConfigured()).thenReturn(false);
+
+        emailService.sendSimpleMessage("user@test.com", "Sujet", "Contenu");
+
+        verifyNoInteractions(dispatcher);
+    }
+
+    // ============================================================
+    // TEST 5 : Envoi immédiat → appel Brevo dans le thread appelant, sans passer par la file
+    // Réf: EmailServiceImpl.java → sendNow()
+    // ============================================================
+    @Test
+    void sendNow_ShouldCallBrevoDirectly() {
+        when(brevoClient.isConfigured()).thenReturn(true);
+
+        emailService.sendNow("user@test.com", "Sujet", "Contenu");
+
+        verify(brevoClient).sendBatch(List.of(new EmailMessage("user@test.com", "Sujet", "Contenu")));
+        verifyNoInteractions(dispatcher);
+    }
+
+    // ============================================================
+    // TEST 6 : Échec Brevo → propagé à l'appelant
+    // Réf: EmailServiceImpl.java → sendNow()
+    // ============================================================
+    @Test
+    void sendNow_ShouldPropagateBrevoFailure() {
+        when(brevoClient.isConfigured()).thenReturn(true);
+        doThrow(new ResourceAccessException("Brevo injoignable")).when(brevoClient).sendBatch(anyList());
+
+        assertThatThrownBy(() -> emailService.sendNow("user@test.com", "Sujet", "Contenu"))
+                .isInstanceOf(ResourceAccessException.class);
+    }
+}
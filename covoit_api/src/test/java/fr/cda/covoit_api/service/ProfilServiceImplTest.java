@@ -2,10 +2,12 @@ package fr.cda.covoit_api.service;
 
 import fr.cda.covoit_api.domain.entity.*;
 import fr.cda.covoit_api.dto.request.ProfilRequest;
+import fr.cda.covoit_api.dto.request.RouteCursor;
+import fr.cda.covoit_api.dto.response.CursorPageResponse;
 import fr.cda.covoit_api.dto.response.RouteResponse;
 import fr.cda.covoit_api.exception.BusinessException;
-import fr.cda.covoit_api.mapper.EntityMapper;
 import fr.cda.covoit_api.repository.*;
+import fr.cda.covoit_api.security.PrincipalCache;
 import fr.cda.covoit_api.service.impl.ProfilServiceImpl;
 import fr.cda.covoit_api.service.interfaces.IRouteService;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,8 +17,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,13 +37,9 @@ class ProfilServiceImplTest {
     @Mock
     private VehicleRepository vehicleRepository;
     @Mock
-    private RouteRepository routeRepository;
-    @Mock
-    private UserRouteRepository userRouteRepository;
-    @Mock
     private IRouteService routeService;
     @Mock
-    private EntityMapper entityMapper;
+    private PrincipalCache principalCache;
 
     @InjectMocks
     private ProfilServiceImpl profilService;
@@ -52,6 +51,7 @@ class ProfilServiceImplTest {
     @BeforeEach
     void setUp() {
         user = new User();
+        user.setId(10);
         user.setEmail("user@test.com");
 
         profil = new Profil();
@@ -79,23 +79,25 @@ class ProfilServiceImplTest {
         dto.setLastname("Dupont");
         dto.setPhone("0612345678");
 
-        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+        when(userRepository.findById(10)).thenReturn(Optional.of(user));
         when(profilRepository.save(any(Profil.class))).thenAnswer(i -> i.getArgument(0));
 
-        Profil result = profilService.createProfil(dto, "user@test.com");
+        Profil result = profilService.createProfil(dto, 10);
 
         assertThat(result).isNotNull();
         assertThat(result.getFirstname()).isEqualTo("Jean");
         verify(profilRepository).save(any(Profil.class));
+        // L'état du compte en cache doit être rechargé pour porter l'identifiant du nouveau profil
+        verify(principalCache).evict(10);
     }
 
     @Test
     void createProfil_ShouldThrow_WhenUserNotFound() {
         ProfilRequest dto = new ProfilRequest();
-        String email = "unknown@test.com";
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
+        Integer accountId = 99;
+        when(userRepository.findById(accountId)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> profilService.createProfil(dto, email))
+        assertThatThrownBy(() -> profilService.createProfil(dto, accountId))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Compte non trouvé");
     }
@@ -143,29 +145,6 @@ class ProfilServiceImplTest {
                 .hasMessageContaining("Profil non trouvé");
     }
 
-    // ============================================================
-    // getProfilByEmail
-    // Réf: ProfilServiceImpl.java → getProfilByEmail()
-    // ============================================================
-    @Test
-    void getProfilByEmail_ShouldReturnProfil() {
-        when(profilRepository.findByUserEmail("user@test.com")).thenReturn(Optional.of(profil));
-
-        Profil result = profilService.getProfilByEmail("user@test.com");
-
-        assertThat(result).isEqualTo(profil);
-    }
-
-    @Test
-    void getProfilByEmail_ShouldThrow_WhenNotFound() {
-        String email = "unknown@test.com";
-        when(profilRepository.findByUserEmail(email)).thenReturn(Optional.empty());
-
-        assertThatThrownBy(() -> profilService.getProfilByEmail(email))
-                .isInstanceOf(BusinessException.class)
-                .hasMessageContaining("Profil non trouvé");
-    }
-
     // ============================================================
     // updateProfil
     // Réf: ProfilServiceImpl.java → updateProfil()
@@ -180,7 +159,7 @@ class ProfilServiceImplTest {
         when(profilRepository.findById(1)).thenReturn(Optional.of(profil));
         when(profilRepository.save(any(Profil.class))).thenAnswer(i -> i.getArgument(0));
 
-        Profil result = profilService.updateProfil(1, dto, "user@test.com");
+        Profil result = profilService.updateProfil(1, dto, 1);
 
         assertThat(result.getFirstname()).isEqualTo("Pierre");
         assertThat(result.getLastname()).isEqualTo("Martin");
@@ -191,10 +170,10 @@ class ProfilServiceImplTest {
     void updateProfil_ShouldThrow_WhenNotOwner() {
         ProfilRequest dto = new ProfilRequest();
         Integer id = 1;
-        String email = "other@test.com";
+        Integer requestorProfilId = 2;
         when(profilRepository.findById(id)).thenReturn(Optional.of(profil));
 
-        assertThatThrownBy(() -> profilService.updateProfil(id, dto, email))
+        assertThatThrownBy(() -> profilService.updateProfil(id, dto, requestorProfilId))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Action non autorisée");
     }
@@ -203,10 +182,10 @@ class ProfilServiceImplTest {
     void updateProfil_ShouldThrow_WhenProfilNotFound() {
         ProfilRequest dto = new ProfilRequest();
         Integer id = 999;
-        String email = "user@test.com";
+        Integer requestorProfilId = 1;
         when(profilRepository.findById(id)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> profilService.updateProfil(id, dto, email))
+        assertThatThrownBy(() -> profilService.updateProfil(id, dto, requestorProfilId))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Profil non trouvé");
     }
@@ -219,41 +198,42 @@ class ProfilServiceImplTest {
     void deleteProfil_ShouldDeleteUser() {
         when(profilRepository.findById(1)).thenReturn(Optional.of(profil));
 
-        profilService.deleteProfil(1, "user@test.com");
+        profilService.deleteProfil(1, 1);
 
         verify(userRepository).delete(user);
+        verify(principalCache).evict(10);
     }
 
     @Test
     void deleteProfil_ShouldThrow_WhenNotOwner() {
         Integer id = 1;
-        String email = "other@test.com";
+        Integer requestorProfilId = 2;
         when(profilRepository.findById(id)).thenReturn(Optional.of(profil));
 
-        assertThatThrownBy(() -> profilService.deleteProfil(id, email))
+        assertThatThrownBy(() -> profilService.deleteProfil(id, requestorProfilId))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Non autorisé");
     }
 
     // ============================================================
-    // getVehicleByEmail
-    // Réf: ProfilServiceImpl.java → getVehicleByEmail()
+    // getVehicleByOwner
+    // Réf: ProfilServiceImpl.java → getVehicleByOwner()
     // ============================================================
     @Test
-    void getVehicleByEmail_ShouldReturnVehicle() {
-        when(vehicleRepository.findByOwnerUserEmail("user@test.com")).thenReturn(Optional.of(vehicle));
+    void getVehicleByOwner_ShouldReturnVehicle() {
+        when(vehicleRepository.findByOwnerId(1)).thenReturn(Optional.of(vehicle));
 
-        Vehicle result = profilService.getVehicleByEmail("user@test.com");
+        Vehicle result = profilService.getVehicleByOwner(1);
 
         assertThat(result).isEqualTo(vehicle);
     }
 
     @Test
-    void getVehicleByEmail_ShouldThrow_WhenNotFound() {
-        String email = "user@test.com";
-        when(vehicleRepository.findByOwnerUserEmail(email)).thenReturn(Optional.empty());
+    void getVehicleByOwner_ShouldThrow_WhenNotFound() {
+        Integer profilId = 1;
+        when(vehicleRepository.findByOwnerId(profilId)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> profilService.getVehicleByEmail(email))
+        assertThatThrownBy(() -> profilService.getVehicleByOwner(profilId))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Aucun véhicule trouvé");
     }
@@ -273,7 +253,7 @@ class ProfilServiceImplTest {
         when(vehicleRepository.findById(1)).thenReturn(Optional.of(vehicle));
         when(vehicleRepository.save(any(Vehicle.class))).thenAnswer(i -> i.getArgument(0));
 
-        Vehicle result = profilService.updateVehicle(1, details, "user@test.com");
+        Vehicle result = profilService.updateVehicle(1, details, 1);
 
         assertThat(result.getSeats()).isEqualTo((short) 4);
         assertThat(result.getCarregistration()).isEqualTo("XY-999-ZZ");
@@ -284,10 +264,10 @@ class ProfilServiceImplTest {
     void updateVehicle_ShouldThrow_WhenNotOwner() {
         Vehicle details = new Vehicle();
         Integer id = 1;
-        String email = "other@test.com";
+        Integer requestorProfilId = 2;
         when(vehicleRepository.findById(id)).thenReturn(Optional.of(vehicle));
 
-        assertThatThrownBy(() -> profilService.updateVehicle(id, details, email))
+        assertThatThrownBy(() -> profilService.updateVehicle(id, details, requestorProfilId))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("pas autorisé");
     }
@@ -296,10 +276,10 @@ class ProfilServiceImplTest {
     void updateVehicle_ShouldThrow_WhenVehicleNotFound() {
         Vehicle details = new Vehicle();
         Integer id = 999;
-        String email = "user@test.com";
+        Integer requestorProfilId = 1;
         when(vehicleRepository.findById(id)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> profilService.updateVehicle(id, details, email))
+        assertThatThrownBy(() -> profilService.updateVehicle(id, details, requestorProfilId))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Véhicule introuvable");
     }
@@ -312,7 +292,7 @@ class ProfilServiceImplTest {
     void deleteVehicle_ShouldDelete() {
         when(vehicleRepository.findById(1)).thenReturn(Optional.of(vehicle));
 
-        profilService.deleteVehicle(1, "user@test.com");
+        profilService.deleteVehicle(1, 1);
 
         verify(vehicleRepository).delete(vehicle);
     }
@@ -320,10 +300,10 @@ class ProfilServiceImplTest {
     @Test
     void deleteVehicle_ShouldThrow_WhenNotOwner() {
         Integer id = 1;
-        String email = "other@test.com";
+        Integer requestorProfilId = 2;
         when(vehicleRepository.findById(id)).thenReturn(Optional.of(vehicle));
 
-        assertThatThrownBy(() -> profilService.deleteVehicle(id, email))
+        assertThatThrownBy(() -> profilService.deleteVehicle(id, requestorProfilId))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Action interdite");
     }
@@ -333,21 +313,16 @@ class ProfilServiceImplTest {
     // Réf: ProfilServiceImpl.java → getDriverTrips()
     // ============================================================
     @Test
-    void getDriverTrips_ShouldReturnRouteResponses() {
-        Route route = new Route();
-        route.setId(1);
-        Location paris = new Location();
-        Location lyon = new Location();
-        RouteResponse response = new RouteResponse();
+    void getDriverTrips_ShouldReturnPageFromRouteService() {
+        CursorPageResponse<RouteResponse> page = new CursorPageResponse<>(List.of(new RouteResponse()), null);
 
         when(profilRepository.existsById(1)).thenReturn(true);
-        when(routeRepository.findByDriverId(1)).thenReturn(List.of(route));
-        when(routeService.getLocationsForRoute(1)).thenReturn(Map.of("starting", paris, "arrival", lyon));
-        when(entityMapper.toRouteResponse(route, paris, lyon)).thenReturn(response);
+        when(routeService.getDriverTrips(1, null, 20)).thenReturn(page);
 
-        List<RouteResponse> results = profilService.getDriverTrips(1);
+        CursorPageResponse<RouteResponse> results = profilService.getDriverTrips(1, null, 20);
 
-        assertThat(results).hasSize(1);
+        assertThat(results.getContent()).hasSize(1);
+        verify(routeService, never()).getLocationsForRoute(any());
     }
 
     @Test
@@ -355,7 +330,7 @@ class ProfilServiceImplTest {
         Integer profilId = 999;
         when(profilRepository.existsById(profilId)).thenReturn(false);
 
-        assertThatThrownBy(() -> profilService.getDriverTrips(profilId))
+        assertThatThrownBy(() -> profilService.getDriverTrips(profilId, null, 20))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Profil non trouvé");
     }
@@ -365,24 +340,17 @@ class ProfilServiceImplTest {
     // Réf: ProfilServiceImpl.java → getPassengerTrips()
     // ============================================================
     @Test
-    void getPassengerTrips_ShouldReturnRouteResponses() {
-        Route route = new Route();
-        route.setId(1);
-        Location paris = new Location();
-        Location lyon = new Location();
-        RouteResponse response = new RouteResponse();
-
-        UserRoute ur = new UserRoute();
-        ur.setRoute(route);
+    void getPassengerTrips_ShouldReturnPageFromRouteService() {
+        RouteCursor after = new RouteCursor(LocalDate.now(), LocalTime.of(8, 0), 5);
+        CursorPageResponse<RouteResponse> page = new CursorPageResponse<>(List.of(new RouteResponse()), "next");
 
         when(profilRepository.existsById(1)).thenReturn(true);
-        when(userRouteRepository.findByPassengerId(1)).thenReturn(List.of(ur));
-        when(routeService.getLocationsForRoute(1)).thenReturn(Map.of("starting", paris, "arrival", lyon));
-        when(entityMapper.toRouteResponse(route, paris, lyon)).thenReturn(response);
+        when(routeService.getPassengerTrips(1, after, 10)).thenReturn(page);
 
-        List<RouteResponse> results = profilService.getPassengerTrips(1);
+        CursorPageResponse<RouteResponse> results = profilService.getPassengerTrips(1, after, 10);
 
-        assertThat(results).hasSize(1);
+        assertThat(results.getContent()).hasSize(1);
+        assertThat(results.getNext()).isEqualTo("next");
     }
 
     @Test
@@ -390,7 +358,7 @@ class ProfilServiceImplTest {
         Integer profilId = 999;
         when(profilRepository.existsById(profilId)).thenReturn(false);
 
-        assertThatThrownBy(() -> profilService.getPassengerTrips(profilId))
+        assertThatThrownBy(() -> profilService.getPassengerTrips(profilId, null, 20))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Profil non trouvé");
     }
@@ -0,0 +1,208 @@
+package fr.cda.covoit_api.service;
+
+import fr.cda.covoit_api.domain.entity.RefreshToken;
+import fr.cda.covoit_api.exception.BusinessException;
+import fr.cda.covoit_api.repository.RefreshTokenRepository;
+import fr.cda.covoit_api.repository.UserRepository;
+import fr.cda.covoit_api.security.AuthenticatedUser;
+import fr.cda.covoit_api.service.impl.RefreshTokenServiceImpl;
+import fr.cda.covoit_api.service.interfaces.IRefreshTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceImplTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private UserRepository userRepository;
+
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    private AuthenticatedUser user;
+
+    /** Dernière ligne enregistrée par {@link #issue()}. */
+    private RefreshToken current;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenServiceImpl(refreshTokenRepository, userRepository, 14);
+        user = new AuthenticatedUser(10, 1, "user@test.com", "hashed", "USER", "ACTIVE", 0);
+    }
+
+    // Émet un jeton ; la ligne enregistrée est celle que relira lockByTokenHash
+    private String issue() {
+        String token = refreshTokenService.issue(user);
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository, atLeastOnce()).save(saved.capture());
+        current = saved.getValue();
+        lenient().when(refreshTokenRepository.lockByTokenHash(current.getTokenHash())).thenReturn(Optional.of(current));
+        return token;
+    }
+
+    // ============================================================
+    // issue - Émission
+    // Réf: RefreshTokenServiceImpl.java → issue()
+    // ============================================================
+    @Test
+    void issue_ShouldStoreOnlyTheHashOfARandomToken() {
+        // WHEN
+        String token = issue();
+
+        // THEN
+        assertThat(token).hasSize(43);
+        assertThat(current.getTokenHash()).hasSize(64).isNotEqualTo(token);
+        assertThat(current.getAccountId()).isEqualTo(10);
+        assertThat(current.getTokenVersion()).isZero();
+        assertThat(current.getFamilyId()).isNotNull();
+        assertThat(current.getExpiresAt()).isEqualTo(current.getCreatedAt().plusDays(14));
+        assertThat(refreshTokenService.issue(user)).isNotEqualTo(token);
+    }
+
+    // ============================================================
+    // rotate - Échange réussi
+    // Réf: RefreshTokenServiceImpl.java → rotate()
+    // ============================================================
+    @Test
+    void rotate_ShouldConsumeTokenAndIssueSuccessorInSameFamily() {
+        // GIVEN
+        String token = issue();
+        AuthenticatedUser reloaded = new AuthenticatedUser(10, 1, "user@test.com", "hashed", "ADMIN", "ACTIVE", 0);
+        when(userRepository.findPrincipalById(10)).thenReturn(Optional.of(reloaded));
+
+        // WHEN
+        IRefreshTokenService.Rotation rotation = refreshTokenService.rotate(token);
+
+        // THEN
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository, times(2)).save(saved.capture());
+        List<RefreshToken> rows = saved.getAllValues();
+        assertThat(current.getUsedAt()).isNotNull();
+        assertThat(rotation.user()).isSameAs(reloaded);
+        assertThat(rotation.refreshToken()).isNotEqualTo(token);
+        assertThat(rows.get(1).getFamilyId()).isEqualTo(current.getFamilyId());
+        assertThat(rows.get(1).getUsedAt()).isNull();
+        verify(refreshTokenRepository, never()).revokeFamily(any(), any());
+    }
+
+    // ============================================================
+    // rotate - Jeton rejoué → famille révoquée
+    // Réf: RefreshTokenServiceImpl.java → rotate() "réutilisé"
+    // ============================================================
+    @Test
+    void rotate_ShouldRevokeFamily_WhenTokenIsReused() {
+        // GIVEN
+        String token = issue();
+        when(userRepository.findPrincipalById(10)).thenReturn(Optional.of(user));
+        refreshTokenService.rotate(token);
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> refreshTokenService.rotate(token))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED));
+        verify(refreshTokenRepository).revokeFamily(eq(current.getFamilyId()), any(LocalDateTime.class));
+        verify(userRepository, times(1)).findPrincipalById(10);
+    }
+
+    @Test
+    void rotate_ShouldRejectRevokedToken() {
+        // GIVEN
+        String token = issue();
+        current.setRevokedAt(LocalDateTime.now());
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> refreshTokenService.rotate(token))
+                .isInstanceOf(BusinessException.class);
+        verify(refreshTokenRepository).revokeFamily(eq(current.getFamilyId()), any(LocalDateTime.class));
+        verifyNoInteractions(userRepository);
+    }
+
+    // ============================================================
+    // rotate - Jeton inconnu ou expiré
+    // Réf: RefreshTokenServiceImpl.java → rotate()
+    // ============================================================
+    @Test
+    void rotate_ShouldReject_WhenTokenIsUnknown() {
+        // GIVEN
+        when(refreshTokenRepository.lockByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> refreshTokenService.rotate("unknown"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("invalide");
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void rotate_ShouldReject_WhenTokenIsExpired() {
+        // GIVEN
+        String token = issue();
+        current.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> refreshTokenService.rotate(token))
+                .isInstanceOf(BusinessException.class);
+        assertThat(current.getUsedAt()).isNull();
+        verifyNoInteractions(userRepository);
+    }
+
+    // ============================================================
+    // rotate - Mot de passe, statut ou rôle changés depuis l'émission
+    // Réf: RefreshTokenServiceImpl.java → rotate() version des jetons
+    // ============================================================
+    @Test
+    void rotate_ShouldRevokeFamily_WhenTokenVersionChanged() {
+        // GIVEN
+        String token = issue();
+        when(userRepository.findPrincipalById(10))
+                .thenReturn(Optional.of(new AuthenticatedUser(10, 1, "user@test.com", "new-hash", "USER", "ACTIVE", 1)));
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> refreshTokenService.rotate(token))
+                .isInstanceOf(BusinessException.class);
+        verify(refreshTokenRepository).revokeFamily(eq(current.getFamilyId()), any(LocalDateTime.class));
+        assertThat(current.getUsedAt()).isNull();
+    }
+
+    @Test
+    void rotate_ShouldReject_WhenAccountIsBanned() {
+        // GIVEN
+        String token = issue();
+        when(userRepository.findPrincipalById(10))
+                .thenReturn(Optional.of(new AuthenticatedUser(10, 1, "user@test.com", "hashed", "USER", "BANNED", 0)));
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> refreshTokenService.rotate(token))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    // ============================================================
+    // purgeExpired
+    // Réf: RefreshTokenServiceImpl.java → purgeExpired()
+    // ============================================================
+    @Test
+    void purgeExpired_ShouldDeleteExpiredTokens() {
+        // GIVEN
+        when(refreshTokenRepository.deleteExpired(any(LocalDateTime.class))).thenReturn(3);
+
+        // WHEN & THEN
+        assertThat(refreshTokenService.purgeExpired()).isEqualTo(3);
+    }
+}
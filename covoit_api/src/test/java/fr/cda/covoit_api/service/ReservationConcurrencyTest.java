@@ -0,0 +1,147 @@
+package fr.cda.covoit_api.service;
+
+import fr.cda.covoit_api.AbstractIntegrationTest;
+import fr.cda.covoit_api.domain.entity.*;
+import fr.cda.covoit_api.exception.BusinessException;
+import fr.cda.covoit_api.repository.RouteRepository;
+import fr.cda.covoit_api.repository.UserRouteRepository;
+import fr.cda.covoit_api.service.interfaces.IReservationService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Réservations concurrentes sur un même trajet, contre une vraie base PostgreSQL :
+ * le nombre de réservations acceptées ne doit jamais dépasser le nombre de places.
+ */
+@SpringBootTest
+class ReservationConcurrencyTest extends AbstractIntegrationTest {
+
+    private static final int PLACES = 5;
+    private static final int PASSENGERS = 40;
+
+    @Autowired
+    private IReservationService reservationService;
+
+    @Autowired
+    private RouteRepository routeRepository;
+
+    @Autowired
+    private UserRouteRepository userRouteRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Integer routeId;
+    private final List<Integer> passengerIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Données commitées : chaque thread de réservation ouvre sa propre transaction
+        String run = Long.toString(System.nanoTime());
+        routeId = transactionTemplate.execute(tx -> {
+            Status status = new Status();
+            status.setLabel("active-" + run);
+            entityManager.persist(status);
+
+            Role role = new Role();
+            role.setLabel("ROLE_USER-" + run);
+            entityManager.persist(role);
+
+            Icon icon = new Icon();
+            icon.setLabel("icon-" + run);
+            entityManager.persist(icon);
+
+            Profil driver = persistProfil("driver-" + run + "@test.com", status, role);
+
+            Route route = new Route();
+            route.setPlace((short) PLACES);
+            route.setDate(LocalDate.now().plusDays(1));
+            route.setHour(LocalTime.of(8, 0));
+            route.setDistance(465);
+            route.setIcon(icon);
+            route.setDriver(driver);
+            entityManager.persist(route);
+
+            for (int i = 0; i < PASSENGERS; i++) {
+                String email = "passenger-" + i + "-" + run + "@test.com";
+                passengerIds.add(persistProfil(email, status, role).getId());
+            }
+            return route.getId();
+        });
+    }
+
+    // ============================================================
+    // TEST 1 : Réservations simultanées → aucune survente
+    // Réf: ReservationServiceImpl.java → reservePlace() / RouteRepository.decrementPlaceIfAvailable()
+    // ============================================================
+    @Test
+    void reservePlace_ConcurrentPassengers_ShouldNeverOverbook() throws Exception {
+        // GIVEN
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger confirmed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (Integer passengerId : passengerIds) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    reservationService.reservePlace(routeId, passengerId);
+                    confirmed.incrementAndGet();
+                } catch (BusinessException e) {
+                    assertThat(e.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        // WHEN
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // THEN
+        assertThat(confirmed.get()).isEqualTo(PLACES);
+        assertThat(rejected.get()).isEqualTo(PASSENGERS - PLACES);
+        assertThat(routeRepository.findById(routeId).orElseThrow().getPlace()).isZero();
+        assertThat(userRouteRepository.countByRouteIdAndStatusNot(routeId, "cancelled")).isEqualTo(PLACES);
+    }
+
+    private Profil persistProfil(String email, Status status, Role role) {
+        User account = new User();
+        account.setEmail(email);
+        account.setPassword("hashed_password");
+        account.setStatus(status);
+        account.setRole(role);
+        entityManager.persist(account);
+
+        Profil profil = new Profil();
+        profil.setFirstname("Prenom");
+        profil.setLastname("Nom");
+        profil.setPhone("0612345678");
+        profil.setUser(account);
+        entityManager.persist(profil);
+        return profil;
+    }
+}
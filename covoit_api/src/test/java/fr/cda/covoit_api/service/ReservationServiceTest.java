@@ -1,13 +1,14 @@
 package fr.cda.covoit_api.service;
 
 import fr.cda.covoit_api.domain.entity.*;
+import fr.cda.covoit_api.dto.response.ReservationResponse;
 import fr.cda.covoit_api.exception.BusinessException;
 import fr.cda.covoit_api.mapper.EntityMapper;
 import fr.cda.covoit_api.repository.ProfilRepository;
 import fr.cda.covoit_api.repository.RouteRepository;
 import fr.cda.covoit_api.repository.UserRouteRepository;
 import fr.cda.covoit_api.service.impl.ReservationServiceImpl;
-import fr.cda.covoit_api.service.interfaces.IEmailService;
+import fr.cda.covoit_api.service.interfaces.INotificationService;
 import fr.cda.covoit_api.service.interfaces.IRouteService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,9 +18,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -34,7 +39,7 @@ class ReservationServiceTest {
     @Mock
     private ProfilRepository profilRepository;
     @Mock
-    private IEmailService emailService;
+    private INotificationService notificationService;
     @Mock
     private IRouteService routeService;
     @Mock
@@ -88,14 +93,39 @@ class ReservationServiceTest {
     void reservePlace_ShouldThrowException_WhenRouteIsFull() {
         // GIVEN
         when(routeRepository.findById(1)).thenReturn(Optional.of(route));
-        when(profilRepository.findByUserEmail("passenger@test.com")).thenReturn(Optional.of(passenger));
+        when(profilRepository.findById(2)).thenReturn(Optional.of(passenger));
         when(userRouteRepository.findById(any(UserRouteId.class))).thenReturn(Optional.empty());
-        when(userRouteRepository.countByRouteIdAndStatusNot(1, "cancelled")).thenReturn(2L);
+        when(routeRepository.decrementPlaceIfAvailable(1)).thenReturn(0);
 
         // WHEN & THEN
-        assertThatThrownBy(() -> reservationService.reservePlace(1, "passenger@test.com"))
+        assertThatThrownBy(() -> reservationService.reservePlace(1, 2))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Plus de places disponibles");
+        verify(userRouteRepository, never()).save(any());
+    }
+
+    // ============================================================
+    // TEST 1 bis : Place disponible → décrémentation atomique, entité route non réécrite
+    // Réf: ReservationServiceImpl.java → reservePlace()
+    // ============================================================
+    @Test
+    void reservePlace_ShouldTakePlaceWithConditionalUpdate() {
+        // GIVEN
+        when(routeRepository.findById(1)).thenReturn(Optional.of(route));
+        when(profilRepository.findById(2)).thenReturn(Optional.of(passenger));
+        when(userRouteRepository.findById(any(UserRouteId.class))).thenReturn(Optional.empty());
+        when(routeRepository.decrementPlaceIfAvailable(1)).thenReturn(1);
+        when(userRouteRepository.save(any(UserRoute.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(routeService.getLocationsForRoute(1)).thenReturn(Map.of());
+
+        // WHEN
+        reservationService.reservePlace(1, 2);
+
+        // THEN
+        verify(routeRepository).decrementPlaceIfAvailable(1);
+        verify(routeRepository, never()).save(any());
+        verify(notificationService).notify(eq(driverAccount), eq("TRIP_CONFIRMED"), anyString(), anyString());
+        assertThat(route.getPlace()).isEqualTo((short) 2);
     }
 
     // ============================================================
@@ -108,7 +138,7 @@ class ReservationServiceTest {
         when(routeRepository.findById(999)).thenReturn(Optional.empty());
 
         // WHEN & THEN
-        assertThatThrownBy(() -> reservationService.reservePlace(999, "passenger@test.com"))
+        assertThatThrownBy(() -> reservationService.reservePlace(999, 2))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Trajet non trouvé");
     }
@@ -121,12 +151,12 @@ class ReservationServiceTest {
     void reservePlace_ShouldThrowException_WhenDriverReservesOwnRoute() {
         // GIVEN
         when(routeRepository.findById(1)).thenReturn(Optional.of(route));
-        when(profilRepository.findByUserEmail("driver@test.com")).thenReturn(Optional.of(driver));
 
-        // WHEN & THEN
-        assertThatThrownBy(() -> reservationService.reservePlace(1, "driver@test.com"))
+        // WHEN & THEN : comparaison d'identifiants, le profil n'est pas chargé
+        assertThatThrownBy(() -> reservationService.reservePlace(1, driver.getId()))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("conducteur ne peut pas réserver son propre trajet");
+        verifyNoInteractions(profilRepository);
     }
 
     // ============================================================
@@ -140,11 +170,11 @@ class ReservationServiceTest {
         existingReservation.setStatus("confirmed");
 
         when(routeRepository.findById(1)).thenReturn(Optional.of(route));
-        when(profilRepository.findByUserEmail("passenger@test.com")).thenReturn(Optional.of(passenger));
+        when(profilRepository.findById(2)).thenReturn(Optional.of(passenger));
         when(userRouteRepository.findById(any(UserRouteId.class))).thenReturn(Optional.of(existingReservation));
 
         // WHEN & THEN
-        assertThatThrownBy(() -> reservationService.reservePlace(1, "passenger@test.com"))
+        assertThatThrownBy(() -> reservationService.reservePlace(1, 2))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("déjà réservé");
     }
@@ -160,12 +190,78 @@ class ReservationServiceTest {
         cancelledReservation.setStatus("cancelled");
         cancelledReservation.setRoute(route);
 
-        when(profilRepository.findByUserEmail("passenger@test.com")).thenReturn(Optional.of(passenger));
         when(userRouteRepository.findById(any(UserRouteId.class))).thenReturn(Optional.of(cancelledReservation));
 
         // WHEN & THEN
-        assertThatThrownBy(() -> reservationService.cancelReservation(1, "passenger@test.com"))
+        assertThatThrownBy(() -> reservationService.cancelReservation(1, 2))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("déjà annulée");
     }
-}
\ No newline at end of file
+
+    // ============================================================
+    // TEST 6 : Annulation → statut et place mis à jour par UPDATE conditionnel
+    // Réf: ReservationServiceImpl.java → cancelReservation()
+    // ============================================================
+    @Test
+    void cancelReservation_ShouldReleasePlaceOnce() {
+        // GIVEN
+        UserRoute reservation = new UserRoute();
+        reservation.setStatus("confirmed");
+        reservation.setRoute(route);
+        reservation.setPassenger(passenger);
+
+        when(userRouteRepository.findById(any(UserRouteId.class))).thenReturn(Optional.of(reservation));
+        when(userRouteRepository.cancelIfActive(any(UserRouteId.class))).thenReturn(1);
+
+        // WHEN
+        reservationService.cancelReservation(1, 2);
+
+        // THEN
+        verify(routeRepository).incrementPlace(1);
+        verify(routeRepository, never()).save(any());
+        verify(notificationService).notify(eq(driverAccount), eq("TRIP_CANCELLED"), anyString(), anyString());
+    }
+
+    // ============================================================
+    // TEST 7 : Annulation concurrente déjà passée → pas de place rendue deux fois
+    // Réf: ReservationServiceImpl.java → cancelReservation()
+    // ============================================================
+    @Test
+    void cancelReservation_ShouldThrowException_WhenCancelledConcurrently() {
+        // GIVEN
+        UserRoute reservation = new UserRoute();
+        reservation.setStatus("confirmed");
+        reservation.setRoute(route);
+        reservation.setPassenger(passenger);
+
+        when(userRouteRepository.findById(any(UserRouteId.class))).thenReturn(Optional.of(reservation));
+        when(userRouteRepository.cancelIfActive(any(UserRouteId.class))).thenReturn(0);
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> reservationService.cancelReservation(1, 2))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("déjà annulée");
+        verify(routeRepository, never()).incrementPlace(any());
+    }
+
+    // ============================================================
+    // TEST 8 : Mes réservations → projection en une requête, sans chargement des trajets
+    // Réf: ReservationServiceImpl.java → getPassengerReservations()
+    // ============================================================
+    @Test
+    void getPassengerReservations_ShouldReturnProjectedRows() {
+        // GIVEN
+        ReservationResponse row = new ReservationResponse(1, "confirmed", LocalDateTime.now(), "Paris", "Lyon",
+                route.getDate(), route.getHour(), "Jean", "Dupont");
+        when(userRouteRepository.findReservationsByPassengerId(2)).thenReturn(List.of(row));
+
+        // WHEN
+        List<ReservationResponse> result = reservationService.getPassengerReservations(2);
+
+        // THEN
+        assertThat(result).containsExactly(row);
+        assertThat(row.getTripDate()).isEqualTo(route.getDate() + " 08:00");
+        assertThat(row.getDriverName()).isEqualTo("Jean Dupont");
+        verifyNoInteractions(profilRepository, routeService, entityMapper);
+    }
+}
@@ -1,12 +1,17 @@
 package fr.cda.covoit_api.service;
 
 import fr.cda.covoit_api.domain.entity.*;
+import fr.cda.covoit_api.domain.geo.GeoCircle;
+import fr.cda.covoit_api.domain.search.RouteSearchCriteria;
+import fr.cda.covoit_api.dto.request.RouteCursor;
 import fr.cda.covoit_api.dto.request.RouteRequest;
+import fr.cda.covoit_api.dto.response.CursorPageResponse;
 import fr.cda.covoit_api.dto.response.RouteResponse;
 import fr.cda.covoit_api.exception.BusinessException;
 import fr.cda.covoit_api.mapper.EntityMapper;
 import fr.cda.covoit_api.repository.*;
 import fr.cda.covoit_api.service.impl.RouteServiceImpl;
+import fr.cda.covoit_api.service.interfaces.ICatalogService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,7 +41,7 @@ class RouteServiceImplTest {
     @Mock
     private ProfilRepository profilRepository;
     @Mock
-    private IconRepository iconRepository;
+    private ICatalogService catalogService;
     @Mock
     private EntityMapper entityMapper;
     @Mock
@@ -107,7 +112,7 @@ class RouteServiceImplTest {
         newRoute.setDistance(465);
         newRoute.setIcon(icon);
 
-        when(profilRepository.findByUserEmail("driver@test.com")).thenReturn(Optional.of(driver));
+        when(profilRepository.findById(1)).thenReturn(Optional.of(driver));
         when(locationRepository.save(paris)).thenReturn(paris);
         when(locationRepository.save(lyon)).thenReturn(lyon);
         when(routeRepository.save(any(Route.class))).thenAnswer(invocation -> {
@@ -118,12 +123,14 @@ class RouteServiceImplTest {
         when(routeLocationRepository.save(any(RouteLocation.class))).thenAnswer(i -> i.getArgument(0));
 
         // WHEN
-        Route result = routeService.createRoute(newRoute, paris, lyon, "driver@test.com");
+        Route result = routeService.createRoute(newRoute, paris, lyon, 1);
 
         // THEN
         assertThat(result).isNotNull();
         assertThat(result.getDriver()).isEqualTo(driver);
-        verify(profilRepository).findByUserEmail("driver@test.com");
+        assertThat(result.getDeparture().getCityKey()).isEqualTo("paris");
+        assertThat(result.getArrival().getCityKey()).isEqualTo("lyon");
+        verify(profilRepository).findById(1);
         verify(locationRepository, times(2)).save(any(Location.class));
         verify(routeRepository).save(any(Route.class));
         verify(routeLocationRepository, times(2)).save(any(RouteLocation.class));
@@ -132,30 +139,50 @@ class RouteServiceImplTest {
     @Test
     void createRoute_ShouldThrowException_WhenProfilNotFound() {
         // GIVEN
-        when(profilRepository.findByUserEmail("unknown@test.com")).thenReturn(Optional.empty());
+        when(profilRepository.findById(99)).thenReturn(Optional.empty());
 
         // WHEN & THEN
-        assertThatThrownBy(() -> routeService.createRoute(new Route(), paris, lyon, "unknown@test.com"))
+        assertThatThrownBy(() -> routeService.createRoute(new Route(), paris, lyon, 99))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Profil introuvable");
     }
 
     // ============================================================
-    // searchRoutes
-    // Réf: RouteServiceImpl.java → searchRoutes()
+    // getDriverTrips / getPassengerTrips
+    // Réf: RouteServiceImpl.java → getDriverTrips(), getPassengerTrips()
     // ============================================================
     @Test
-    void searchRoutes_ShouldReturnMatchingRoutes() {
+    void getDriverTrips_ShouldLoadPageInTwoQueries() {
         // GIVEN
-        when(routeRepository.findBySearchCriteria("Paris", "Lyon", LocalDate.now()))
-                .thenReturn(List.of(route));
+        RouteResponse mockResponse = new RouteResponse();
+        when(routeRepository.findKeysByDriver(1, null, 21)).thenReturn(List.of(key(1)));
+        when(routeLocationRepository.findWithRouteDetailsByRouteIdIn(List.of(1)))
+                .thenReturn(List.of(
+                        new RouteLocation(new RouteLocationId(1, 1), route, paris, "starting"),
+                        new RouteLocation(new RouteLocationId(1, 2), route, lyon, "arrival")));
+        when(entityMapper.toRouteResponse(route, paris, lyon)).thenReturn(mockResponse);
 
         // WHEN
-        List<Route> results = routeService.searchRoutes("Paris", "Lyon", LocalDate.now());
+        CursorPageResponse<RouteResponse> results = routeService.getDriverTrips(1, null, 20);
+
+        // THEN : identifiants de la page puis chargement ensembliste, sans requête par trajet
+        assertThat(results.getContent()).containsExactly(mockResponse);
+        assertThat(results.getNext()).isNull();
+        verify(routeLocationRepository, never()).findByIdRouteId(anyInt());
+    }
+
+    @Test
+    void getPassengerTrips_ShouldReturnEmptyPage_WhenNoReservation() {
+        // GIVEN
+        when(routeRepository.findKeysByPassenger(2, null, 21)).thenReturn(List.of());
+
+        // WHEN
+        CursorPageResponse<RouteResponse> results = routeService.getPassengerTrips(2, null, 20);
 
         // THEN
-        assertThat(results).hasSize(1);
-        assertThat(results.get(0).getId()).isEqualTo(1);
+        assertThat(results.getContent()).isEmpty();
+        assertThat(results.getNext()).isNull();
+        verifyNoInteractions(routeLocationRepository);
     }
 
     // ============================================================
@@ -173,19 +200,104 @@ class RouteServiceImplTest {
                 new RouteLocationId(1, 2), route, lyon, "arrival"
         );
 
-        when(routeRepository.findBySearchCriteria("Paris", "Lyon", null))
-                .thenReturn(List.of(route));
-        when(routeLocationRepository.findByIdRouteId(1))
+        when(routeRepository.findKeysByCriteria(RouteSearchCriteria.byCity("Paris", "Lyon", null), null, 21))
+                .thenReturn(List.of(key(1)));
+        when(routeLocationRepository.findWithRouteDetailsByRouteIdIn(List.of(1)))
                 .thenReturn(List.of(rlStart, rlEnd));
         when(entityMapper.toRouteResponse(route, paris, lyon))
                 .thenReturn(mockResponse);
 
         // WHEN
-        List<RouteResponse> results = routeService.searchRoutesWithDetails("Paris", "Lyon", null);
+        CursorPageResponse<RouteResponse> results = routeService.searchRoutesWithDetails("Paris", "Lyon", null, null, 20);
 
-        // THEN
-        assertThat(results).hasSize(1);
+        // THEN : aucune requête par trajet, et pas de page suivante
+        assertThat(results.getContent()).hasSize(1);
+        assertThat(results.getNext()).isNull();
         verify(entityMapper).toRouteResponse(route, paris, lyon);
+        verify(routeLocationRepository, never()).findByIdRouteId(anyInt());
+    }
+
+    @Test
+    void searchRoutesWithDetails_ShouldReturnNextCursor_WhenMoreResults() {
+        // GIVEN : 2 trajets trouvés pour une page de taille 1
+        RouteResponse mockResponse = new RouteResponse();
+        mockResponse.setId(1);
+        mockResponse.setDate(route.getDate());
+        mockResponse.setHour(route.getHour());
+        RouteCursor after = new RouteCursor(LocalDate.now(), LocalTime.of(7, 0), 9);
+
+        when(routeRepository.findKeysByCriteria(RouteSearchCriteria.byCity(null, null, null), after, 2))
+                .thenReturn(List.of(key(1), key(2)));
+        when(routeLocationRepository.findWithRouteDetailsByRouteIdIn(List.of(1)))
+                .thenReturn(List.of(
+                        new RouteLocation(new RouteLocationId(1, 1), route, paris, "starting"),
+                        new RouteLocation(new RouteLocationId(1, 2), route, lyon, "arrival")));
+        when(entityMapper.toRouteResponse(route, paris, lyon)).thenReturn(mockResponse);
+
+        // WHEN
+        CursorPageResponse<RouteResponse> results = routeService.searchRoutesWithDetails(null, null, null, after, 1);
+
+        // THEN : le curseur désigne le dernier trajet de la page
+        assertThat(results.getContent()).containsExactly(mockResponse);
+        assertThat(RouteCursor.decode(results.getNext()))
+                .isEqualTo(new RouteCursor(route.getDate(), route.getHour(), 1));
+    }
+
+    @Test
+    void searchRoutesWithDetails_ShouldReturnNextCursor_WhenPageRoutesCouldNotBeLoaded() {
+        // GIVEN : page suivante annoncée, mais le seul trajet de la page a disparu avant le chargement
+        when(routeRepository.findKeysByCriteria(RouteSearchCriteria.byCity(null, null, null), null, 2))
+                .thenReturn(List.of(key(1), key(2)));
+        when(routeLocationRepository.findWithRouteDetailsByRouteIdIn(List.of(1))).thenReturn(List.of());
+
+        // WHEN
+        CursorPageResponse<RouteResponse> results = routeService.searchRoutesWithDetails(null, null, null, null, 1);
+
+        // THEN : le curseur part de la dernière clé lue, la pagination ne s'arrête pas
+        assertThat(results.getContent()).isEmpty();
+        assertThat(RouteCursor.decode(results.getNext())).isEqualTo(key(1));
+    }
+
+    @Test
+    void searchRoutesWithDetails_ShouldSkipDetailsQuery_WhenNoMatch() {
+        // GIVEN
+        when(routeRepository.findKeysByCriteria(RouteSearchCriteria.byCity("Paris", "Lyon", null), null, 21))
+                .thenReturn(List.of());
+
+        // WHEN
+        CursorPageResponse<RouteResponse> results = routeService.searchRoutesWithDetails("Paris", "Lyon", null, null, 20);
+
+        // THEN
+        assertThat(results.getContent()).isEmpty();
+        assertThat(results.getNext()).isNull();
+        verifyNoInteractions(routeLocationRepository);
+    }
+
+    // ============================================================
+    // searchRoutesNearby
+    // Réf: RouteServiceImpl.java → searchRoutesNearby()
+    // ============================================================
+    @Test
+    void searchRoutesNearby_ShouldReturnRouteResponses() {
+        // GIVEN
+        GeoCircle departure = new GeoCircle(48.8566, 2.3522, 10);
+        GeoCircle arrival = new GeoCircle(45.7578, 4.8320, 10);
+        RouteResponse mockResponse = new RouteResponse();
+
+        when(routeRepository.findKeysByCriteria(RouteSearchCriteria.byProximity(departure, arrival, null), null, 21))
+                .thenReturn(List.of(key(1)));
+        when(routeLocationRepository.findWithRouteDetailsByRouteIdIn(List.of(1)))
+                .thenReturn(List.of(
+                        new RouteLocation(new RouteLocationId(1, 1), route, paris, "starting"),
+                        new RouteLocation(new RouteLocationId(1, 2), route, lyon, "arrival")));
+        when(entityMapper.toRouteResponse(route, paris, lyon)).thenReturn(mockResponse);
+
+        // WHEN
+        CursorPageResponse<RouteResponse> results = routeService.searchRoutesNearby(departure, arrival, null, null, 20);
+
+        // THEN
+        assertThat(results.getContent()).containsExactly(mockResponse);
+        assertThat(results.getNext()).isNull();
     }
 
     // ============================================================
@@ -250,7 +362,7 @@ class RouteServiceImplTest {
         when(routeRepository.findById(1)).thenReturn(Optional.of(route));
 
         // WHEN
-        routeService.deleteRoute(1, "driver@test.com");
+        routeService.deleteRoute(1, 1);
 
         // THEN
         verify(routeRepository).deleteById(1);
@@ -262,7 +374,7 @@ class RouteServiceImplTest {
         when(routeRepository.findById(1)).thenReturn(Optional.of(route));
 
         // WHEN & THEN
-        assertThatThrownBy(() -> routeService.deleteRoute(1, "other@test.com"))
+        assertThatThrownBy(() -> routeService.deleteRoute(1, 2))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("pas le conducteur");
     }
@@ -273,7 +385,7 @@ class RouteServiceImplTest {
         when(routeRepository.findById(999)).thenReturn(Optional.empty());
 
         // WHEN & THEN
-        assertThatThrownBy(() -> routeService.deleteRoute(999, "driver@test.com"))
+        assertThatThrownBy(() -> routeService.deleteRoute(999, 1))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Trajet introuvable");
     }
@@ -290,7 +402,7 @@ class RouteServiceImplTest {
         when(routeRepository.save(route)).thenReturn(route);
 
         // WHEN
-        Route result = routeService.updateRouteSeats(1, (short) 4, "driver@test.com");
+        Route result = routeService.updateRouteSeats(1, (short) 4, 1);
 
         // THEN
         assertThat(result.getPlace()).isEqualTo((short) 4);
@@ -303,7 +415,7 @@ class RouteServiceImplTest {
         when(routeRepository.findById(1)).thenReturn(Optional.of(route));
 
         // WHEN & THEN
-        assertThatThrownBy(() -> routeService.updateRouteSeats(1, (short) 4, "other@test.com"))
+        assertThatThrownBy(() -> routeService.updateRouteSeats(1, (short) 4, 2))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Seul le conducteur");
     }
@@ -315,7 +427,7 @@ class RouteServiceImplTest {
         when(userRouteRepository.countByRouteIdAndStatusNot(1, "cancelled")).thenReturn(3L);
 
         // WHEN & THEN : on essaie de descendre à 2 places alors qu'il y a 3 réservations
-        assertThatThrownBy(() -> routeService.updateRouteSeats(1, (short) 2, "driver@test.com"))
+        assertThatThrownBy(() -> routeService.updateRouteSeats(1, (short) 2, 1))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("réduire la capacité");
     }
@@ -338,17 +450,21 @@ class RouteServiceImplTest {
 
         when(routeRepository.findById(1)).thenReturn(Optional.of(route));
         when(userRouteRepository.countByRouteIdAndStatusNot(1, "cancelled")).thenReturn(0L);
-        when(iconRepository.findById(2)).thenReturn(Optional.of(icon));
+        when(catalogService.findIcon(2)).thenReturn(Optional.of(icon));
         when(routeLocationRepository.findByIdRouteId(1)).thenReturn(List.of(rlStart, rlEnd));
         when(locationRepository.save(any(Location.class))).thenAnswer(i -> i.getArgument(0));
         when(routeRepository.save(route)).thenReturn(route);
 
         // WHEN
-        Route result = routeService.updateRoute(1, dto, "driver@test.com");
+        Route result = routeService.updateRoute(1, dto, 1);
 
         // THEN
         assertThat(result.getDistance()).isEqualTo(500);
         assertThat(result.getPlace()).isEqualTo((short) 4);
+        // Colonnes de recherche dénormalisées resynchronisées avec les adresses modifiées
+        assertThat(result.getDeparture().getCityName()).isEqualTo(paris.getCityName());
+        assertThat(result.getArrival().getCityName()).isEqualTo(lyon.getCityName());
+        assertThat(result.getArrival().getPostalCode()).isEqualTo(lyon.getPostalCode());
         verify(locationRepository, times(2)).save(any(Location.class));
         verify(routeRepository).save(route);
     }
@@ -360,7 +476,7 @@ class RouteServiceImplTest {
         when(routeRepository.findById(1)).thenReturn(Optional.of(route));
 
         // WHEN & THEN
-        assertThatThrownBy(() -> routeService.updateRoute(1, dto, "other@test.com"))
+        assertThatThrownBy(() -> routeService.updateRoute(1, dto, 2))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Action non autorisée");
     }
@@ -371,10 +487,10 @@ class RouteServiceImplTest {
         RouteRequest dto = buildRouteRequest();
         when(routeRepository.findById(1)).thenReturn(Optional.of(route));
         when(userRouteRepository.countByRouteIdAndStatusNot(1, "cancelled")).thenReturn(0L);
-        when(iconRepository.findById(2)).thenReturn(Optional.empty());
+        when(catalogService.findIcon(2)).thenReturn(Optional.empty());
 
         // WHEN & THEN
-        assertThatThrownBy(() -> routeService.updateRoute(1, dto, "driver@test.com"))
+        assertThatThrownBy(() -> routeService.updateRoute(1, dto, 1))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Icône non trouvée");
     }
@@ -382,6 +498,11 @@ class RouteServiceImplTest {
     // ============================================================
     // Méthode utilitaire pour construire un RouteRequest de test
     // ============================================================
+    // Clé de pagination d'un trajet à la date et à l'heure de route
+    private RouteCursor key(int id) {
+        return new RouteCursor(route.getDate(), route.getHour(), id);
+    }
+
     private RouteRequest buildRouteRequest() {
         RouteRequest dto = new RouteRequest();
         dto.setKms(500);
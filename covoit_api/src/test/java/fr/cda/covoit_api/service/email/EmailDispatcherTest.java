@@ -0,0 +1,183 @@
+package fr.cda.covoit_api.service.email;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pipeline d'envoi contre un faux serveur Brevo local (HttpServer du JDK).
+ */
+class EmailDispatcherTest {
+
+    private HttpServer server;
+    private final Queue<String> receivedBodies = new ConcurrentLinkedQueue<>();
+    private final Queue<Integer> responseStatuses = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EmailDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v3/smtp/email", exchange -> {
+            receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            calls.incrementAndGet();
+            Integer status = responseStatuses.poll();
+            exchange.sendResponseHeaders(status == null ? 201 : status, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+        server.stop(0);
+    }
+
+    private EmailDispatcher dispatcher(int queueCapacity, int batchSize) {
+        String url = "http://localhost:" + server.getAddress().getPort() + "/v3/smtp/email";
+        return new EmailDispatcher(new BrevoEmailClient(url, "test-key"), meterRegistry,
+                queueCapacity, 1, batchSize, 3, 10, false);
+    }
+
+    private void awaitCounter(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter(name).count() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    // ============================================================
+    // TEST 1 : Messages en attente regroupés en un seul appel
+    // Réf: EmailDispatcher.java → drainLoop()
+    // ============================================================
+    @Test
+    void enqueue_ShouldSendPendingMessagesAsOneBatch() throws InterruptedException {
+        // GIVEN : les messages sont déposés avant le démarrage des workers
+        dispatcher = dispatcher(100, 50);
+        for (int i = 0; i < 3; i++) {
+            dispatcher.enqueue(new EmailMessage("user" + i + "@test.com", "Sujet", "Contenu"));
+        }
+        assertThat(meterRegistry.get("covoit.email.queue.size").gauge().value()).isEqualTo(3);
+
+        // WHEN
+        dispatcher.start();
+        awaitCounter("covoit.email.sent", 3);
+
+        // THEN
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(receivedBodies.peek())
+                .contains("messageVersions", "user0@test.com", "user1@test.com", "user2@test.com");
+        assertThat(dispatcher.queueSize()).isZero();
+    }
+
+    // ============================================================
+    // TEST 2 : Erreur transitoire → nouvelle tentative
+    // Réf: EmailDispatcher.java → deliver()
+    // ============================================================
+    @Test
+    void deliver_ShouldRetryOnServerError() throws InterruptedException {
+        // GIVEN
+        responseStatuses.addAll(List.of(503, 500));
+        dispatcher = dispatcher(100, 50);
+        dispatcher.start();
+
+        // WHEN
+        dispatcher.enqueue(new EmailMessage("user@test.com", "Sujet", "Contenu"));
+        awaitCounter("covoit.email.sent", 1);
+
+        // THEN
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("covoit.email.retries").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("covoit.email.failed").count()).isZero();
+    }
+
+    // ============================================================
+    // TEST 3 : Erreur client → lot abandonné sans nouvel essai
+    // Réf: EmailDispatcher.java → isTransient()
+    // ============================================================
+    @Test
+    void deliver_ShouldNotRetryOnClientError() throws InterruptedException {
+        // GIVEN
+        responseStatuses.add(400);
+        dispatcher = dispatcher(100, 50);
+        dispatcher.start();
+
+        // WHEN
+        dispatcher.enqueue(new EmailMessage("user@test.com", "Sujet", "Contenu"));
+        awaitCounter("covoit.email.failed", 1);
+
+        // THEN
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("covoit.email.failed").count()).isEqualTo(1);
+    }
+
+    // ============================================================
+    // TEST 4 : File pleine → message rejeté sans bloquer
+    // Réf: EmailDispatcher.java → enqueue()
+    // ============================================================
+    @Test
+    void enqueue_ShouldRejectWhenQueueIsFull() throws InterruptedException {
+        // GIVEN : file de capacité 1, workers pas encore démarrés
+        dispatcher = dispatcher(1, 50);
+
+        // WHEN
+        boolean first = dispatcher.enqueue(new EmailMessage("a@test.com", "Sujet", "Contenu"));
+        boolean second = dispatcher.enqueue(new EmailMessage("b@test.com", "Sujet", "Contenu"));
+
+        // THEN
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(meterRegistry.counter("covoit.email.rejected").count()).isEqualTo(1);
+
+        dispatcher.start();
+        awaitCounter("covoit.email.sent", 1);
+        assertThat(receivedBodies).hasSize(1);
+        assertThat(receivedBodies.peek()).contains("a@test.com").doesNotContain("b@test.com");
+    }
+
+    // ============================================================
+    // TEST 5 : Mode threads virtuels → les workers sont des threads virtuels
+    // Réf: EmailDispatcher.java → start()
+    // ============================================================
+    @Test
+    void start_ShouldUseVirtualThreads_WhenEnabled() throws InterruptedException {
+        // GIVEN
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        String url = "http://localhost:" + server.getAddress().getPort() + "/v3/smtp/email";
+        BrevoEmailClient client = new BrevoEmailClient(url, "test-key") {
+            @Override
+            public void sendBatch(List<EmailMessage> messages) {
+                worker.set(Thread.currentThread());
+                super.sendBatch(messages);
+            }
+        };
+        dispatcher = new EmailDispatcher(client, meterRegistry, 100, 1, 50, 3, 10, true);
+        dispatcher.start();
+
+        // WHEN
+        dispatcher.enqueue(new EmailMessage("user@test.com", "Sujet", "Contenu"));
+        awaitCounter("covoit.email.sent", 1);
+
+        // THEN
+        assertThat(worker.get().isVirtual()).isTrue();
+        assertThat(worker.get().getName()).startsWith("email-dispatcher-");
+    }
+}
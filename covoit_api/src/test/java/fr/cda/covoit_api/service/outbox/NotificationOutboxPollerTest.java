@@ -0,0 +1,272 @@
+package fr.cda.covoit_api.service.outbox;
+
+import fr.cda.covoit_api.AbstractIntegrationTest;
+import fr.cda.covoit_api.domain.entity.*;
+import fr.cda.covoit_api.repository.NotificationOutboxRepository;
+import fr.cda.covoit_api.repository.UserNotificationRepository;
+import fr.cda.covoit_api.service.interfaces.IEmailService;
+import fr.cda.covoit_api.service.interfaces.INotificationService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Outbox des notifications contre une vraie base PostgreSQL (SKIP LOCKED).
+ * Le poller planifié est espacé pour que les tests pilotent eux-mêmes la distribution.
+ */
+@SpringBootTest(properties = {"covoit.outbox.poll-interval-ms=3600000", "covoit.outbox.max-attempts=2",
+        "covoit.outbox.retry-backoff-ms=0"})
+class NotificationOutboxPollerTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private INotificationService notificationService;
+
+    @Autowired
+    private NotificationOutboxPoller poller;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private UserNotificationRepository userNotificationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private IEmailService emailService;
+
+    private User driverAccount;
+
+    @BeforeEach
+    void setUp() {
+        String run = Long.toString(System.nanoTime());
+        driverAccount = transactionTemplate.execute(tx -> {
+            Status status = new Status();
+            status.setLabel("active-" + run);
+            entityManager.persist(status);
+
+            Role role = new Role();
+            role.setLabel("ROLE_USER-" + run);
+            entityManager.persist(role);
+
+            User account = new User();
+            account.setEmail("driver-" + run + "@test.com");
+            account.setPassword("hashed_password");
+            account.setStatus(status);
+            account.setRole(role);
+            entityManager.persist(account);
+            return account;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            userNotificationRepository.deleteAll();
+            outboxRepository.deleteAll();
+        });
+    }
+
+    private void publish(String content) {
+        transactionTemplate.executeWithoutResult(tx ->
+                notificationService.notify(driverAccount, "TRIP_CONFIRMED", "Nouvelle réservation", content));
+    }
+
+    // ============================================================
+    // TEST 1 : Distribution → boîte de réception + email, événement traité
+    // Réf: NotificationOutboxPoller.java → drainBatch()
+    // ============================================================
+    @Test
+    void drainBatch_ShouldFillInboxAndSendEmails() {
+        // GIVEN
+        publish("Le passager Marie a réservé une place sur votre trajet.");
+        publish("Le passager Paul a réservé une place sur votre trajet.");
+
+        // WHEN
+        int processed = poller.drainBatch();
+
+        // THEN
+        assertThat(processed).isEqualTo(2);
+        assertThat(outboxRepository.countByProcessedAtIsNullAndFailedAtIsNull()).isZero();
+        assertThat(userNotificationRepository.findByUserId(driverAccount.getId())).hasSize(2);
+        verify(emailService, times(2)).sendNow(eq(driverAccount.getEmail()), eq("Nouvelle réservation"), anyString());
+        assertThat(poller.drainBatch()).isZero();
+    }
+
+    // ============================================================
+    // TEST 2 : Même texte pour deux événements, texte long → une notification par événement
+    // Réf: NotificationOutboxPoller.java → deliver()
+    // ============================================================
+    @Test
+    void drainBatch_ShouldCreateOneNotificationPerEvent() {
+        // GIVEN : au-delà de la taille maximale d'une entrée d'index btree (~2,7 Ko)
+        String longContent = "Détail du trajet. ".repeat(500);
+        publish(longContent);
+        publish(longContent);
+
+        // WHEN
+        int processed = poller.drainBatch();
+
+        // THEN
+        assertThat(processed).isEqualTo(2);
+        List<UserNotification> inbox = userNotificationRepository.findByUserId(driverAccount.getId());
+        assertThat(inbox).extracting(entry -> entry.getNotification().getId()).doesNotHaveDuplicates().hasSize(2);
+    }
+
+    // ============================================================
+    // TEST 3 : Événement en échec → seul lui est retenté puis écarté, le reste du lot est distribué
+    // Réf: NotificationOutboxPoller.java → recordFailure()
+    // ============================================================
+    @Test
+    void drainBatch_ShouldIsolateFailingEvent() {
+        // GIVEN : compte supprimé avant la distribution (notification_outbox n'a pas de clé étrangère vers le compte)
+        publish("Avant l'événement en échec");
+        NotificationOutbox orphan = transactionTemplate.execute(tx -> outboxRepository.save(new NotificationOutbox(
+                null, -1, "deleted@test.com", "TRIP_CONFIRMED", "Nouvelle réservation", "Compte supprimé",
+                LocalDateTime.now(), null, 0, null, null, null)));
+        publish("Après l'événement en échec");
+
+        // WHEN
+        int processed = poller.drainBatch();
+
+        // THEN : les deux autres événements sont distribués, l'orphelin reste en attente avec sa cause
+        assertThat(processed).isEqualTo(2);
+        assertThat(userNotificationRepository.findByUserId(driverAccount.getId())).hasSize(2);
+        verify(emailService, times(2)).sendNow(eq(driverAccount.getEmail()), anyString(), anyString());
+        NotificationOutbox retried = outboxRepository.findById(orphan.getId()).orElseThrow();
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getLastError()).isNotBlank();
+        assertThat(retried.getFailedAt()).isNull();
+
+        // WHEN : seconde tentative (max-attempts=2)
+        assertThat(poller.drainBatch()).isZero();
+
+        // THEN : écarté, plus jamais verrouillé ni compté comme en attente
+        NotificationOutbox failed = outboxRepository.findById(orphan.getId()).orElseThrow();
+        assertThat(failed.getAttempts()).isEqualTo(2);
+        assertThat(failed.getFailedAt()).isNotNull();
+        assertThat(outboxRepository.countByProcessedAtIsNullAndFailedAtIsNull()).isZero();
+        assertThat(outboxRepository.findPendingIds(LocalDateTime.now(), 10)).isEmpty();
+        verify(emailService, never()).sendNow(eq("deleted@test.com"), anyString(), anyString());
+    }
+
+    // ============================================================
+    // TEST 4 : Envoi de l'email en échec → événement non traité, boîte de réception annulée, retenté ensuite
+    // Réf: NotificationOutboxPoller.java → deliver()
+    // ============================================================
+    @Test
+    void drainBatch_ShouldKeepEventPending_WhenEmailIsNotSent() {
+        // GIVEN
+        publish("Le passager Marie a réservé une place sur votre trajet.");
+        doThrow(new ResourceAccessException("Brevo injoignable"))
+                .doNothing()
+                .when(emailService).sendNow(anyString(), anyString(), anyString());
+
+        // WHEN
+        int processed = poller.drainBatch();
+
+        // THEN : rien n'est marqué traité tant que l'email n'est pas parti
+        assertThat(processed).isZero();
+        NotificationOutbox pending = outboxRepository.findAll().getFirst();
+        assertThat(pending.getProcessedAt()).isNull();
+        assertThat(pending.getAttempts()).isEqualTo(1);
+        assertThat(pending.getLastError()).contains("Brevo injoignable");
+        assertThat(pending.getNextAttemptAt()).isNotNull();
+        assertThat(userNotificationRepository.findByUserId(driverAccount.getId())).isEmpty();
+
+        // WHEN : nouvelle tentative, Brevo rétabli
+        assertThat(poller.drainBatch()).isEqualTo(1);
+
+        // THEN : distribué une seule fois
+        assertThat(outboxRepository.countByProcessedAtIsNullAndFailedAtIsNull()).isZero();
+        assertThat(userNotificationRepository.findByUserId(driverAccount.getId())).hasSize(1);
+        verify(emailService, times(2)).sendNow(eq(driverAccount.getEmail()), anyString(), anyString());
+    }
+
+    // ============================================================
+    // TEST 5 : Rollback de la transaction métier → aucun événement
+    // Réf: NotificationServiceImpl.java → notify()
+    // ============================================================
+    @Test
+    void notify_ShouldBeDiscardedOnRollback() {
+        // WHEN
+        transactionTemplate.executeWithoutResult(tx -> {
+            notificationService.notify(driverAccount, "TRIP_CONFIRMED", "Nouvelle réservation", "Annulé par rollback");
+            tx.setRollbackOnly();
+        });
+
+        // THEN
+        assertThat(outboxRepository.countByProcessedAtIsNullAndFailedAtIsNull()).isZero();
+    }
+
+    // ============================================================
+    // TEST 6 : Hors transaction → refusé
+    // Réf: NotificationServiceImpl.java → Propagation.MANDATORY
+    // ============================================================
+    @Test
+    void notify_WithoutTransaction_ShouldBeRejected() {
+        assertThatThrownBy(() -> notificationService.notify(driverAccount, "TRIP_CONFIRMED", "Sujet", "Contenu"))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    // ============================================================
+    // TEST 7 : Événement verrouillé par un autre nœud → sauté, les suivants sont distribués (SKIP LOCKED)
+    // Réf: NotificationOutboxRepository.java → lockPending()
+    // ============================================================
+    @Test
+    void drainBatch_ShouldSkipEventLockedByAnotherNode() throws Exception {
+        // GIVEN
+        publish("Premier événement");
+        publish("Second événement");
+        List<Long> ids = outboxRepository.findPendingIds(LocalDateTime.now(), 10);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService otherNode = Executors.newSingleThreadExecutor();
+
+        Future<Boolean> otherLock = otherNode.submit(() -> transactionTemplate.execute(tx -> {
+            boolean found = outboxRepository.lockPending(ids.get(0)).isPresent();
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return found;
+        }));
+
+        try {
+            // WHEN
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+            int processed = poller.drainBatch();
+
+            // THEN : seul le second est distribué, le premier reste en attente sans tentative comptée
+            release.countDown();
+            assertThat(otherLock.get(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(processed).isEqualTo(1);
+            assertThat(outboxRepository.findPendingIds(LocalDateTime.now(), 10)).containsExactly(ids.get(0));
+            assertThat(outboxRepository.findById(ids.get(0)).orElseThrow().getAttempts()).isZero();
+        } finally {
+            release.countDown();
+            otherNode.shutdown();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+-- Schéma produit par spring.jpa.hibernate.ddl-auto=update avant l'introduction de Flyway
+-- (script de création généré tel quel par Hibernate à partir des entités de cette époque).
+-- Sert de point de départ à SchemaMigrationTest : base existante sans historique, marquée en V1 puis migrée.
+
+create table brand (
+    id_brand integer generated by default as identity,
+    label varchar(255) not null unique,
+    primary key (id_brand)
+);
+
+create table historical (
+    id_historical integer generated by default as identity,
+    id_route integer not null,
+    created_at timestamp(6) not null,
+    comment TEXT,
+    primary key (id_historical)
+);
+
+create table icon (
+    id_icon integer generated by default as identity,
+    label varchar(50) not null unique,
+    primary key (id_icon)
+);
+
+create table location (
+    id_location integer generated by default as identity,
+    latitude float(53) not null,
+    longitude float(53) not null,
+    postal_code varchar(10) not null,
+    city_name varchar(100) not null,
+    street_name varchar(255) not null,
+    street_number varchar(255),
+    primary key (id_location)
+);
+
+create table model (
+    id_brand integer not null,
+    id_model integer generated by default as identity,
+    label varchar(255) not null,
+    primary key (id_model)
+);
+
+create table notification (
+    id_notification integer generated by default as identity,
+    id_type_notif integer,
+    contain TEXT not null,
+    primary key (id_notification)
+);
+
+create table role_user (
+    id_role integer generated by default as identity,
+    label varchar(50) not null unique,
+    primary key (id_role)
+);
+
+create table route (
+    date_ date not null,
+    distance integer not null,
+    hour_ time(0) not null,
+    id_icon integer not null,
+    id_profil integer not null,
+    id_route integer generated by default as identity,
+    place smallint not null,
+    primary key (id_route)
+);
+
+create table route_location (
+    id_location integer not null,
+    id_route integer not null,
+    type varchar(255) not null,
+    primary key (id_location, id_route)
+);
+
+create table status (
+    id_status integer generated by default as identity,
+    label varchar(50) not null unique,
+    primary key (id_status)
+);
+
+create table type_notif (
+    id_type_notif integer generated by default as identity,
+    label varchar(255) not null unique,
+    primary key (id_type_notif)
+);
+
+create table user_account (
+    id_account integer generated by default as identity,
+    id_role integer not null,
+    id_status integer not null,
+    reset_password_expires_at date,
+    last_login_at timestamp(6),
+    email varchar(255) not null unique,
+    password varchar(255) not null,
+    reset_password_token varchar(255) unique,
+    token varchar(255) unique,
+    primary key (id_account)
+);
+
+create table user_notification (
+    id_account integer not null,
+    id_notification integer not null,
+    id_user_notification integer generated by default as identity,
+    is_read boolean,
+    created_at timestamp(6),
+    primary key (id_user_notification)
+);
+
+create table user_profil (
+    id_account integer not null unique,
+    id_profil integer generated by default as identity,
+    firstname varchar(255) not null,
+    lastname varchar(255) not null,
+    phone varchar(255) not null,
+    primary key (id_profil)
+);
+
+create table user_route (
+    id_profil integer not null,
+    id_route integer not null,
+    created_at timestamp(6),
+    role_in_route varchar(255) not null,
+    status varchar(255) not null,
+    primary key (id_profil, id_route)
+);
+
+create table vehicule (
+    id_model integer not null,
+    id_profil integer not null unique,
+    id_vehicule integer generated by default as identity,
+    seats smallint not null,
+    additional_info varchar(255),
+    carregistration varchar(255) unique,
+    primary key (id_vehicule)
+);
+
+alter table if exists historical
+   add constraint FKr4wxoyhuxw108wk756j4cydry
+   foreign key (id_route)
+   references route;
+
+alter table if exists model
+   add constraint FKdihu4r5qyrc2dcui706kc9ail
+   foreign key (id_brand)
+   references brand;
+
+alter table if exists notification
+   add constraint FK3wqsdx3dox4mrarir3telf52d
+   foreign key (id_type_notif)
+   references type_notif;
+
+alter table if exists route
+   add constraint FKqc48w9c7ew54fu2xfseal8iqv
+   foreign key (id_profil)
+   references user_profil;
+
+alter table if exists route
+   add constraint FK9v0vix0olu0d45pnwgil682wu
+   foreign key (id_icon)
+   references icon;
+
+alter table if exists route_location
+   add constraint FK1yo8cbmsv1qqpyr2uf73qerjr
+   foreign key (id_location)
+   references location;
+
+alter table if exists route_location
+   add constraint FKmsgv5ojgpdrbm3cur490wi6ta
+   foreign key (id_route)
+   references route;
+
+alter table if exists user_account
+   add constraint FKbjijjv3qlth5r8l5r3h7b8wtd
+   foreign key (id_role)
+   references role_user;
+
+alter table if exists user_account
+   add constraint FKhd2e5y0i6fr4hvsyhlhv64u1n
+   foreign key (id_status)
+   references status;
+
+alter table if exists user_notification
+   add constraint FK9n8wthtu7yy4rsfhtlfw223qo
+   foreign key (id_notification)
+   references notification;
+
+alter table if exists user_notification
+   add constraint FKrpbcrl68pwqha9bmw1df5mv1f
+   foreign key (id_account)
+   references user_account;
+
+alter table if exists user_profil
+   add constraint FK1r2ht2xqk7v3fdybaw1dousxw
+   foreign key (id_account)
+   references user_account;
+
+alter table if exists user_route
+   add constraint FKpykdru7716abshiq2rk84r3mu
+   foreign key (id_profil)
+   references user_profil;
+
+alter table if exists user_route
+   add constraint FK170m1idaxt2rudjk9ylvr8d7d
+   foreign key (id_route)
+   references route;
+
+alter table if exists vehicule
+   add constraint FKnxlausl0myx2khnooaa189pc9
+   foreign key (id_model)
+   references model;
+
+alter table if exists vehicule
+   add constraint FK77lbbwvxxf2ldsisx0gni0kew
+   foreign key (id_profil)
+   references user_profil;